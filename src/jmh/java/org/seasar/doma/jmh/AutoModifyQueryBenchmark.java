@@ -0,0 +1,92 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.query.AutoInsertQuery;
+import org.seasar.doma.jdbc.query.AutoUpdateQuery;
+
+/**
+ * {@link AutoInsertQuery} と {@link AutoUpdateQuery} の準備処理のベンチマークです。
+ * <p>
+ * SQLの実行は含みません。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class AutoModifyQueryBenchmark {
+
+    private BenchmarkConfig config;
+
+    private Method method;
+
+    private Employee employee;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        config = new BenchmarkConfig();
+        method = getClass().getMethod("setup");
+        employee = Employee.of(1);
+        employee.version = 1;
+    }
+
+    @Benchmark
+    public PreparedSql prepareInsert() {
+        AutoInsertQuery<Employee> query = new AutoInsertQuery<>(
+                _Employee.getSingletonInternal());
+        query.setMethod(method);
+        query.setConfig(config);
+        query.setEntity(employee);
+        query.setCallerClassName("AutoModifyQueryBenchmark");
+        query.setCallerMethodName("prepareInsert");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        return query.getSql();
+    }
+
+    @Benchmark
+    public PreparedSql prepareUpdate() {
+        AutoUpdateQuery<Employee> query = new AutoUpdateQuery<>(
+                _Employee.getSingletonInternal());
+        query.setMethod(method);
+        query.setConfig(config);
+        query.setEntity(employee);
+        query.setCallerClassName("AutoModifyQueryBenchmark");
+        query.setCallerMethodName("prepareUpdate");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        return query.getSql();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.command.BatchInsertCommand;
+import org.seasar.doma.jdbc.query.AutoBatchInsertQuery;
+
+/**
+ * {@link BatchInsertCommand} のスループットのベンチマークです。
+ * <p>
+ * 1回の呼び出しで {@value #SIZE} 件のエンティティを挿入します。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BatchInsertCommandBenchmark {
+
+    static final int SIZE = 1000;
+
+    @Param({ "100" })
+    public int batchSize;
+
+    @Param({ "false", "true" })
+    public boolean multiRow;
+
+    private BenchmarkConfig config;
+
+    private Method method;
+
+    private int nextId;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        config = new BenchmarkConfig(batchSize);
+        method = getClass().getMethod("setup");
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() {
+        config.createTable();
+        nextId = 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        config.dropTable();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] insert() {
+        List<Employee> employees = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            employees.add(Employee.of(nextId++));
+        }
+        AutoBatchInsertQuery<Employee> query = new AutoBatchInsertQuery<>(
+                _Employee.getSingletonInternal());
+        query.setMethod(method);
+        query.setConfig(config);
+        query.setEntities(employees);
+        query.setCallerClassName("BatchInsertCommandBenchmark");
+        query.setCallerMethodName("insert");
+        query.setBatchSize(batchSize);
+        query.setMultiRowEnabled(multiRow);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+        return rows;
+    }
+}
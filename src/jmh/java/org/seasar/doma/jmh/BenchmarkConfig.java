@@ -0,0 +1,119 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.logging.Level;
+
+import javax.sql.DataSource;
+
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+import org.seasar.doma.jdbc.dialect.Dialect;
+import org.seasar.doma.jdbc.dialect.H2Dialect;
+import org.seasar.doma.jdbc.tx.LocalTransactionDataSource;
+
+/**
+ * インメモリのH2データベースに接続するベンチマーク用の設定です。
+ * <p>
+ * SQLのログは {@link Level#FINEST} で出力されるため、通常の設定では出力されません。
+ * 
+ * @author nakamura-to
+ */
+public class BenchmarkConfig implements Config {
+
+    protected final LocalTransactionDataSource dataSource;
+
+    protected final Dialect dialect = new H2Dialect();
+
+    protected final JdbcLogger jdbcLogger = new UtilLoggingJdbcLogger(
+            Level.FINEST);
+
+    protected final int batchSize;
+
+    public BenchmarkConfig() {
+        this(100);
+    }
+
+    public BenchmarkConfig(int batchSize) {
+        this.dataSource = new LocalTransactionDataSource(
+                "jdbc:h2:mem:doma-jmh;DB_CLOSE_DELAY=-1", "sa", null);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    @Override
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    @Override
+    public JdbcLogger getJdbcLogger() {
+        return jdbcLogger;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * {@link Employee} に対応するテーブルを空の状態で作成します。
+     */
+    public void createTable() {
+        execute("drop table if exists EMPLOYEE",
+                "create table EMPLOYEE (ID integer primary key, NAME varchar(50), "
+                        + "AGE integer, SALARY decimal(10, 2), HIREDATE date, "
+                        + "DEPARTMENT_ID integer, VERSION integer)");
+    }
+
+    /**
+     * {@link Employee} に対応するテーブルに行を挿入します。
+     * 
+     * @param size
+     *            挿入する行数
+     */
+    public void insertRows(int size) {
+        execute("insert into EMPLOYEE select X, 'employee' || X, 20 + mod(X, 40), "
+                + "1000 + mod(X, 500), date '2000-01-01', mod(X, 10), 1 "
+                + "from system_range(1, " + size + ")");
+    }
+
+    /**
+     * {@link Employee} に対応するテーブルを削除します。
+     */
+    public void dropTable() {
+        execute("drop table if exists EMPLOYEE");
+    }
+
+    protected void execute(String... sqls) {
+        try (Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            for (String sql : sqls) {
+                statement.execute(sql);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.seasar.doma.Entity;
+import org.seasar.doma.Id;
+import org.seasar.doma.Version;
+import org.seasar.doma.jdbc.entity.NamingType;
+
+/**
+ * ベンチマークで使用するエンティティです。
+ * 
+ * @author nakamura-to
+ */
+@Entity(naming = NamingType.SNAKE_UPPER_CASE)
+public class Employee {
+
+    @Id
+    public Integer id;
+
+    public String name;
+
+    public Integer age;
+
+    public BigDecimal salary;
+
+    public LocalDate hiredate;
+
+    public Integer departmentId;
+
+    @Version
+    public Integer version;
+
+    /**
+     * ベンチマーク用のエンティティを作成します。
+     * 
+     * @param id
+     *            識別子
+     * @return エンティティ
+     */
+    public static Employee of(int id) {
+        Employee employee = new Employee();
+        employee.id = id;
+        employee.name = "employee" + id;
+        employee.age = 20 + id % 40;
+        employee.salary = new BigDecimal(1000 + id % 500);
+        employee.hiredate = LocalDate.of(2000 + id % 15, 1 + id % 12,
+                1 + id % 28);
+        employee.departmentId = id % 10;
+        return employee;
+    }
+}
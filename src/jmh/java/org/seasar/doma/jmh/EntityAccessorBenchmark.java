@@ -0,0 +1,102 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.jdbc.entity.DefaultPropertyType;
+import org.seasar.doma.jdbc.entity.EntityPropertyType;
+import org.seasar.doma.jdbc.entity.Property;
+import org.seasar.doma.wrapper.StringWrapper;
+
+/**
+ * エンティティのプロパティの読み書きのベンチマークです。
+ * <p>
+ * 注釈処理で生成されたアクセサを使う場合と、リフレクションを使う場合を比較します。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EntityAccessorBenchmark {
+
+    private EntityPropertyType<Employee, ?> generated;
+
+    private EntityPropertyType<Employee, ?> reflective;
+
+    private Employee source;
+
+    private Employee target;
+
+    @Setup
+    public void setup() {
+        generated = _Employee.getSingletonInternal().getEntityPropertyType(
+                "name");
+        reflective = new DefaultPropertyType<Object, Employee, String, Object>(
+                Employee.class, String.class, String.class,
+                () -> new StringWrapper(), null, null, "name", "NAME", true,
+                true, false);
+        source = Employee.of(1);
+        target = new Employee();
+    }
+
+    @Benchmark
+    public Object loadGenerated() {
+        return generated.createProperty().load(source).get();
+    }
+
+    @Benchmark
+    public Object loadReflective() {
+        return reflective.createProperty().load(source).get();
+    }
+
+    @Benchmark
+    public Employee loadAndSaveGenerated() {
+        Property<Employee, ?> property = generated.createProperty();
+        property.load(source).save(target);
+        return target;
+    }
+
+    @Benchmark
+    public Employee loadAndSaveReflective() {
+        Property<Employee, ?> property = reflective.createProperty();
+        property.load(source).save(target);
+        return target;
+    }
+
+    @Benchmark
+    public Employee copyAllProperties() {
+        for (EntityPropertyType<Employee, ?> propertyType : _Employee
+                .getSingletonInternal().getEntityPropertyTypes()) {
+            propertyType.copy(target, source);
+        }
+        return target;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.seasar.doma.internal.jdbc.command.EntityProvider;
+import org.seasar.doma.internal.jdbc.command.EntityResultListHandler;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.command.SelectCommand;
+import org.seasar.doma.jdbc.query.SqlSelectQuery;
+
+/**
+ * {@link EntityProvider} による行のマッピングのベンチマークです。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EntityProviderBenchmark {
+
+    @Param({ "1", "100", "1000" })
+    public int rows;
+
+    private BenchmarkConfig config;
+
+    private SqlSelectQuery query;
+
+    private Connection connection;
+
+    private PreparedStatement statement;
+
+    @Setup
+    public void setup() throws SQLException {
+        config = new BenchmarkConfig();
+        config.createTable();
+        config.insertRows(rows);
+        query = new SqlSelectQuery();
+        query.setConfig(config);
+        query.setSqlNode(new SqlParser("select * from EMPLOYEE order by ID")
+                .parse());
+        query.setCallerClassName(getClass().getName());
+        query.setCallerMethodName("setup");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        connection = config.getDataSource().getConnection();
+        statement = connection.prepareStatement(query.getSql().getRawSql());
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        statement.close();
+        connection.close();
+        config.dropTable();
+    }
+
+    @Benchmark
+    public void mapRows(Blackhole blackhole) throws SQLException {
+        EntityProvider<Employee> provider = new EntityProvider<>(
+                _Employee.getSingletonInternal(), query, false);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(provider.get(resultSet));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Employee> selectCommand() {
+        SelectCommand<List<Employee>> command = new SelectCommand<>(query,
+                new EntityResultListHandler<>(_Employee.getSingletonInternal()));
+        return command.execute();
+    }
+}
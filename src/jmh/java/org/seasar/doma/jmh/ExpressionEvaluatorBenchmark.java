@@ -0,0 +1,104 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.internal.expr.EvaluationResult;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
+import org.seasar.doma.jdbc.ClassHelper;
+import org.seasar.doma.jdbc.dialect.H2Dialect;
+
+/**
+ * {@link ExpressionEvaluator} のベンチマークです。
+ * <p>
+ * 解析済みの式の評価と、解析を含めた評価を計測します。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExpressionEvaluatorBenchmark {
+
+    private static final String COMPARISON = "employee.age >= minAge && employee.name != null";
+
+    private static final String METHOD_CALL = "employee.salary.compareTo(minSalary) > 0 && employee.name.startsWith(\"emp\")";
+
+    private static final String FUNCTION_CALL = "@prefix(employee.name)";
+
+    private ExpressionEvaluator evaluator;
+
+    private ExpressionNode comparison;
+
+    private ExpressionNode methodCall;
+
+    private ExpressionNode functionCall;
+
+    @Setup
+    public void setup() {
+        Map<String, Value> variables = new HashMap<>();
+        variables.put("employee", new Value(Employee.class, Employee.of(1)));
+        variables.put("minAge", new Value(Integer.class, 18));
+        variables.put("minSalary",
+                new Value(BigDecimal.class, new BigDecimal(500)));
+        evaluator = new ExpressionEvaluator(variables,
+                new H2Dialect().getExpressionFunctions(), new ClassHelper() {
+                });
+        comparison = new ExpressionParser(COMPARISON).parse();
+        methodCall = new ExpressionParser(METHOD_CALL).parse();
+        functionCall = new ExpressionParser(FUNCTION_CALL).parse();
+    }
+
+    @Benchmark
+    public EvaluationResult comparison() {
+        return evaluator.evaluate(comparison);
+    }
+
+    @Benchmark
+    public EvaluationResult methodCall() {
+        return evaluator.evaluate(methodCall);
+    }
+
+    @Benchmark
+    public EvaluationResult functionCall() {
+        return evaluator.evaluate(functionCall);
+    }
+
+    @Benchmark
+    public EvaluationResult parseAndEvaluate() {
+        return evaluator.evaluate(new ExpressionParser(METHOD_CALL).parse());
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * 条件コメントと繰り返しコメントを多用するSQLに対する
+ * {@link NodePreparedSqlBuilder#build(SqlNode)} のベンチマークです。
+ * 
+ * @author nakamura-to
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class NodePreparedSqlBuilderBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int size;
+
+    private Config config;
+
+    private SqlNode sqlNode;
+
+    private Map<String, Value> variables;
+
+    @Setup
+    public void setup() {
+        config = new BenchmarkConfig();
+        sqlNode = new SqlParser(SqlParserBenchmark.SQL).parse();
+        List<Integer> departmentIds = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            departmentIds.add(i);
+            names.add("name" + i);
+        }
+        variables = new HashMap<>();
+        variables.put("name", new Value(String.class, "smi"));
+        variables.put("minAge", new Value(Integer.class, 20));
+        variables.put("maxAge", new Value(Integer.class, 60));
+        variables.put("departmentIds", new Value(List.class, departmentIds));
+        variables.put("names", new Value(List.class, names));
+        variables.put("orderBy", new Value(String.class, "NAME"));
+    }
+
+    @Benchmark
+    public PreparedSql build() {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator(variables,
+                config.getDialect().getExpressionFunctions(),
+                config.getClassHelper());
+        NodePreparedSqlBuilder builder = new NodePreparedSqlBuilder(config,
+                SqlKind.SELECT, null, evaluator, SqlLogType.FORMATTED);
+        return builder.build(sqlNode);
+    }
+
+    @Benchmark
+    public String buildAndFormat() {
+        return build().getFormattedSql();
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * {@link SqlParser#parse()} のベンチマークです。
+ * 
+ * @author nakamura-to
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class SqlParserBenchmark {
+
+    /** 条件コメントと繰り返しコメントを多用するSQL */
+    static final String SQL = "select ID, NAME, AGE, SALARY, HIREDATE, DEPARTMENT_ID, VERSION\n"
+            + "from EMPLOYEE\n"
+            + "where\n"
+            + "/*%if name != null */\n"
+            + "  NAME like /* @prefix(name) */'smith'\n"
+            + "/*%end*/\n"
+            + "/*%if minAge != null && maxAge != null */\n"
+            + "  and AGE between /* minAge */20 and /* maxAge */60\n"
+            + "/*%elseif minAge != null */\n"
+            + "  and AGE >= /* minAge */20\n"
+            + "/*%end*/\n"
+            + "/*%if departmentIds != null && !departmentIds.isEmpty() */\n"
+            + "  and DEPARTMENT_ID in /* departmentIds */(1, 2, 3)\n"
+            + "/*%end*/\n"
+            + "/*%if names != null */\n"
+            + "  and (\n"
+            + "  /*%for n : names */\n"
+            + "    NAME = /* n */'a'\n"
+            + "    /*%if n_has_next */\n"
+            + "    /*# \"or\" */\n"
+            + "    /*%end*/\n"
+            + "  /*%end*/\n"
+            + "  )\n"
+            + "/*%end*/\n"
+            + "order by /*# orderBy */";
+
+    @Benchmark
+    public SqlNode parse() {
+        return new SqlParser(SQL).parse();
+    }
+}
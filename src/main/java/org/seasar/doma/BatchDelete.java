@@ -32,6 +32,9 @@ import org.seasar.doma.jdbc.SqlLogType;
  * バッチ削除処理を示します。
  * <p>
  * このアノテーションが注釈されるメソッドは、 Daoインタフェースのメンバでなければいけません。
+ * <p>
+ * {@code sqlFile} 要素が {@code false} の場合、パラメータには {@link java.util.stream.Stream}
+ * を指定できます。その場合、エンティティはバッチサイズごとに読み込まれ、読み込まれた分ずつ実行されます。
  * 
  * <h3>例:</h3>
  * 
@@ -32,6 +32,9 @@ import org.seasar.doma.jdbc.UniqueConstraintException;
  * バッチ挿入処理を示します。
  * <p>
  * このアノテーションが注釈されるメソッドは、Daoインタフェースのメンバでなければいけません。
+ * <p>
+ * {@code sqlFile} 要素が {@code false} の場合、パラメータには {@link java.util.stream.Stream}
+ * を指定できます。その場合、エンティティはバッチサイズごとに読み込まれ、読み込まれた分ずつ実行されます。
  * 
  * <h3>例:</h3>
  * 
@@ -119,6 +122,25 @@ public @interface BatchInsert {
      */
     String[] exclude() default {};
 
+    /**
+     * 複数行を1つのINSERT文で挿入するかどうかを返します。
+     * <p>
+     * {@code true} の場合、{@code insert into ... values (...), (...), ...}
+     * の形式のSQLでバッチサイズごとにまとめて挿入します。1つのSQLに含める行数は、
+     * {@link org.seasar.doma.jdbc.dialect.Dialect#getMaxBindParameterCount()}
+     * を超えないように調整されます。
+     * <p>
+     * {@link org.seasar.doma.jdbc.dialect.Dialect#supportsMultiRowInsertStatement()}
+     * が {@code false} を返す場合や、識別子の取得に {@link Statement#getGeneratedKeys()}
+     * を行ごとに呼び出す必要がある場合は、この要素の指定は無視されます。
+     * <p>
+     * この要素に対する指定は、{@link #sqlFile()} が {@code false} の場合にのみ有効です。
+     * 
+     * @return 複数行を1つのINSERT文で挿入するかどうか
+     * @since 2.0.2
+     */
+    boolean multiRow() default false;
+
     /**
      * SQLのログの出力形式を返します。
      * 
@@ -33,6 +33,9 @@ import org.seasar.doma.jdbc.UniqueConstraintException;
  * バッチ更新処理を示します。
  * <p>
  * このアノテーションが注釈されるメソッドは、Daoインタフェースのメンバでなければいけません。
+ * <p>
+ * {@code sqlFile} 要素が {@code false} の場合、パラメータには {@link java.util.stream.Stream}
+ * を指定できます。その場合、エンティティはバッチサイズごとに読み込まれ、読み込まれた分ずつ実行されます。
  * 
  * <h3>例:</h3>
  * 
@@ -140,6 +143,20 @@ public @interface BatchUpdate {
      */
     boolean suppressOptimisticLockException() default false;
 
+    /**
+     * 変更されていないプロパティをUPDATE文のSET句から除外するかどうかを返します。
+     * <p>
+     * {@code true} の場合、{@link OriginalStates} が注釈されたフィールドに保持された元の状態と比較し、
+     * エンティティごとに変更されたプロパティのみを更新します。 SET句が同じになるエンティティはグループ化され、グループごとに1つの
+     * {@link PreparedStatement} でバッチ更新されます。 元の状態を持たないエンティティはすべてのプロパティを更新します。
+     * <p>
+     * この要素に対する指定は、{@link #sqlFile()} が {@code false} の場合にのみ有効です。
+     * 
+     * @return 変更されていないプロパティをUPDATE文のSET句から除外するかどうか
+     * @since 2.0.2
+     */
+    boolean excludeUnchanged() default false;
+
     /**
      * SQLのログの出力形式を返します。
      * 
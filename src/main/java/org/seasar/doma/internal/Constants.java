@@ -25,6 +25,16 @@ public final class Constants {
 
     public static final String ROWNUMBER_COLUMN_NAME = "doma_rownumber_";
 
+    public static final String COUNT_COLUMN_NAME = "doma_count_";
+
+    public static final String KEYSET_PARAMETER_NAME_PREFIX = "__keyset";
+
+    public static final String OFFSET_PARAMETER_NAME = "__offset";
+
+    public static final String LIMIT_PARAMETER_NAME = "__limit";
+
+    public static final String OFFSET_LIMIT_PARAMETER_NAME = "__offsetLimit";
+
     public static final Charset UTF_8 = Charset.forName("UTF-8");
 
     public static final String SQL_PATH_PREFIX = "META-INF/";
@@ -17,6 +17,8 @@ package org.seasar.doma.internal;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import java.util.concurrent.Executor;
+
 import javax.sql.DataSource;
 
 import org.seasar.doma.jdbc.ClassHelper;
@@ -25,6 +27,7 @@ import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.MapKeyNaming;
 import org.seasar.doma.jdbc.QueryImplementors;
+import org.seasar.doma.jdbc.QueryMetrics;
 import org.seasar.doma.jdbc.RequiresNewController;
 import org.seasar.doma.jdbc.SqlFileRepository;
 import org.seasar.doma.jdbc.SqlLogType;
@@ -118,6 +121,16 @@ public class RuntimeConfig implements Config {
         return config.getMapKeyNaming();
     }
 
+    @Override
+    public QueryMetrics getQueryMetrics() {
+        return config.getQueryMetrics();
+    }
+
+    @Override
+    public Executor getQueryExecutor() {
+        return config.getQueryExecutor();
+    }
+
     @Override
     public int getFetchSize() {
         return config.getFetchSize();
@@ -138,4 +151,9 @@ public class RuntimeConfig implements Config {
         return config.getBatchSize();
     }
 
+    @Override
+    public int getStatementCacheSize() {
+        return config.getStatementCacheSize();
+    }
+
 }
@@ -446,7 +446,8 @@ public class DaoGenerator extends AbstractGenerator {
             }
             print("> ");
         }
-        print("%1$s %2$s(", m.getReturnMeta().getTypeName(), m.getName());
+        print("%1$s %2$s(", m.getReturnMeta().getMethodReturnTypeName(),
+                m.getName());
         for (Iterator<QueryParameterMeta> it = m.getParameterMetas().iterator(); it
                 .hasNext();) {
             QueryParameterMeta parameterMeta = it.next();
@@ -473,7 +474,15 @@ public class DaoGenerator extends AbstractGenerator {
         }
         print("{%n");
         indent();
-        m.accept(generator, "__method" + index);
+        if (m.getReturnMeta().isCompletableFuture()) {
+            iprint("return supplyAsync(() -> {%n");
+            indent();
+            m.accept(generator, "__method" + index);
+            unindent();
+            iprint("});%n");
+        } else {
+            m.accept(generator, "__method" + index);
+        }
         unindent();
         iprint("}%n");
         print("%n");
@@ -529,7 +538,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setFetchSize(%1$s);%n", m.getFetchSize());
             iprint("__query.setSqlLogType(%1$s.%2$s);%n", m.getSqlLogType()
                     .getClass().getName(), m.getSqlLogType());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
 
             QueryReturnMeta returnMeta = m.getReturnMeta();
 
@@ -595,7 +604,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setHaltOnError(%1$s);%n", m.getHaltOnError());
             iprint("__query.setSqlLogType(%1$s.%2$s);%n", m.getSqlLogType()
                     .getClass().getName(), m.getSqlLogType());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */m.getCommandClass().getSimpleName(),
@@ -665,7 +674,7 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
                     m.getCommandClass().getName(), m.getCommandClass()
                             .getSimpleName(), methodName);
@@ -733,7 +742,7 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */m.getCommandClass().getSimpleName(),
@@ -799,6 +808,17 @@ public class DaoGenerator extends AbstractGenerator {
                         toCSVFormat(exclude));
             }
 
+            Boolean multiRow = m.getMultiRow();
+            if (multiRow != null) {
+                iprint("__query.setMultiRowEnabled(%1$s);%n", multiRow);
+            }
+
+            Boolean excludeUnchanged = m.getExcludeUnchanged();
+            if (excludeUnchanged != null) {
+                iprint("__query.setUnchangedPropertyExcluded(%1$s);%n",
+                        excludeUnchanged);
+            }
+
             Boolean suppressOptimisticLockException = m
                     .getSuppressOptimisticLockException();
             if (suppressOptimisticLockException != null) {
@@ -806,7 +826,7 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */m.getCommandClass().getSimpleName(),
@@ -876,7 +896,7 @@ public class DaoGenerator extends AbstractGenerator {
                         suppressOptimisticLockException);
             }
 
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */m.getCommandClass().getSimpleName(),
@@ -931,7 +951,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setQueryTimeout(%1$s);%n", m.getQueryTimeout());
             iprint("__query.setSqlLogType(%1$s.%2$s);%n", m.getSqlLogType()
                     .getClass().getName(), m.getSqlLogType());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s<%2$s> __command = getCommandImplementors().create%3$s(%4$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */returnMeta.getBoxedTypeName(),
@@ -974,7 +994,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setQueryTimeout(%1$s);%n", m.getQueryTimeout());
             iprint("__query.setSqlLogType(%1$s.%2$s);%n", m.getSqlLogType()
                     .getClass().getName(), m.getSqlLogType());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s __command = getCommandImplementors().create%2$s(%3$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */m.getCommandClass().getSimpleName(),
@@ -1003,7 +1023,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setConfig(__config);%n");
             iprint("__query.setCallerClassName(\"%1$s\");%n", qualifiedName);
             iprint("__query.setCallerMethodName(\"%1$s\");%n", m.getName());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s<%2$s> __command = getCommandImplementors().create%3$s(%4$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */resultMeta.getTypeName(),
@@ -1037,7 +1057,7 @@ public class DaoGenerator extends AbstractGenerator {
             iprint("__query.setCallerMethodName(\"%1$s\");%n", m.getName());
             iprint("__query.setTypeName(\"%1$s\");%n", m.getArrayTypeName());
             iprint("__query.setElements(%1$s);%n", m.getParameterName());
-            iprint("__query.prepare();%n");
+            iprint("prepare(__query);%n");
             iprint("%1$s<%2$s> __command = getCommandImplementors().create%3$s(%4$s, __query);%n",
             /* 1 */m.getCommandClass().getName(),
             /* 2 */resultMeta.getBoxedTypeName(),
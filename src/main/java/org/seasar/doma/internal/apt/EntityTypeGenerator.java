@@ -19,10 +19,13 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
 
 import org.seasar.doma.internal.Constants;
 import org.seasar.doma.internal.apt.cttype.BasicCtType;
@@ -184,10 +187,23 @@ public class EntityTypeGenerator extends AbstractGenerator {
                 domainType = domainCtType.getInstantiationCommand();
                 domainTypeName = domainCtType.getTypeName();
             }
+            String accessorArgs = "";
+            if (pm.isFieldReadable()) {
+                String setter = NULL;
+                if (pm.isFieldWritable()) {
+                    setter = String.format("(__e, __v) -> __e.%1$s = (%2$s) __v",
+                            pm.getName(), pm.getTypeName());
+                }
+                accessorArgs = String.format(", __e -> __e.%1$s, %2$s",
+                        pm.getName(), setter);
+            }
             iprint("/** the %1$s */%n", pm.getName());
+            if (pm.isFieldWritable() && isParameterizedType(pm.getType())) {
+                iprint("@SuppressWarnings(\"unchecked\")%n");
+            }
             if (pm.isId()) {
                 if (pm.getIdGeneratorMeta() != null) {
-                    iprint("public final %1$s<%11$s, %2$s, %3$s, %14$s> %12$s = new %1$s<>(%6$s.class, %13$s.class, %3$s.class, () -> %7$s, %10$s, %8$s, \"%4$s\", \"%5$s\", %15$s, __idGenerator);%n",
+                    iprint("public final %1$s<%11$s, %2$s, %3$s, %14$s> %12$s = new %1$s<>(%6$s.class, %13$s.class, %3$s.class, () -> %7$s, %10$s, %8$s, \"%4$s\", \"%5$s\", %15$s, __idGenerator%16$s);%n",
                     /* 1 */GeneratedIdPropertyType.class.getName(),
                     /* 2 */entityMeta.getEntityTypeName(),
                     /* 3 */basicCtType.getBoxedTypeName(),
@@ -202,9 +218,10 @@ public class EntityTypeGenerator extends AbstractGenerator {
                     /* 12 */pm.getFieldName(),
                     /* 13 */pm.getBoxedClassName(),
                     /* 14 */domainTypeName,
-                    /* 15 */pm.isColumnQuoteRequired());
+                    /* 15 */pm.isColumnQuoteRequired(),
+                    /* 16 */accessorArgs);
                 } else {
-                    iprint("public final %1$s<%11$s, %2$s, %3$s, %14$s> %12$s = new %1$s<>(%6$s.class, %13$s.class, %3$s.class, () -> %7$s, %10$s, %8$s, \"%4$s\", \"%5$s\", %15$s);%n",
+                    iprint("public final %1$s<%11$s, %2$s, %3$s, %14$s> %12$s = new %1$s<>(%6$s.class, %13$s.class, %3$s.class, () -> %7$s, %10$s, %8$s, \"%4$s\", \"%5$s\", %15$s%16$s);%n",
                     /* 1 */AssignedIdPropertyType.class.getName(),
                     /* 2 */entityMeta.getEntityTypeName(),
                     /* 3 */basicCtType.getBoxedTypeName(),
@@ -219,10 +236,11 @@ public class EntityTypeGenerator extends AbstractGenerator {
                     /* 12 */pm.getFieldName(),
                     /* 13 */pm.getBoxedClassName(),
                     /* 14 */domainTypeName,
-                    /* 15 */pm.isColumnQuoteRequired());
+                    /* 15 */pm.isColumnQuoteRequired(),
+                    /* 16 */accessorArgs);
                 }
             } else if (pm.isVersion()) {
-                iprint("public final %1$s<%11$s, %2$s, %3$s, %14$s> %12$s = new %1$s<>(%6$s.class,  %13$s.class, %3$s.class, () -> %7$s, %10$s, %8$s, \"%4$s\", \"%5$s\", %15$s);%n",
+                iprint("public final %1$s<%11$s, %2$s, %3$s, %14$s> %12$s = new %1$s<>(%6$s.class,  %13$s.class, %3$s.class, () -> %7$s, %10$s, %8$s, \"%4$s\", \"%5$s\", %15$s%16$s);%n",
                 /* 1 */VersionPropertyType.class.getName(),
                 /* 2 */entityMeta.getEntityTypeName(),
                 /* 3 */basicCtType.getBoxedTypeName(),
@@ -237,9 +255,10 @@ public class EntityTypeGenerator extends AbstractGenerator {
                 /* 12 */pm.getFieldName(),
                 /* 13 */pm.getBoxedClassName(),
                 /* 14 */domainTypeName,
-                /* 15 */pm.isColumnQuoteRequired());
+                /* 15 */pm.isColumnQuoteRequired(),
+                /* 16 */accessorArgs);
             } else {
-                iprint("public final %1$s<%13$s, %2$s, %3$s, %16$s> %14$s = new %1$s<>(%8$s.class, %15$s.class, %3$s.class, () -> %9$s, %12$s, %10$s, \"%4$s\", \"%5$s\", %6$s, %7$s, %17$s);%n",
+                iprint("public final %1$s<%13$s, %2$s, %3$s, %16$s> %14$s = new %1$s<>(%8$s.class, %15$s.class, %3$s.class, () -> %9$s, %12$s, %10$s, \"%4$s\", \"%5$s\", %6$s, %7$s, %17$s%18$s);%n",
                 /* 1 */DefaultPropertyType.class.getName(),
                 /* 2 */entityMeta.getEntityTypeName(),
                 /* 3 */basicCtType.getBoxedTypeName(),
@@ -256,12 +275,19 @@ public class EntityTypeGenerator extends AbstractGenerator {
                 /* 14 */pm.getFieldName(),
                 /* 15 */pm.getBoxedClassName(),
                 /* 16 */domainTypeName,
-                /* 17 */pm.isColumnQuoteRequired());
+                /* 17 */pm.isColumnQuoteRequired(),
+                /* 18 */accessorArgs);
             }
             print("%n");
         }
     }
 
+    protected boolean isParameterizedType(TypeMirror type) {
+        DeclaredType declaredType = TypeMirrorUtil.toDeclaredType(type, env);
+        return declaredType != null
+                && !declaredType.getTypeArguments().isEmpty();
+    }
+
     protected void printListenerField() {
         if (entityMeta.isGenericEntityListener()) {
             iprint("private final %1$s<%2$s> __listener;%n", entityMeta
@@ -394,6 +420,7 @@ public class EntityTypeGenerator extends AbstractGenerator {
         printGetGeneratedIdPropertyTypeMethod();
         printGetVersionPropertyTypeMethod();
         printNewEntityMethod();
+        printNewEntityWithPositionalArgsMethod();
         printGetEntityClassMethod();
         printGetOriginalStatesMethod();
         printSaveCurrentStatesMethod();
@@ -624,6 +651,47 @@ public class EntityTypeGenerator extends AbstractGenerator {
         print("%n");
     }
 
+    protected void printNewEntityWithPositionalArgsMethod() {
+        if (hasGenericTypeProperty()) {
+            iprint("@SuppressWarnings(\"unchecked\")%n");
+        }
+        iprint("@Override%n");
+        iprint("public %1$s newEntity(%2$s<%1$s, ?>[] __args) {%n",
+                entityMeta.getEntityTypeName(), Property.class.getName());
+        if (entityMeta.isAbstract()) {
+            iprint("    return null;%n");
+        } else {
+            List<EntityPropertyMeta> propertyMetas = entityMeta
+                    .getAllPropertyMetas();
+            if (entityMeta.isImmutable()) {
+                iprint("    return new %1$s(%n", entityMeta.getEntityTypeName());
+                for (Iterator<EntityPropertyMeta> it = entityMeta
+                        .getAllPropertyMetasInCtorArgsOrder().iterator(); it
+                        .hasNext();) {
+                    EntityPropertyMeta propertyMeta = it.next();
+                    iprint("        (%1$s)__args[%2$s].get()",
+                            TypeMirrorUtil.boxIfPrimitive(
+                                    propertyMeta.getType(), env),
+                            propertyMetas.indexOf(propertyMeta));
+                    if (it.hasNext()) {
+                        print(",\n");
+                    }
+                }
+                print(");%n");
+            } else {
+                iprint("    %1$s entity = new %1$s();%n",
+                        entityMeta.getEntityTypeName());
+                for (int i = 0; i < propertyMetas.size(); i++) {
+                    iprint("    if (__args[%1$s] != null) __args[%1$s].save(entity);%n",
+                            i);
+                }
+                iprint("    return entity;%n");
+            }
+        }
+        iprint("}%n");
+        print("%n");
+    }
+
     protected boolean hasGenericTypeProperty() {
         if (entityMeta.isImmutable()) {
             for (EntityPropertyMeta propertyMeta : entityMeta
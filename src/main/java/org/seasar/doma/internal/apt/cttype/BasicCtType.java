@@ -17,6 +17,9 @@ package org.seasar.doma.internal.apt.cttype;
 
 import static org.seasar.doma.internal.util.AssertionUtil.*;
 
+import java.io.InputStream;
+import java.io.Reader;
+
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.type.TypeMirror;
 
@@ -32,6 +35,11 @@ public class BasicCtType extends AbstractCtType {
         return wrapperCtType;
     }
 
+    public boolean isStream() {
+        return InputStream.class.getName().equals(typeName)
+                || Reader.class.getName().equals(typeName);
+    }
+
     public String getDefaultValue() {
         switch (typeMirror.getKind()) {
         case BOOLEAN:
@@ -18,6 +18,8 @@ package org.seasar.doma.internal.apt.cttype;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 import static org.seasar.doma.internal.util.AssertionUtil.assertUnreachable;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Array;
@@ -56,6 +58,7 @@ import org.seasar.doma.wrapper.DateWrapper;
 import org.seasar.doma.wrapper.DoubleWrapper;
 import org.seasar.doma.wrapper.EnumWrapper;
 import org.seasar.doma.wrapper.FloatWrapper;
+import org.seasar.doma.wrapper.InputStreamWrapper;
 import org.seasar.doma.wrapper.IntegerWrapper;
 import org.seasar.doma.wrapper.LocalDateTimeWrapper;
 import org.seasar.doma.wrapper.LocalDateWrapper;
@@ -63,6 +66,7 @@ import org.seasar.doma.wrapper.LocalTimeWrapper;
 import org.seasar.doma.wrapper.LongWrapper;
 import org.seasar.doma.wrapper.NClobWrapper;
 import org.seasar.doma.wrapper.ObjectWrapper;
+import org.seasar.doma.wrapper.ReaderWrapper;
 import org.seasar.doma.wrapper.SQLXMLWrapper;
 import org.seasar.doma.wrapper.ShortWrapper;
 import org.seasar.doma.wrapper.StringWrapper;
@@ -167,6 +171,12 @@ public class WrapperCtType extends AbstractCtType {
             if (Object.class.getName().equals(name)) {
                 return ObjectWrapper.class;
             }
+            if (InputStream.class.getName().equals(name)) {
+                return InputStreamWrapper.class;
+            }
+            if (Reader.class.getName().equals(name)) {
+                return ReaderWrapper.class;
+            }
             if (TypeMirrorUtil.isAssignable(t, BigDecimal.class, env)) {
                 return BigDecimalWrapper.class;
             }
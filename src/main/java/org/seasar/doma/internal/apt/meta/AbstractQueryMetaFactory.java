@@ -162,6 +162,11 @@ public abstract class AbstractQueryMetaFactory<M extends AbstractQueryMeta>
         return new QueryReturnMeta(method, env);
     }
 
+    protected QueryReturnMeta createReturnMeta(ExecutableElement method,
+            boolean completableFutureSupported) {
+        return new QueryReturnMeta(method, env, completableFutureSupported);
+    }
+
     protected QueryParameterMeta createParameterMeta(VariableElement parameter) {
         QueryParameterMeta queryParameterMeta = new QueryParameterMeta(
                 parameter, env);
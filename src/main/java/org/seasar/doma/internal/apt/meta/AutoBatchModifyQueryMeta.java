@@ -79,6 +79,14 @@ public class AutoBatchModifyQueryMeta extends AbstractQueryMeta {
         return batchModifyMirror.getSuppressOptimisticLockExceptionValue();
     }
 
+    public Boolean getMultiRow() {
+        return batchModifyMirror.getMultiRowValue();
+    }
+
+    public Boolean getExcludeUnchanged() {
+        return batchModifyMirror.getExcludeUnchangedValue();
+    }
+
     public List<String> getInclude() {
         return batchModifyMirror.getIncludeValue();
     }
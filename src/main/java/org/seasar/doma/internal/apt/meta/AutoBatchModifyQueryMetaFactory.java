@@ -28,6 +28,7 @@ import org.seasar.doma.internal.apt.cttype.CtType;
 import org.seasar.doma.internal.apt.cttype.EntityCtType;
 import org.seasar.doma.internal.apt.cttype.IterableCtType;
 import org.seasar.doma.internal.apt.cttype.SimpleCtTypeVisitor;
+import org.seasar.doma.internal.apt.cttype.StreamCtType;
 import org.seasar.doma.internal.apt.mirror.BatchDeleteMirror;
 import org.seasar.doma.internal.apt.mirror.BatchInsertMirror;
 import org.seasar.doma.internal.apt.mirror.BatchModifyMirror;
@@ -89,7 +90,7 @@ public class AutoBatchModifyQueryMetaFactory extends
     @Override
     protected void doReturnType(AutoBatchModifyQueryMeta queryMeta,
             ExecutableElement method, DaoMeta daoMeta) {
-        QueryReturnMeta returnMeta = createReturnMeta(method);
+        QueryReturnMeta returnMeta = createReturnMeta(method, true);
         EntityCtType entityCtType = queryMeta.getEntityCtType();
         if (entityCtType != null && entityCtType.isImmutable()) {
             if (!returnMeta.isBatchResult(entityCtType)) {
@@ -115,26 +116,31 @@ public class AutoBatchModifyQueryMetaFactory extends
         }
         final QueryParameterMeta parameterMeta = createParameterMeta(parameters
                 .get(0));
-        IterableCtType iterableCtType = parameterMeta
+        CtType elementCtType = parameterMeta
                 .getCtType()
-                .accept(new SimpleCtTypeVisitor<IterableCtType, Void, RuntimeException>() {
+                .accept(new SimpleCtTypeVisitor<CtType, Void, RuntimeException>() {
 
                     @Override
-                    protected IterableCtType defaultAction(CtType ctType, Void p)
+                    protected CtType defaultAction(CtType ctType, Void p)
                             throws RuntimeException {
-                        throw new AptException(Message.DOMA4042, env, method);
+                        StreamCtType streamCtType = StreamCtType.newInstance(
+                                parameterMeta.getType(), env);
+                        if (streamCtType == null
+                                || streamCtType.getElementCtType() == null) {
+                            throw new AptException(Message.DOMA4268, env,
+                                    method);
+                        }
+                        return streamCtType.getElementCtType();
                     }
 
                     @Override
-                    public IterableCtType visitIterableCtType(
-                            IterableCtType ctType, Void p)
-                            throws RuntimeException {
-                        return ctType;
+                    public CtType visitIterableCtType(IterableCtType ctType,
+                            Void p) throws RuntimeException {
+                        return ctType.getElementCtType();
                     }
 
                 }, null);
-        EntityCtType entityCtType = iterableCtType
-                .getElementCtType()
+        EntityCtType entityCtType = elementCtType
                 .accept(new SimpleCtTypeVisitor<EntityCtType, Void, RuntimeException>() {
 
                     @Override
@@ -466,6 +466,25 @@ public class EntityMetaFactory implements TypeElementMetaFactory<EntityMeta> {
                 entityMeta.setError(true);
             }
         }
+        if (entityMeta.hasOriginalStatesMeta()) {
+            try {
+                validateOriginalStatesProperties(classElement, entityMeta);
+            } catch (AptException e) {
+                Notifier.notify(env, e);
+                entityMeta.setError(true);
+            }
+        }
+    }
+
+    protected void validateOriginalStatesProperties(TypeElement classElement,
+            EntityMeta entityMeta) {
+        StreamCtTypeVisitor visitor = new StreamCtTypeVisitor(env);
+        for (EntityPropertyMeta propertyMeta : entityMeta.getAllPropertyMetas()) {
+            if (propertyMeta.getCtType().accept(visitor, null)) {
+                throw new AptException(Message.DOMA4273, env, classElement,
+                        propertyMeta.getName());
+            }
+        }
     }
 
     protected List<VariableElement> getFieldElements(TypeElement classElement) {
@@ -17,7 +17,10 @@ package org.seasar.doma.internal.apt.meta;
 
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
+import java.util.Set;
+
 import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.TypeMirror;
@@ -54,6 +57,10 @@ public class EntityPropertyMeta {
 
     protected final boolean ownProperty;
 
+    protected final boolean fieldPrivate;
+
+    protected final boolean fieldFinal;
+
     protected final String fieldPrefix;
 
     protected String name;
@@ -81,6 +88,9 @@ public class EntityPropertyMeta {
         this.boxedTypeName = TypeMirrorUtil.getBoxedTypeName(type, env);
         this.boxedClassName = TypeMirrorUtil.getBoxedClassName(type, env);
         this.ownProperty = ownProperty;
+        Set<Modifier> modifiers = propertyElement.getModifiers();
+        this.fieldPrivate = modifiers.contains(Modifier.PRIVATE);
+        this.fieldFinal = modifiers.contains(Modifier.FINAL);
         this.fieldPrefix = Options.getEntityFieldPrefix(env);
     }
 
@@ -152,6 +162,14 @@ public class EntityPropertyMeta {
         return ownProperty;
     }
 
+    public boolean isFieldReadable() {
+        return ownProperty && !fieldPrivate;
+    }
+
+    public boolean isFieldWritable() {
+        return isFieldReadable() && !fieldFinal;
+    }
+
     public CtType getCtType() {
         return ctType;
     }
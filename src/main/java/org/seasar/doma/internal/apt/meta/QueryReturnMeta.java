@@ -18,6 +18,7 @@ package org.seasar.doma.internal.apt.meta;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ExecutableElement;
@@ -55,18 +56,54 @@ public class QueryReturnMeta {
 
     protected final String typeName;
 
+    protected final String completableFutureTypeName;
+
     protected final CtType ctType;
 
     public QueryReturnMeta(ExecutableElement methodElement,
             ProcessingEnvironment env) {
+        this(methodElement, env, false);
+    }
+
+    public QueryReturnMeta(ExecutableElement methodElement,
+            ProcessingEnvironment env, boolean completableFutureSupported) {
         assertNotNull(methodElement, env);
         this.element = methodElement;
         this.env = env;
-        type = methodElement.getReturnType();
+        TypeMirror returnType = methodElement.getReturnType();
+        if (completableFutureSupported
+                && TypeMirrorUtil.isSameType(returnType,
+                        CompletableFuture.class, env)) {
+            completableFutureTypeName = TypeMirrorUtil.getTypeName(
+                    returnType, env);
+            type = getCompletableFutureTypeArg(methodElement, returnType, env);
+        } else {
+            completableFutureTypeName = null;
+            type = returnType;
+        }
         typeName = TypeMirrorUtil.getTypeName(type, env);
         ctType = createCtType(methodElement, type, env);
     }
 
+    protected TypeMirror getCompletableFutureTypeArg(
+            ExecutableElement methodElement, TypeMirror returnType,
+            ProcessingEnvironment env) {
+        DeclaredType declaredType = TypeMirrorUtil.toDeclaredType(returnType,
+                env);
+        if (declaredType == null
+                || declaredType.getTypeArguments().isEmpty()) {
+            throw new AptException(Message.DOMA4270, env, methodElement,
+                    completableFutureTypeName);
+        }
+        TypeMirror typeArg = declaredType.getTypeArguments().get(0);
+        if (typeArg.getKind() == TypeKind.WILDCARD
+                || typeArg.getKind() == TypeKind.TYPEVAR) {
+            throw new AptException(Message.DOMA4271, env, methodElement,
+                    completableFutureTypeName);
+        }
+        return typeArg;
+    }
+
     protected CtType createCtType(final ExecutableElement methodElement,
             final TypeMirror type, final ProcessingEnvironment env) {
         IterableCtType iterableCtType = IterableCtType.newInstance(type, env);
@@ -156,7 +193,33 @@ public class QueryReturnMeta {
         return ctType.getBoxedTypeName();
     }
 
+    /**
+     * メソッドの戻り値が {@link CompletableFuture} かどうかを返します。
+     * <p>
+     * {@literal true} の場合、 {@link #getType()} や {@link #getTypeName()} は
+     * {@link CompletableFuture} の型引数を表します。
+     * 
+     * @return {@link CompletableFuture} の場合 {@literal true}
+     * @since 2.0.2
+     */
+    public boolean isCompletableFuture() {
+        return completableFutureTypeName != null;
+    }
+
+    /**
+     * メソッドに宣言された戻り値の型の名前を返します。
+     * 
+     * @return 戻り値の型の名前
+     * @since 2.0.2
+     */
+    public String getMethodReturnTypeName() {
+        return isCompletableFuture() ? completableFutureTypeName : typeName;
+    }
+
     public boolean isPrimitiveInt() {
+        if (isCompletableFuture()) {
+            return TypeMirrorUtil.isSameType(type, Integer.class, env);
+        }
         return type.getKind() == TypeKind.INT;
     }
 
@@ -94,7 +94,7 @@ public class SqlFileBatchModifyQueryMetaFactory extends
     @Override
     protected void doReturnType(SqlFileBatchModifyQueryMeta queryMeta,
             ExecutableElement method, DaoMeta daoMeta) {
-        QueryReturnMeta returnMeta = createReturnMeta(method);
+        QueryReturnMeta returnMeta = createReturnMeta(method, true);
         EntityCtType entityCtType = queryMeta.getEntityType();
         if (entityCtType != null && entityCtType.isImmutable()) {
             if (!returnMeta.isBatchResult(entityCtType)) {
@@ -117,7 +117,7 @@ public class SqlFileSelectQueryMetaFactory extends
     @Override
     protected void doReturnType(final SqlFileSelectQueryMeta queryMeta,
             ExecutableElement method, DaoMeta daoMeta) {
-        final QueryReturnMeta returnMeta = createReturnMeta(method);
+        final QueryReturnMeta returnMeta = createReturnMeta(method, true);
         queryMeta.setReturnMeta(returnMeta);
 
         if (queryMeta.getSelectStrategyType() == SelectType.STREAM) {
@@ -139,6 +139,11 @@ public class SqlFileSelectQueryMetaFactory extends
                         returnMeta.getType(), returnCtType.getBoxedTypeName());
             }
         } else {
+            if (returnMeta.getCtType().accept(new StreamCtTypeVisitor(env),
+                    null)) {
+                throw new AptException(Message.DOMA4272, env, method,
+                        returnMeta.getType());
+            }
             returnMeta.getCtType().accept(
                     new ReturnCtTypeVisitor(queryMeta, returnMeta), null);
         }
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.apt.meta;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+
+import org.seasar.doma.Entity;
+import org.seasar.doma.OriginalStates;
+import org.seasar.doma.Transient;
+import org.seasar.doma.internal.apt.cttype.BasicCtType;
+import org.seasar.doma.internal.apt.cttype.CtType;
+import org.seasar.doma.internal.apt.cttype.DomainCtType;
+import org.seasar.doma.internal.apt.cttype.EntityCtType;
+import org.seasar.doma.internal.apt.cttype.IterableCtType;
+import org.seasar.doma.internal.apt.cttype.OptionalCtType;
+import org.seasar.doma.internal.apt.cttype.SimpleCtTypeVisitor;
+import org.seasar.doma.internal.apt.util.TypeMirrorUtil;
+
+/**
+ * {@link java.io.InputStream} や {@link java.io.Reader} の値を含む型かどうかを判定します。
+ * <p>
+ * これらの値は {@link java.sql.ResultSet} の現在の行が有効な間しか読み込めません。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class StreamCtTypeVisitor extends
+        SimpleCtTypeVisitor<Boolean, Void, RuntimeException> {
+
+    protected final ProcessingEnvironment env;
+
+    public StreamCtTypeVisitor(ProcessingEnvironment env) {
+        super(false);
+        assertNotNull(env);
+        this.env = env;
+    }
+
+    @Override
+    public Boolean visitBasicCtType(BasicCtType ctType, Void p)
+            throws RuntimeException {
+        return ctType.isStream();
+    }
+
+    @Override
+    public Boolean visitDomainCtType(DomainCtType ctType, Void p)
+            throws RuntimeException {
+        return ctType.getBasicCtType().isStream();
+    }
+
+    @Override
+    public Boolean visitOptionalCtType(OptionalCtType ctType, Void p)
+            throws RuntimeException {
+        CtType elementCtType = ctType.getElementCtType();
+        return elementCtType != null && elementCtType.accept(this, p);
+    }
+
+    @Override
+    public Boolean visitIterableCtType(IterableCtType ctType, Void p)
+            throws RuntimeException {
+        CtType elementCtType = ctType.getElementCtType();
+        return elementCtType != null && elementCtType.accept(this, p);
+    }
+
+    @Override
+    public Boolean visitEntityCtType(EntityCtType ctType, Void p)
+            throws RuntimeException {
+        for (TypeElement t = TypeMirrorUtil.toTypeElement(
+                ctType.getTypeMirror(), env); t != null
+                && t.asType().getKind() != TypeKind.NONE; t = TypeMirrorUtil
+                .toTypeElement(t.getSuperclass(), env)) {
+            if (t.getAnnotation(Entity.class) == null) {
+                continue;
+            }
+            for (VariableElement field : ElementFilter.fieldsIn(t
+                    .getEnclosedElements())) {
+                if (isPersistent(field) && isStream(field.asType())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    protected boolean isPersistent(VariableElement field) {
+        return field.getAnnotation(Transient.class) == null
+                && field.getAnnotation(OriginalStates.class) == null
+                && !field.getModifiers().contains(Modifier.STATIC);
+    }
+
+    protected boolean isStream(TypeMirror type) {
+        OptionalCtType optionalCtType = OptionalCtType.newInstance(type, env);
+        if (optionalCtType != null) {
+            return optionalCtType.accept(this, null);
+        }
+        DomainCtType domainCtType = DomainCtType.newInstance(type, env);
+        if (domainCtType != null) {
+            return domainCtType.accept(this, null);
+        }
+        BasicCtType basicCtType = BasicCtType.newInstance(type, env);
+        return basicCtType != null && basicCtType.isStream();
+    }
+}
@@ -51,6 +51,10 @@ public abstract class BatchModifyMirror {
 
     protected AnnotationValue sqlLog;
 
+    protected AnnotationValue multiRow;
+
+    protected AnnotationValue excludeUnchanged;
+
     protected BatchModifyMirror(AnnotationMirror annotationMirror) {
         assertNotNull(annotationMirror);
         this.annotationMirror = annotationMirror;
@@ -92,6 +96,14 @@ public abstract class BatchModifyMirror {
         return sqlLog;
     }
 
+    public AnnotationValue getMultiRow() {
+        return multiRow;
+    }
+
+    public AnnotationValue getExcludeUnchanged() {
+        return excludeUnchanged;
+    }
+
     public int getQueryTimeoutValue() {
         Integer value = AnnotationValueUtil.toInteger(queryTimeout);
         if (value == null) {
@@ -116,6 +128,14 @@ public abstract class BatchModifyMirror {
         return AnnotationValueUtil.toBoolean(suppressOptimisticLockException);
     }
 
+    public Boolean getMultiRowValue() {
+        return AnnotationValueUtil.toBoolean(multiRow);
+    }
+
+    public Boolean getExcludeUnchangedValue() {
+        return AnnotationValueUtil.toBoolean(excludeUnchanged);
+    }
+
     public List<String> getIncludeValue() {
         return AnnotationValueUtil.toStringList(include);
     }
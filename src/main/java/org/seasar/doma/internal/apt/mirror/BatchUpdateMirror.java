@@ -67,6 +67,8 @@ public class BatchUpdateMirror extends BatchModifyMirror {
                 result.exclude = value;
             } else if ("sqlLog".equals(name)) {
                 result.sqlLog = value;
+            } else if ("excludeUnchanged".equals(name)) {
+                result.excludeUnchanged = value;
             }
         }
         return result;
@@ -68,6 +68,7 @@ import org.seasar.doma.internal.expr.node.NotOperatorNode;
 import org.seasar.doma.internal.expr.node.OperatorNode;
 import org.seasar.doma.internal.expr.node.OrOperatorNode;
 import org.seasar.doma.internal.expr.node.ParensNode;
+import org.seasar.doma.internal.expr.node.ResolutionCache;
 import org.seasar.doma.internal.expr.node.StaticFieldOperatorNode;
 import org.seasar.doma.internal.expr.node.StaticMethodOperatorNode;
 import org.seasar.doma.internal.expr.node.SubtractOperatorNode;
@@ -502,7 +503,8 @@ public class ExpressionEvaluator implements
         ParameterCollection collection = collector.collect(node
                 .getParametersNode());
         ExpressionLocation location = node.getLocation();
-        Method method = findMethod(node.getMethodName(), target, targetClass,
+        Method method = findMethod(node.getMethodCache(),
+                node.getMethodName(), target, targetClass,
                 collection.getParamTypes());
         if (method == null) {
             String signature = MethodUtil.createSignature(node.getMethodName(),
@@ -524,7 +526,8 @@ public class ExpressionEvaluator implements
         ParameterCollection collection = collector.collect(node
                 .getParametersNode());
         ExpressionLocation location = node.getLocation();
-        Method method = findMethod(node.getMethodName(), null, targetClass,
+        Method method = findMethod(node.getMethodCache(),
+                node.getMethodName(), null, targetClass,
                 collection.getParamTypes());
         if (method == null) {
             String signature = MethodUtil.createSignature(node.getMethodName(),
@@ -537,6 +540,19 @@ public class ExpressionEvaluator implements
                 collection.getParamTypes(), collection.getParams());
     }
 
+    protected Method findMethod(ResolutionCache<Method> cache,
+            String methodName, Object target, Class<?> targetClass,
+            Class<?>[] paramTypes) {
+        Method method = cache.get(targetClass, paramTypes);
+        if (method == null) {
+            method = findMethod(methodName, target, targetClass, paramTypes);
+            if (method != null) {
+                cache.put(method, targetClass, paramTypes);
+            }
+        }
+        return method;
+    }
+
     protected Method findMethod(String methodName, Object target,
             Class<?> targetClass, Class<?>[] paramTypes) {
         Method result = findMethodFromInterfaces(methodName, target,
@@ -667,8 +683,9 @@ public class ExpressionEvaluator implements
         ParameterCollection collection = collector.collect(node
                 .getParametersNode());
         ExpressionLocation location = node.getLocation();
-        Method method = findMethod(node.getMethodName(), expressionFunctions,
-                targetClass, collection.getParamTypes());
+        Method method = findMethod(node.getMethodCache(),
+                node.getMethodName(), expressionFunctions, targetClass,
+                collection.getParamTypes());
         if (method == null) {
             String signature = MethodUtil.createSignature(node.getMethodName(),
                     collection.getParamTypes());
@@ -686,7 +703,8 @@ public class ExpressionEvaluator implements
                 p);
         Object target = targetResult.getValue();
         ExpressionLocation location = node.getLocation();
-        Field field = findField(node.getFieldName(), target.getClass());
+        Field field = findField(node.getFieldCache(), node.getFieldName(),
+                target.getClass());
         if (field == null) {
             throw new ExpressionException(Message.DOMA3018,
                     location.getExpression(), location.getPosition(), target
@@ -701,7 +719,8 @@ public class ExpressionEvaluator implements
         Class<?> targetClass = forClassName(node.getLocation(),
                 node.getClassName());
         ExpressionLocation location = node.getLocation();
-        Field field = findStaticField(node.getFieldName(), targetClass);
+        Field field = findStaticField(node.getFieldCache(),
+                node.getFieldName(), targetClass);
         if (field == null) {
             throw new ExpressionException(Message.DOMA3033,
                     location.getExpression(), location.getPosition(),
@@ -710,6 +729,18 @@ public class ExpressionEvaluator implements
         return getFieldValue(location, field, null);
     }
 
+    protected Field findField(ResolutionCache<Field> cache, String fieldName,
+            Class<?> targetClass) {
+        Field field = cache.get(targetClass);
+        if (field == null) {
+            field = findField(fieldName, targetClass);
+            if (field != null) {
+                cache.put(field, targetClass);
+            }
+        }
+        return field;
+    }
+
     protected Field findField(String fieldName, Class<?> targetClass) {
         for (Class<?> clazz = targetClass; clazz != Object.class; clazz = clazz
                 .getSuperclass()) {
@@ -723,6 +754,18 @@ public class ExpressionEvaluator implements
         return null;
     }
 
+    protected Field findStaticField(ResolutionCache<Field> cache,
+            String fieldName, Class<?> targetClass) {
+        Field field = cache.get(targetClass);
+        if (field == null) {
+            field = findStaticField(fieldName, targetClass);
+            if (field != null) {
+                cache.put(field, targetClass);
+            }
+        }
+        return field;
+    }
+
     protected Field findStaticField(String fieldName, Class<?> targetClass) {
         Field field = findField(fieldName, targetClass);
         if (field != null && (field.getModifiers() & Modifier.STATIC) != 0) {
@@ -17,6 +17,8 @@ package org.seasar.doma.internal.expr.node;
 
 import static org.seasar.doma.internal.util.AssertionUtil.*;
 
+import java.lang.reflect.Field;
+
 /**
  * @author taedium
  * 
@@ -33,6 +35,8 @@ public class FieldOperatorNode implements OperatorNode {
 
     protected ExpressionNode targetObjectNode;
 
+    protected final ResolutionCache<Field> fieldCache = new ResolutionCache<Field>();
+
     @Override
     public int getPriority() {
         return PRIORITY;
@@ -58,6 +62,16 @@ public class FieldOperatorNode implements OperatorNode {
         this.targetObjectNode = targetObjectNode;
     }
 
+    /**
+     * 解決されたフィールドのキャッシュを返します。
+     * 
+     * @return キャッシュ
+     * @since 2.0.2
+     */
+    public ResolutionCache<Field> getFieldCache() {
+        return fieldCache;
+    }
+
     @Override
     public <R, P> R accept(ExpressionNodeVisitor<R, P> visitor, P p) {
         return visitor.visitFieldOperatorNode(this, p);
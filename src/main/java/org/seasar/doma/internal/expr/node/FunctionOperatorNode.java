@@ -17,6 +17,8 @@ package org.seasar.doma.internal.expr.node;
 
 import static org.seasar.doma.internal.util.AssertionUtil.*;
 
+import java.lang.reflect.Method;
+
 /**
  * @author taedium
  * 
@@ -33,6 +35,8 @@ public class FunctionOperatorNode implements OperatorNode {
 
     protected ExpressionNode parametersNode;
 
+    protected final ResolutionCache<Method> methodCache = new ResolutionCache<Method>();
+
     @Override
     public int getPriority() {
         return PRIORITY;
@@ -58,6 +62,16 @@ public class FunctionOperatorNode implements OperatorNode {
         this.parametersNode = parametersNode;
     }
 
+    /**
+     * 解決されたメソッドのキャッシュを返します。
+     * 
+     * @return キャッシュ
+     * @since 2.0.2
+     */
+    public ResolutionCache<Method> getMethodCache() {
+        return methodCache;
+    }
+
     @Override
     public <R, P> R accept(ExpressionNodeVisitor<R, P> visitor, P p) {
         return visitor.visitFunctionOperatorNode(this, p);
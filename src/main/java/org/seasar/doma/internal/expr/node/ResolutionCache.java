@@ -0,0 +1,87 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.expr.node;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.Arrays;
+
+/**
+ * 式の評価時に解決されたメソッドやフィールドを保持するキャッシュです。
+ * <p>
+ * 解決に使用したクラスと引数の型が前回と同じ場合にのみ、キャッシュされた値を返します。
+ * 式の評価対象の型は通常変わらないため、最後に解決した1件のみを保持します。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ * 
+ * @param <M>
+ *            メソッドまたはフィールドの型
+ */
+public class ResolutionCache<M> {
+
+    protected volatile Entry<M> entry;
+
+    /**
+     * キャッシュされた値を返します。
+     * 
+     * @param targetClass
+     *            解決対象のクラス
+     * @param paramTypes
+     *            引数の型
+     * @return キャッシュされた値、存在しない場合 {@code null}
+     */
+    public M get(Class<?> targetClass, Class<?>... paramTypes) {
+        Entry<M> e = entry;
+        if (e != null && e.targetClass == targetClass
+                && Arrays.equals(e.paramTypes, paramTypes)) {
+            return e.member;
+        }
+        return null;
+    }
+
+    /**
+     * 値をキャッシュします。
+     * 
+     * @param member
+     *            解決された値
+     * @param targetClass
+     *            解決対象のクラス
+     * @param paramTypes
+     *            引数の型
+     */
+    public void put(M member, Class<?> targetClass, Class<?>... paramTypes) {
+        assertNotNull(member, targetClass, paramTypes);
+        entry = new Entry<M>(member, targetClass, paramTypes.clone());
+    }
+
+    protected static class Entry<M> {
+
+        protected final M member;
+
+        protected final Class<?> targetClass;
+
+        protected final Class<?>[] paramTypes;
+
+        protected Entry(M member, Class<?> targetClass, Class<?>[] paramTypes) {
+            this.member = member;
+            this.targetClass = targetClass;
+            this.paramTypes = paramTypes;
+        }
+    }
+}
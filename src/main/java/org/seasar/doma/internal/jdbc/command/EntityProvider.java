@@ -15,6 +15,7 @@
  */
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.COUNT_COLUMN_NAME;
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
@@ -28,6 +29,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 import org.seasar.doma.jdbc.JdbcMappingVisitor;
 import org.seasar.doma.jdbc.ResultMappingException;
@@ -57,6 +59,14 @@ public class EntityProvider<ENTITY> extends
 
     protected Map<Integer, EntityPropertyType<ENTITY, ?>> indexMap;
 
+    protected int[] columnIndexes;
+
+    protected EntityPropertyType<ENTITY, ?>[] columnPropertyTypes;
+
+    protected int[] propertyPositions;
+
+    protected Property<ENTITY, ?>[] properties;
+
     /**
      * @param entityType
      * @param query
@@ -81,23 +91,48 @@ public class EntityProvider<ENTITY> extends
         assertNotNull(resultSet);
         if (indexMap == null) {
             indexMap = createIndexMap(resultSet.getMetaData(), entityType);
+            prepareBuffers(indexMap);
         }
-        Map<String, Property<ENTITY, ?>> states = new HashMap<>(indexMap.size());
-        for (Map.Entry<Integer, EntityPropertyType<ENTITY, ?>> entry : indexMap
-                .entrySet()) {
-            Integer index = entry.getKey();
-            EntityPropertyType<ENTITY, ?> propertyType = entry.getValue();
-            Property<ENTITY, ?> property = propertyType.createProperty();
-            fetch(resultSet, property, index, jdbcMappingVisitor);
-            states.put(propertyType.getName(), property);
+        for (int i = 0; i < columnIndexes.length; i++) {
+            Property<ENTITY, ?> property = columnPropertyTypes[i]
+                    .createProperty();
+            fetch(resultSet, property, columnIndexes[i], jdbcMappingVisitor);
+            properties[propertyPositions[i]] = property;
         }
-        ENTITY entity = entityType.newEntity(states);
+        ENTITY entity = entityType.newEntity(properties);
         if (!entityType.isImmutable()) {
             entityType.saveCurrentStates(entity);
         }
         return entity;
     }
 
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected void prepareBuffers(
+            Map<Integer, EntityPropertyType<ENTITY, ?>> indexMap) {
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = entityType
+                .getEntityPropertyTypes();
+        Map<Integer, EntityPropertyType<ENTITY, ?>> sortedIndexMap = new TreeMap<>();
+        for (Map.Entry<Integer, EntityPropertyType<ENTITY, ?>> entry : indexMap
+                .entrySet()) {
+            if (entry.getValue() != null) {
+                sortedIndexMap.put(entry.getKey(), entry.getValue());
+            }
+        }
+        int size = sortedIndexMap.size();
+        columnIndexes = new int[size];
+        columnPropertyTypes = new EntityPropertyType[size];
+        propertyPositions = new int[size];
+        int i = 0;
+        for (Map.Entry<Integer, EntityPropertyType<ENTITY, ?>> entry : sortedIndexMap
+                .entrySet()) {
+            columnIndexes[i] = entry.getKey();
+            columnPropertyTypes[i] = entry.getValue();
+            propertyPositions[i] = propertyTypes.indexOf(entry.getValue());
+            i++;
+        }
+        properties = new Property[propertyTypes.size()];
+    }
+
     protected HashMap<Integer, EntityPropertyType<ENTITY, ?>> createIndexMap(
             ResultSetMetaData resultSetMeta, EntityType<ENTITY> entityType)
             throws SQLException {
@@ -112,7 +147,8 @@ public class EntityProvider<ENTITY> extends
             EntityPropertyType<ENTITY, ?> propertyType = columnNameMap
                     .get(lowerCaseColumnName);
             if (propertyType == null) {
-                if (ROWNUMBER_COLUMN_NAME.equals(lowerCaseColumnName)) {
+                if (ROWNUMBER_COLUMN_NAME.equals(lowerCaseColumnName)
+                        || COUNT_COLUMN_NAME.equals(lowerCaseColumnName)) {
                     continue;
                 }
                 unknownColumnHandler.handle(query, entityType,
@@ -15,6 +15,7 @@
  */
 package org.seasar.doma.internal.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.COUNT_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
@@ -84,6 +85,9 @@ public class MapProvider extends AbstractObjectProvider<Map<String, Object>> {
         int count = resultSetMeta.getColumnCount();
         for (int i = 1; i < count + 1; i++) {
             String columnName = resultSetMeta.getColumnLabel(i);
+            if (COUNT_COLUMN_NAME.equalsIgnoreCase(columnName)) {
+                continue;
+            }
             String key = naming.apply(method, mapKeyNamingType, columnName);
             indexMap.put(i, key);
         }
@@ -17,6 +17,8 @@ package org.seasar.doma.internal.jdbc.dao;
 
 import java.lang.reflect.Method;
 import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import javax.sql.DataSource;
 
@@ -32,6 +34,8 @@ import org.seasar.doma.jdbc.ConfigException;
 import org.seasar.doma.jdbc.ConfigProvider;
 import org.seasar.doma.jdbc.DaoMethodNotFoundException;
 import org.seasar.doma.jdbc.QueryImplementors;
+import org.seasar.doma.jdbc.QueryMetrics;
+import org.seasar.doma.jdbc.query.Query;
 
 /**
  * {@link Dao} が注釈されたインタフェースの実装クラスのための骨格実装です。
@@ -163,6 +167,10 @@ public abstract class AbstractDao implements ConfigProvider {
             throw new ConfigException(config.getClass().getName(),
                     "getMapKeyNaming");
         }
+        if (config.getQueryExecutor() == null) {
+            throw new ConfigException(config.getClass().getName(),
+                    "getQueryExecutor");
+        }
     }
 
     @Override
@@ -187,6 +195,43 @@ public abstract class AbstractDao implements ConfigProvider {
         return __config.getQueryImplementors();
     }
 
+    /**
+     * クエリを準備します。
+     * <p>
+     * {@link QueryMetrics} が有効な場合、準備に要した時間を記録します。
+     * 
+     * @param query
+     *            クエリ
+     * @since 2.0.2
+     */
+    protected void prepare(Query query) {
+        QueryMetrics metrics = __config.getQueryMetrics();
+        if (!metrics.isEnabled()) {
+            query.prepare();
+            return;
+        }
+        long startNanos = System.nanoTime();
+        query.prepare();
+        metrics.recordPrepare(query, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * {@link Config#getQueryExecutor()} の上で処理を非同期に実行します。
+     * <p>
+     * 戻り値が {@link CompletableFuture} のDaoメソッドから呼び出されます。
+     * 
+     * @param <R>
+     *            結果の型
+     * @param supplier
+     *            処理
+     * @return 処理の結果を受け取る {@link CompletableFuture}
+     * @since 2.0.2
+     */
+    protected <R> CompletableFuture<R> supplyAsync(Supplier<R> supplier) {
+        return CompletableFuture.supplyAsync(supplier,
+                __config.getQueryExecutor());
+    }
+
     /**
      * このDaoの {@literal public} なメソッドの実行開始を記録します。
      * 
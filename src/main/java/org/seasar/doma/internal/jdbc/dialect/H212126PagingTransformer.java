@@ -15,6 +15,9 @@
  */
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_PARAMETER_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_PARAMETER_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.ForUpdateClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
@@ -52,13 +55,13 @@ public class H212126PagingTransformer extends StandardPagingTransformer {
         }
         orderBy.appendNode(new FragmentNode(" limit "));
         if (limit >= 0) {
-            orderBy.appendNode(new FragmentNode(String.valueOf(limit)));
+            orderBy.appendNode(createBindVariableNode(LIMIT_PARAMETER_NAME));
         } else {
             orderBy.appendNode(new FragmentNode("0"));
         }
         if (offset >= 0) {
             orderBy.appendNode(new FragmentNode(" offset "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(offset)));
+            orderBy.appendNode(createBindVariableNode(OFFSET_PARAMETER_NAME));
         }
         ForUpdateClauseNode forUpdate = node.getForUpdateClauseNode();
         if (node.getForUpdateClauseNode() != null) {
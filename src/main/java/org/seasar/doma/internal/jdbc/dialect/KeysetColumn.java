@@ -0,0 +1,285 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.OtherNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.WhitespaceNode;
+import org.seasar.doma.internal.jdbc.sql.node.WordNode;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.message.Message;
+
+/**
+ * キーセットによるページングのキーとなる order by 句の列です。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class KeysetColumn {
+
+    protected final String name;
+
+    protected final boolean descending;
+
+    public KeysetColumn(String name, boolean descending) {
+        assertNotNull(name);
+        this.name = name;
+        this.descending = descending;
+    }
+
+    /**
+     * SQLに記述された列名を返します。
+     * 
+     * @return 列名
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@link java.sql.ResultSet} から値を取得するための列ラベルを返します。
+     * 
+     * @return 列ラベル
+     */
+    public String getLabel() {
+        return toLabel(name);
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    /**
+     * 最初の select 文の order by 句からキーとなる列を抽出し、 {@link java.sql.ResultSet}
+     * から値を取得するための列ラベルを解決します。
+     * <p>
+     * select 句でキーとなる列に別名が付けられている場合は別名を返します。
+     * 
+     * @param sqlNode
+     *            SQLノード
+     * @return 列ラベルの配列
+     * @throws JdbcException
+     *             order by 句がない場合、列名と昇順/降順の指定以外が含まれる場合、もしくはキーとなる列が select
+     *             句に含まれない場合
+     */
+    public static String[] resolveLabels(SqlNode sqlNode) {
+        SelectStatementNode statement = findSelectStatement(sqlNode);
+        List<KeysetColumn> columns = extract(statement.getOrderByClauseNode());
+        SelectClauseNode select = statement.getSelectClauseNode();
+        List<List<String>> items = select != null ? splitSelectItems(select)
+                : null;
+        String[] labels = new String[columns.size()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = columns.get(i).resolveLabel(items);
+        }
+        return labels;
+    }
+
+    /**
+     * select 句の項目と照合して列ラベルを解決します。
+     * 
+     * @param items
+     *            select 句の項目のリスト、項目を判別できない場合 {@code null}
+     * @return 列ラベル
+     * @throws JdbcException
+     *             キーとなる列が select 句に含まれない場合
+     */
+    protected String resolveLabel(List<List<String>> items) {
+        String label = getLabel();
+        if (items == null) {
+            return label;
+        }
+        boolean found = false;
+        for (List<String> item : items) {
+            if (item == null) {
+                // 列ラベルを判別できない項目がある
+                found = true;
+                continue;
+            }
+            String alias = getAlias(item);
+            if (alias != null) {
+                if (item.size() <= 3 && item.get(0).equalsIgnoreCase(name)) {
+                    return toLabel(alias);
+                }
+                if (toLabel(alias).equalsIgnoreCase(label)) {
+                    found = true;
+                }
+            } else if (item.size() == 1) {
+                String word = item.get(0);
+                if (word.equals("*") || word.endsWith(".*")
+                        || toLabel(word).equalsIgnoreCase(label)) {
+                    found = true;
+                }
+            } else {
+                found = true;
+            }
+        }
+        if (!found) {
+            throw new JdbcException(Message.DOMA2226, name);
+        }
+        return label;
+    }
+
+    /**
+     * select 句を項目ごとの単語のリストに分割します。
+     * <p>
+     * 単語と記号以外のノードを含む項目は {@code null} になります。
+     * 
+     * @param select
+     *            select 句
+     * @return 項目のリスト
+     */
+    protected static List<List<String>> splitSelectItems(SelectClauseNode select) {
+        List<List<String>> items = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        boolean opaque = false;
+        for (SqlNode child : select.getChildren()) {
+            if (child instanceof WhitespaceNode) {
+                continue;
+            }
+            if (child instanceof OtherNode) {
+                String other = ((OtherNode) child).getOther();
+                if (other.equals(",")) {
+                    items.add(opaque ? null : new ArrayList<>(words));
+                    words.clear();
+                    opaque = false;
+                } else if (other.equals("*") && words.size() > 0
+                        && words.get(words.size() - 1).endsWith(".")) {
+                    words.set(words.size() - 1, words.get(words.size() - 1)
+                            + other);
+                } else {
+                    words.add(other);
+                }
+            } else if (child instanceof WordNode) {
+                String word = ((WordNode) child).getWord();
+                if (items.isEmpty() && words.isEmpty()
+                        && (word.equalsIgnoreCase("distinct") || word
+                                .equalsIgnoreCase("all"))) {
+                    continue;
+                }
+                words.add(word);
+            } else {
+                opaque = true;
+            }
+        }
+        items.add(opaque ? null : words);
+        return items;
+    }
+
+    protected static String getAlias(List<String> item) {
+        int size = item.size();
+        if (size == 2) {
+            return item.get(1);
+        }
+        if (size > 2 && item.get(size - 2).equalsIgnoreCase("as")) {
+            return item.get(size - 1);
+        }
+        return null;
+    }
+
+    protected static String toLabel(String name) {
+        String label = name.substring(name.lastIndexOf('.') + 1);
+        if (label.length() > 1) {
+            char first = label.charAt(0);
+            char last = label.charAt(label.length() - 1);
+            if (first == '"' && last == '"' || first == '`' && last == '`'
+                    || first == '[' && last == ']') {
+                return label.substring(1, label.length() - 1);
+            }
+        }
+        return label;
+    }
+
+    /**
+     * 最初の select 文の order by 句からキーとなる列を抽出します。
+     * 
+     * @param sqlNode
+     *            SQLノード
+     * @return キーとなる列のリスト
+     * @throws JdbcException
+     *             order by 句がない場合、もしくは列名と昇順/降順の指定以外が含まれる場合
+     */
+    public static List<KeysetColumn> extract(SqlNode sqlNode) {
+        return extract(findSelectStatement(sqlNode).getOrderByClauseNode());
+    }
+
+    protected static SelectStatementNode findSelectStatement(SqlNode sqlNode) {
+        assertNotNull(sqlNode);
+        for (SqlNode child : sqlNode.getChildren()) {
+            if (child instanceof SelectStatementNode) {
+                return (SelectStatementNode) child;
+            }
+        }
+        throw new JdbcException(Message.DOMA2201);
+    }
+
+    /**
+     * order by 句からキーとなる列を抽出します。
+     * 
+     * @param orderBy
+     *            order by 句
+     * @return キーとなる列のリスト
+     * @throws JdbcException
+     *             order by 句がない場合、もしくは列名と昇順/降順の指定以外が含まれる場合
+     */
+    public static List<KeysetColumn> extract(OrderByClauseNode orderBy) {
+        if (orderBy == null) {
+            throw new JdbcException(Message.DOMA2201);
+        }
+        List<KeysetColumn> columns = new ArrayList<>();
+        List<String> words = new ArrayList<>();
+        for (SqlNode child : orderBy.getChildren()) {
+            if (child instanceof WhitespaceNode) {
+                continue;
+            }
+            if (child instanceof WordNode) {
+                words.add(((WordNode) child).getWord());
+            } else if (child instanceof OtherNode
+                    && ((OtherNode) child).getOther().equals(",")) {
+                columns.add(toColumn(words));
+                words.clear();
+            } else {
+                throw new JdbcException(Message.DOMA2224);
+            }
+        }
+        columns.add(toColumn(words));
+        return columns;
+    }
+
+    protected static KeysetColumn toColumn(List<String> words) {
+        if (words.size() == 1) {
+            return new KeysetColumn(words.get(0), false);
+        }
+        if (words.size() == 2) {
+            String direction = words.get(1);
+            if (direction.equalsIgnoreCase("asc")) {
+                return new KeysetColumn(words.get(0), false);
+            }
+            if (direction.equalsIgnoreCase("desc")) {
+                return new KeysetColumn(words.get(0), true);
+            }
+        }
+        throw new JdbcException(Message.DOMA2224);
+    }
+}
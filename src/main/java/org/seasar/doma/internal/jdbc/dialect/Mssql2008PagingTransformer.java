@@ -15,6 +15,8 @@
  */
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_PARAMETER_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
@@ -52,7 +54,9 @@ public class Mssql2008PagingTransformer extends StandardPagingTransformer {
 
         SelectClauseNode select = new SelectClauseNode(node
                 .getSelectClauseNode().getWordNode());
-        select.appendNode(new FragmentNode(" top " + limit));
+        select.appendNode(new FragmentNode(" top ("));
+        select.appendNode(createBindVariableNode(LIMIT_PARAMETER_NAME));
+        select.appendNode(new FragmentNode(")"));
         for (SqlNode child : node.getSelectClauseNode().getChildren()) {
             select.appendNode(child);
         }
@@ -15,6 +15,9 @@
  */
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_PARAMETER_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_PARAMETER_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
@@ -49,13 +52,18 @@ public class MysqlPagingTransformer extends StandardPagingTransformer {
         } else {
             orderBy = new OrderByClauseNode("");
         }
-        String offset = this.offset <= 0 ? "0" : String.valueOf(this.offset);
-        String limit = this.limit <= 0 ? MAXIMUM_LIMIT : String
-                .valueOf(this.limit);
         orderBy.appendNode(new FragmentNode(" limit "));
-        orderBy.appendNode(new FragmentNode(offset));
+        if (offset > 0) {
+            orderBy.appendNode(createBindVariableNode(OFFSET_PARAMETER_NAME));
+        } else {
+            orderBy.appendNode(new FragmentNode("0"));
+        }
         orderBy.appendNode(new FragmentNode(", "));
-        orderBy.appendNode(new FragmentNode(limit));
+        if (limit > 0) {
+            orderBy.appendNode(createBindVariableNode(LIMIT_PARAMETER_NAME));
+        } else {
+            orderBy.appendNode(new FragmentNode(MAXIMUM_LIMIT));
+        }
 
         if (node.getForUpdateClauseNode() != null) {
             orderBy.appendNode(new FragmentNode(" "));
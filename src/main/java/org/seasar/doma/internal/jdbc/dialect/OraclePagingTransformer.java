@@ -61,15 +61,15 @@ public class OraclePagingTransformer extends StandardPagingTransformer {
         where.appendNode(new FragmentNode(" "));
         if (offset >= 0) {
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " > "));
-            where.appendNode(new FragmentNode(String.valueOf(offset)));
+            where.appendNode(createBindVariableNode(OFFSET_PARAMETER_NAME));
         }
         if (limit > 0) {
             if (offset >= 0) {
                 where.appendNode(new FragmentNode(" and "));
             }
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " <= "));
-            long bias = offset < 0 ? 0 : offset;
-            where.appendNode(new FragmentNode(String.valueOf(bias + limit)));
+            where.appendNode(
+                    createBindVariableNode(OFFSET_LIMIT_PARAMETER_NAME));
         }
         ForUpdateClauseNode forUpdate = node.getForUpdateClauseNode();
         if (forUpdate != null) {
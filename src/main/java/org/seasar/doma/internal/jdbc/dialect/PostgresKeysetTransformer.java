@@ -0,0 +1,66 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import java.util.List;
+
+import org.seasar.doma.internal.jdbc.sql.node.AppendableSqlNode;
+import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
+
+/**
+ * PostgreSQL用のキーセットによるページングの変換です。
+ * <p>
+ * すべての列の昇順/降順が同じ場合、行値コンストラクタで比較します。
+ * 
+ * <pre>
+ * (a, b) &gt; (?, ?)
+ * </pre>
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class PostgresKeysetTransformer extends StandardKeysetTransformer {
+
+    public PostgresKeysetTransformer(int keyCount) {
+        super(keyCount);
+    }
+
+    @Override
+    protected void appendSeekCondition(AppendableSqlNode node,
+            List<KeysetColumn> columns) {
+        boolean descending = columns.get(0).isDescending();
+        for (KeysetColumn column : columns) {
+            if (column.isDescending() != descending) {
+                super.appendSeekCondition(node, columns);
+                return;
+            }
+        }
+        StringBuilder buf = new StringBuilder();
+        for (KeysetColumn column : columns) {
+            buf.append(column.getName()).append(", ");
+        }
+        buf.setLength(buf.length() - 2);
+        node.appendNode(new FragmentNode("(" + buf + ")"
+                + (descending ? " < (" : " > (")));
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                node.appendNode(new FragmentNode(", "));
+            }
+            node.appendNode(createBindVariableNode(i));
+        }
+        node.appendNode(new FragmentNode(")"));
+    }
+}
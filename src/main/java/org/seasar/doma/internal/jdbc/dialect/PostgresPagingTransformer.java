@@ -15,6 +15,9 @@
  */
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.LIMIT_PARAMETER_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_PARAMETER_NAME;
+
 import org.seasar.doma.internal.jdbc.sql.node.ForUpdateClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
@@ -50,11 +53,11 @@ public class PostgresPagingTransformer extends StandardPagingTransformer {
         }
         if (limit > 0) {
             orderBy.appendNode(new FragmentNode(" limit "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(limit)));
+            orderBy.appendNode(createBindVariableNode(LIMIT_PARAMETER_NAME));
         }
         if (offset >= 0) {
             orderBy.appendNode(new FragmentNode(" offset "));
-            orderBy.appendNode(new FragmentNode(String.valueOf(offset)));
+            orderBy.appendNode(createBindVariableNode(OFFSET_PARAMETER_NAME));
         }
         ForUpdateClauseNode forUpdate = node.getForUpdateClauseNode();
         if (forUpdate != null) {
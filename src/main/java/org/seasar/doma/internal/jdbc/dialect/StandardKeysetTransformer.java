@@ -0,0 +1,179 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import static org.seasar.doma.internal.Constants.KEYSET_PARAMETER_NAME_PREFIX;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.util.List;
+
+import org.seasar.doma.internal.jdbc.sql.SimpleSqlNodeVisitor;
+import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
+import org.seasar.doma.internal.jdbc.sql.node.AppendableSqlNode;
+import org.seasar.doma.internal.jdbc.sql.node.BindVariableNode;
+import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
+import org.seasar.doma.internal.jdbc.sql.node.LogicalOperatorNode;
+import org.seasar.doma.internal.jdbc.sql.node.ParensNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.SqlLocation;
+import org.seasar.doma.internal.jdbc.sql.node.WhereClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.WhitespaceNode;
+import org.seasar.doma.internal.jdbc.sql.node.WordNode;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.message.Message;
+
+/**
+ * order by 句の列の値を使って、指定された行より後ろの行だけを検索する where 句に変換します。
+ * <p>
+ * {@code order by a, b desc} に対して次の条件を追加します。先頭の条件は、インデックスの範囲検索を可能にするためのものです。
+ * 
+ * <pre>
+ * a &gt;= ? and (a &gt; ? or a = ? and b &lt; ?)
+ * </pre>
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class StandardKeysetTransformer extends
+        SimpleSqlNodeVisitor<SqlNode, Void> {
+
+    protected static final SqlLocation LOCATION = new SqlLocation("", 0, 0);
+
+    protected final int keyCount;
+
+    protected boolean processed;
+
+    public StandardKeysetTransformer(int keyCount) {
+        assertTrue(keyCount > 0);
+        this.keyCount = keyCount;
+    }
+
+    public SqlNode transform(SqlNode sqlNode) {
+        AnonymousNode result = new AnonymousNode();
+        for (SqlNode child : sqlNode.getChildren()) {
+            result.appendNode(child.accept(this, null));
+        }
+        return result;
+    }
+
+    @Override
+    public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
+        if (processed) {
+            return node;
+        }
+        processed = true;
+
+        List<KeysetColumn> columns = KeysetColumn.extract(node
+                .getOrderByClauseNode());
+        if (columns.size() != keyCount) {
+            throw new JdbcException(Message.DOMA2225, keyCount,
+                    columns.size());
+        }
+
+        WhereClauseNode where = new WhereClauseNode("where");
+        where.appendNode(WhitespaceNode.of(" "));
+        ParensNode seek = createParensNode();
+        appendSeekCondition(seek, columns);
+        seek.close();
+        WhereClauseNode originalWhere = node.getWhereClauseNode();
+        if (originalWhere != null) {
+            ParensNode originalConditions = createParensNode();
+            for (SqlNode child : originalWhere.getChildren()) {
+                originalConditions.appendNode(child);
+            }
+            originalConditions.close();
+            where.appendNode(originalConditions);
+            where.appendNode(WhitespaceNode.of(" "));
+            LogicalOperatorNode and = new LogicalOperatorNode("and");
+            and.appendNode(WhitespaceNode.of(" "));
+            and.appendNode(seek);
+            where.appendNode(and);
+        } else {
+            where.appendNode(seek);
+        }
+        where.appendNode(WhitespaceNode.of(" "));
+
+        SelectStatementNode result = new SelectStatementNode();
+        result.setSelectClauseNode(node.getSelectClauseNode());
+        result.setFromClauseNode(node.getFromClauseNode());
+        result.setWhereClauseNode(where);
+        result.setGroupByClauseNode(node.getGroupByClauseNode());
+        result.setHavingClauseNode(node.getHavingClauseNode());
+        result.setOrderByClauseNode(node.getOrderByClauseNode());
+        result.setForUpdateClauseNode(node.getForUpdateClauseNode());
+        return result;
+    }
+
+    /**
+     * 指定された行より後ろの行だけを検索する条件を追加します。
+     * 
+     * @param node
+     *            追加先のノード
+     * @param columns
+     *            キーとなる列
+     */
+    protected void appendSeekCondition(AppendableSqlNode node,
+            List<KeysetColumn> columns) {
+        KeysetColumn first = columns.get(0);
+        if (columns.size() == 1) {
+            appendComparison(node, first, 0, first.isDescending() ? " < "
+                    : " > ");
+            return;
+        }
+        appendComparison(node, first, 0, first.isDescending() ? " <= "
+                : " >= ");
+        node.appendNode(new FragmentNode(" and ("));
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                node.appendNode(new FragmentNode(" or "));
+            }
+            for (int j = 0; j < i; j++) {
+                appendComparison(node, columns.get(j), j, " = ");
+                node.appendNode(new FragmentNode(" and "));
+            }
+            KeysetColumn column = columns.get(i);
+            appendComparison(node, column, i, column.isDescending() ? " < "
+                    : " > ");
+        }
+        node.appendNode(new FragmentNode(")"));
+    }
+
+    protected void appendComparison(AppendableSqlNode node, KeysetColumn column,
+            int index, String operator) {
+        node.appendNode(new FragmentNode(column.getName() + operator));
+        node.appendNode(createBindVariableNode(index));
+    }
+
+    protected ParensNode createParensNode() {
+        ParensNode parensNode = new ParensNode(LOCATION);
+        parensNode.setEmpty(false);
+        return parensNode;
+    }
+
+    protected BindVariableNode createBindVariableNode(int index) {
+        String name = KEYSET_PARAMETER_NAME_PREFIX + index;
+        BindVariableNode node = new BindVariableNode(LOCATION, name, "/*"
+                + name + "*/");
+        node.setWordNode(new WordNode("?"));
+        return node;
+    }
+
+    @Override
+    protected SqlNode defaultAction(SqlNode node, Void p) {
+        return node;
+    }
+}
@@ -15,17 +15,21 @@
  */
 package org.seasar.doma.internal.jdbc.dialect;
 
+import static org.seasar.doma.internal.Constants.OFFSET_LIMIT_PARAMETER_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_PARAMETER_NAME;
 import static org.seasar.doma.internal.Constants.ROWNUMBER_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
 
 import org.seasar.doma.internal.jdbc.sql.SimpleSqlNodeVisitor;
 import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
+import org.seasar.doma.internal.jdbc.sql.node.BindVariableNode;
 import org.seasar.doma.internal.jdbc.sql.node.ForUpdateClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
 import org.seasar.doma.internal.jdbc.sql.node.FromClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.SqlLocation;
 import org.seasar.doma.internal.jdbc.sql.node.WhereClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.WordNode;
 import org.seasar.doma.jdbc.JdbcException;
@@ -39,6 +43,8 @@ import org.seasar.doma.message.Message;
 public class StandardPagingTransformer extends
         SimpleSqlNodeVisitor<SqlNode, Void> {
 
+    protected static final SqlLocation LOCATION = new SqlLocation("", 0, 0);
+
     protected final long offset;
 
     protected final long limit;
@@ -108,15 +114,15 @@ public class StandardPagingTransformer extends
         where.appendNode(new FragmentNode(" "));
         if (offset >= 0) {
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " > "));
-            where.appendNode(new FragmentNode(String.valueOf(offset)));
+            where.appendNode(createBindVariableNode(OFFSET_PARAMETER_NAME));
         }
         if (limit > 0) {
             if (offset >= 0) {
                 where.appendNode(new FragmentNode(" and "));
             }
-            long bias = offset < 0 ? 0 : offset;
             where.appendNode(new FragmentNode(ROWNUMBER_COLUMN_NAME + " <= "));
-            where.appendNode(new FragmentNode(String.valueOf(bias + limit)));
+            where.appendNode(
+                    createBindVariableNode(OFFSET_LIMIT_PARAMETER_NAME));
         }
         ForUpdateClauseNode forUpdate = node.getForUpdateClauseNode();
         if (forUpdate != null) {
@@ -130,6 +136,23 @@ public class StandardPagingTransformer extends
         return result;
     }
 
+    /**
+     * オフセットやリミットをバインドするノードを作成します。
+     * <p>
+     * バインドする値は、{@code name} をパラメータ名として呼び出し側が提供しなければいけません。
+     * 
+     * @param name
+     *            パラメータ名
+     * @return バインド変数ノード
+     * @since 2.0.2
+     */
+    protected BindVariableNode createBindVariableNode(String name) {
+        BindVariableNode node = new BindVariableNode(LOCATION, name, "/*"
+                + name + "*/");
+        node.setWordNode(new WordNode("?"));
+        return node;
+    }
+
     @Override
     protected SqlNode defaultAction(SqlNode node, Void p) {
         return node;
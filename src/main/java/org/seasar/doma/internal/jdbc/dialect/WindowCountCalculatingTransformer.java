@@ -0,0 +1,133 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import static org.seasar.doma.internal.Constants.COUNT_COLUMN_NAME;
+
+import org.seasar.doma.internal.jdbc.sql.node.FragmentNode;
+import org.seasar.doma.internal.jdbc.sql.node.FromClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.OrderByClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.OtherNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectClauseNode;
+import org.seasar.doma.internal.jdbc.sql.node.SelectStatementNode;
+import org.seasar.doma.internal.jdbc.sql.node.WhitespaceNode;
+import org.seasar.doma.internal.jdbc.sql.node.WordNode;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * select 句に {@code count(*) over()} を追加し、検索と同じSQLで集計を取得できるように変換します。
+ * <p>
+ * {@code distinct} が指定されている場合や、 select 句が {@code *} のみの場合は、元のSQLを副問い合わせにします。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class WindowCountCalculatingTransformer extends
+        StandardCountCalculatingTransformer {
+
+    @Override
+    public SqlNode visitSelectStatementNode(SelectStatementNode node, Void p) {
+        if (processed) {
+            return node;
+        }
+        processed = true;
+
+        SelectClauseNode originalSelect = node.getSelectClauseNode();
+        if (isSubqueryRequired(originalSelect)) {
+            return createWrappedStatement(node);
+        }
+
+        SelectClauseNode select = new SelectClauseNode(
+                originalSelect.getWordNode());
+        for (SqlNode child : originalSelect.getChildren()) {
+            select.appendNode(child);
+        }
+        select.appendNode(new FragmentNode(", count(*) over() as "
+                + COUNT_COLUMN_NAME + " "));
+
+        SelectStatementNode result = new SelectStatementNode();
+        result.setSelectClauseNode(select);
+        result.setFromClauseNode(node.getFromClauseNode());
+        result.setWhereClauseNode(node.getWhereClauseNode());
+        result.setGroupByClauseNode(node.getGroupByClauseNode());
+        result.setHavingClauseNode(node.getHavingClauseNode());
+        result.setOrderByClauseNode(node.getOrderByClauseNode());
+        result.setForUpdateClauseNode(node.getForUpdateClauseNode());
+        return result;
+    }
+
+    protected boolean isSubqueryRequired(SelectClauseNode select) {
+        boolean asteriskOnly = false;
+        for (SqlNode child : select.getChildren()) {
+            if (child instanceof WhitespaceNode) {
+                continue;
+            }
+            if (child instanceof WordNode) {
+                String word = ((WordNode) child).getWord();
+                if (word.equalsIgnoreCase("distinct")) {
+                    return true;
+                }
+            } else if (child instanceof OtherNode
+                    && ((OtherNode) child).getOther().equals("*")
+                    && !asteriskOnly) {
+                asteriskOnly = true;
+                continue;
+            }
+            return false;
+        }
+        return asteriskOnly;
+    }
+
+    protected SqlNode createWrappedStatement(SelectStatementNode node) {
+        SelectStatementNode subStatement = new SelectStatementNode();
+        subStatement.setSelectClauseNode(node.getSelectClauseNode());
+        subStatement.setFromClauseNode(node.getFromClauseNode());
+        subStatement.setWhereClauseNode(node.getWhereClauseNode());
+        subStatement.setGroupByClauseNode(node.getGroupByClauseNode());
+        subStatement.setHavingClauseNode(node.getHavingClauseNode());
+
+        SelectClauseNode select = new SelectClauseNode("select");
+        select.appendNode(new FragmentNode(" temp_.*, count(*) over() as "
+                + COUNT_COLUMN_NAME + " "));
+        FromClauseNode from = new FromClauseNode("from");
+        from.appendNode(new FragmentNode(" ( "));
+        from.appendNode(subStatement);
+        from.appendNode(new FragmentNode(") temp_ "));
+
+        SelectStatementNode result = new SelectStatementNode();
+        result.setSelectClauseNode(select);
+        result.setFromClauseNode(from);
+        OrderByClauseNode originalOrderBy = node.getOrderByClauseNode();
+        if (originalOrderBy != null) {
+            OrderByClauseNode orderBy = new OrderByClauseNode(
+                    originalOrderBy.getWordNode());
+            for (SqlNode child : originalOrderBy.getChildren()) {
+                if (child instanceof WordNode) {
+                    String word = ((WordNode) child).getWord();
+                    String[] names = word.split("\\.");
+                    if (names.length == 2) {
+                        orderBy.appendNode(new WordNode("temp_." + names[1]));
+                        continue;
+                    }
+                }
+                orderBy.appendNode(child);
+            }
+            result.setOrderByClauseNode(orderBy);
+        }
+        result.setForUpdateClauseNode(node.getForUpdateClauseNode());
+        return result;
+    }
+}
@@ -18,6 +18,8 @@ package org.seasar.doma.internal.jdbc.scalar;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Array;
@@ -31,6 +33,13 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.seasar.doma.Domain;
@@ -51,6 +60,7 @@ import org.seasar.doma.wrapper.DateWrapper;
 import org.seasar.doma.wrapper.DoubleWrapper;
 import org.seasar.doma.wrapper.EnumWrapper;
 import org.seasar.doma.wrapper.FloatWrapper;
+import org.seasar.doma.wrapper.InputStreamWrapper;
 import org.seasar.doma.wrapper.IntegerWrapper;
 import org.seasar.doma.wrapper.LocalDateTimeWrapper;
 import org.seasar.doma.wrapper.LocalDateWrapper;
@@ -58,6 +68,7 @@ import org.seasar.doma.wrapper.LocalTimeWrapper;
 import org.seasar.doma.wrapper.LongWrapper;
 import org.seasar.doma.wrapper.NClobWrapper;
 import org.seasar.doma.wrapper.ObjectWrapper;
+import org.seasar.doma.wrapper.ReaderWrapper;
 import org.seasar.doma.wrapper.SQLXMLWrapper;
 import org.seasar.doma.wrapper.ShortWrapper;
 import org.seasar.doma.wrapper.StringWrapper;
@@ -74,29 +85,57 @@ import org.seasar.doma.wrapper.Wrapper;
  */
 public final class Scalars {
 
+    /** 基本型（ただし列挙型を除く）のクラスをキー、ラッパーのファクトリを値とするマップ */
+    private static final Map<Class<?>, Function<Object, Wrapper<?>>> wrapperFactories = createWrapperFactories();
+
+    /** 値クラスごとの {@link ScalarFactory} のキャッシュ */
+    private static final ClassValue<ScalarFactory> scalarFactories = new ClassValue<ScalarFactory>() {
+
+        @Override
+        protected ScalarFactory computeValue(Class<?> valueClass) {
+            return createScalarFactory(valueClass);
+        }
+    };
+
     public static Supplier<Scalar<?, ?>> wrap(Object value,
             Class<?> valueClass, boolean optional, ClassHelper classHelper) {
         assertNotNull(valueClass, classHelper);
+        assertTrue(value == null
+                || ClassUtil.toBoxedPrimitiveTypeIfPossible(valueClass)
+                        .isInstance(value));
+
+        Supplier<Scalar<?, ?>> result = scalarFactories.get(valueClass)
+                .create(value, optional, classHelper);
+        if (result == null) {
+            throw new ScalarException(Message.DOMA1007, valueClass.getName(),
+                    value);
+        }
+        return result;
+    }
+
+    /**
+     * 値クラスに対応する {@link ScalarFactory} を作成します。
+     * <p>
+     * 型の判定は値クラスごとに1度だけ行われ、結果は {@link #scalarFactories} にキャッシュされます。
+     * 
+     * @param valueClass
+     *            値クラス
+     * @return {@link ScalarFactory}
+     */
+    protected static ScalarFactory createScalarFactory(Class<?> valueClass) {
+        boolean primitive = valueClass.isPrimitive();
         Class<?> boxedClass = ClassUtil
                 .toBoxedPrimitiveTypeIfPossible(valueClass);
-        assertTrue(value == null || boxedClass.isInstance(value));
-
         if (Scalar.class.isAssignableFrom(boxedClass)) {
-            return () -> (Scalar<?, ?>) value;
+            return (value, optional, classHelper) -> () -> (Scalar<?, ?>) value;
         }
-        Supplier<Scalar<?, ?>> result = wrapBasicObject(value, boxedClass,
-                optional, valueClass.isPrimitive());
-        if (result == null) {
-            result = wrapDomainObject(value, boxedClass, optional, classHelper);
-            if (result == null) {
-                result = wrapEnumObject(value, boxedClass, optional);
-                if (result == null) {
-                    throw new ScalarException(Message.DOMA1007,
-                            valueClass.getName(), value);
-                }
-            }
+        Function<Object, Wrapper<?>> wrapperFactory = wrapperFactories
+                .get(boxedClass);
+        if (wrapperFactory != null) {
+            return (value, optional, classHelper) -> createBasicScalarSupplier(
+                    () -> wrapperFactory.apply(value), optional, primitive);
         }
-        return result;
+        return new DomainOrEnumScalarFactory(boxedClass);
     }
 
     /**
@@ -115,138 +154,61 @@ public final class Scalars {
     protected static Supplier<Scalar<?, ?>> wrapBasicObject(Object value,
             Class<?> valueClass, boolean optional, boolean primitive) {
         assertNotNull(valueClass);
-        if (valueClass == String.class) {
-            Supplier<Wrapper<String>> supplier = () -> new StringWrapper(
-                    (String) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Integer.class) {
-            Supplier<Wrapper<Integer>> supplier = () -> new IntegerWrapper(
-                    (Integer) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Long.class) {
-            Supplier<Wrapper<Long>> supplier = () -> new LongWrapper(
-                    (Long) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == BigDecimal.class) {
-            Supplier<Wrapper<BigDecimal>> supplier = () -> new BigDecimalWrapper(
-                    (BigDecimal) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == java.util.Date.class) {
-            Supplier<Wrapper<java.util.Date>> supplier = () -> new UtilDateWrapper(
-                    (java.util.Date) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == LocalDate.class) {
-            Supplier<Wrapper<LocalDate>> supplier = () -> new LocalDateWrapper(
-                    (LocalDate) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == LocalTime.class) {
-            Supplier<Wrapper<LocalTime>> supplier = () -> new LocalTimeWrapper(
-                    (LocalTime) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == LocalDateTime.class) {
-            Supplier<Wrapper<LocalDateTime>> supplier = () -> new LocalDateTimeWrapper(
-                    (LocalDateTime) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Date.class) {
-            Supplier<Wrapper<Date>> supplier = () -> new DateWrapper(
-                    (Date) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Timestamp.class) {
-            Supplier<Wrapper<Timestamp>> supplier = () -> new TimestampWrapper(
-                    (Timestamp) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Time.class) {
-            Supplier<Wrapper<Time>> supplier = () -> new TimeWrapper(
-                    (Time) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Boolean.class) {
-            Supplier<Wrapper<Boolean>> supplier = () -> new BooleanWrapper(
-                    (Boolean) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Array.class) {
-            Supplier<Wrapper<Array>> supplier = () -> new ArrayWrapper(
-                    (Array) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == BigInteger.class) {
-            Supplier<Wrapper<BigInteger>> supplier = () -> new BigIntegerWrapper(
-                    (BigInteger) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Blob.class) {
-            Supplier<Wrapper<Blob>> supplier = () -> new BlobWrapper(
-                    (Blob) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == byte[].class) {
-            Supplier<Wrapper<byte[]>> supplier = () -> new BytesWrapper(
-                    (byte[]) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Byte.class) {
-            Supplier<Wrapper<Byte>> supplier = () -> new ByteWrapper(
-                    (Byte) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Clob.class) {
-            Supplier<Wrapper<Clob>> supplier = () -> new ClobWrapper(
-                    (Clob) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Double.class) {
-            Supplier<Wrapper<Double>> supplier = () -> new DoubleWrapper(
-                    (Double) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Float.class) {
-            Supplier<Wrapper<Float>> supplier = () -> new FloatWrapper(
-                    (Float) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == NClob.class) {
-            Supplier<Wrapper<NClob>> supplier = () -> new NClobWrapper(
-                    (NClob) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Short.class) {
-            Supplier<Wrapper<Short>> supplier = () -> new ShortWrapper(
-                    (Short) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == SQLXML.class) {
-            Supplier<Wrapper<SQLXML>> supplier = () -> new SQLXMLWrapper(
-                    (SQLXML) value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
-        }
-        if (valueClass == Object.class) {
-            Supplier<Wrapper<Object>> supplier = () -> new ObjectWrapper(value);
-            return createBasicScalarSupplier(supplier, optional, primitive);
+        Function<Object, Wrapper<?>> wrapperFactory = wrapperFactories
+                .get(valueClass);
+        if (wrapperFactory == null) {
+            return null;
         }
-        return null;
+        return createBasicScalarSupplier(() -> wrapperFactory.apply(value),
+                optional, primitive);
     }
 
-    protected static <BASIC> Supplier<Scalar<?, ?>> createBasicScalarSupplier(
-            Supplier<Wrapper<BASIC>> wrapperSupplier, boolean optional,
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    protected static Supplier<Scalar<?, ?>> createBasicScalarSupplier(
+            Supplier<Wrapper<?>> wrapperSupplier, boolean optional,
             boolean primitive) {
+        Supplier supplier = wrapperSupplier;
         if (optional) {
-            return () -> new OptionalBasicScalar<BASIC>(wrapperSupplier);
+            return () -> new OptionalBasicScalar(supplier);
         } else {
-            return () -> new BasicScalar<BASIC>(wrapperSupplier, primitive);
+            return () -> new BasicScalar(supplier, primitive);
         }
     }
 
+    private static Map<Class<?>, Function<Object, Wrapper<?>>> createWrapperFactories() {
+        Map<Class<?>, Function<Object, Wrapper<?>>> map = new HashMap<>();
+        map.put(String.class, v -> new StringWrapper((String) v));
+        map.put(Integer.class, v -> new IntegerWrapper((Integer) v));
+        map.put(Long.class, v -> new LongWrapper((Long) v));
+        map.put(BigDecimal.class, v -> new BigDecimalWrapper((BigDecimal) v));
+        map.put(java.util.Date.class, v -> new UtilDateWrapper(
+                (java.util.Date) v));
+        map.put(LocalDate.class, v -> new LocalDateWrapper((LocalDate) v));
+        map.put(LocalTime.class, v -> new LocalTimeWrapper((LocalTime) v));
+        map.put(LocalDateTime.class, v -> new LocalDateTimeWrapper(
+                (LocalDateTime) v));
+        map.put(Date.class, v -> new DateWrapper((Date) v));
+        map.put(Timestamp.class, v -> new TimestampWrapper((Timestamp) v));
+        map.put(Time.class, v -> new TimeWrapper((Time) v));
+        map.put(Boolean.class, v -> new BooleanWrapper((Boolean) v));
+        map.put(Array.class, v -> new ArrayWrapper((Array) v));
+        map.put(BigInteger.class, v -> new BigIntegerWrapper((BigInteger) v));
+        map.put(Blob.class, v -> new BlobWrapper((Blob) v));
+        map.put(byte[].class, v -> new BytesWrapper((byte[]) v));
+        map.put(Byte.class, v -> new ByteWrapper((Byte) v));
+        map.put(Clob.class, v -> new ClobWrapper((Clob) v));
+        map.put(InputStream.class, v -> new InputStreamWrapper(
+                (InputStream) v));
+        map.put(Reader.class, v -> new ReaderWrapper((Reader) v));
+        map.put(Double.class, v -> new DoubleWrapper((Double) v));
+        map.put(Float.class, v -> new FloatWrapper((Float) v));
+        map.put(NClob.class, v -> new NClobWrapper((NClob) v));
+        map.put(Short.class, v -> new ShortWrapper((Short) v));
+        map.put(SQLXML.class, v -> new SQLXMLWrapper((SQLXML) v));
+        map.put(Object.class, v -> new ObjectWrapper(v));
+        return Collections.unmodifiableMap(map);
+    }
+
     /**
      * 列挙型の値をラップします。
      * 
@@ -274,6 +236,27 @@ public final class Scalars {
         return null;
     }
 
+    /**
+     * ドメインクラスのメタタイプを取得します。
+     * 
+     * @param <BASIC>
+     *            基本型
+     * @param <DOMAIN>
+     *            ドメイン型
+     * @param valueClass
+     *            値クラス
+     * @param classHelper
+     *            クラスヘルパー
+     * @return ドメインのメタタイプ、値クラスがドメインクラスでない場合 {@code null}
+     */
+    protected static <BASIC, DOMAIN> DomainType<BASIC, DOMAIN> getDomainType(
+            Class<DOMAIN> valueClass, ClassHelper classHelper) {
+        if (valueClass.isAnnotationPresent(Domain.class)) {
+            return DomainTypeFactory.getDomainType(valueClass, classHelper);
+        }
+        return DomainTypeFactory.getExternalDomainType(valueClass, classHelper);
+    }
+
     /**
      * ドメインクラスのオブジェクトをラップします。
      * 
@@ -283,28 +266,17 @@ public final class Scalars {
      *            ドメイン型
      * @param value
      *            値
+     * @param domainType
+     *            ドメインのメタタイプ
      * @param valueClass
      *            値クラス
      * @param optional
      *            オプション型かどうか
-     * @param classHelper
-     *            クラスヘルパー
-     * @return ラッパー、値がドメインクラスのオブジェクトでない場合 {@code null}
+     * @return ラッパー
      */
     protected static <BASIC, DOMAIN> Supplier<Scalar<?, ?>> wrapDomainObject(
-            Object value, Class<DOMAIN> valueClass, boolean optional,
-            ClassHelper classHelper) {
-        DomainType<BASIC, DOMAIN> domainType;
-        if (valueClass.isAnnotationPresent(Domain.class)) {
-            domainType = DomainTypeFactory.getDomainType(valueClass,
-                    classHelper);
-        } else {
-            domainType = DomainTypeFactory.getExternalDomainType(valueClass,
-                    classHelper);
-        }
-        if (domainType == null) {
-            return null;
-        }
+            Object value, DomainType<BASIC, DOMAIN> domainType,
+            Class<DOMAIN> valueClass, boolean optional) {
         DOMAIN domain = valueClass.cast(value);
         if (optional) {
             return () -> domainType.createOptionalScalar(domain);
@@ -312,4 +284,63 @@ public final class Scalars {
             return () -> domainType.createScalar(domain);
         }
     }
+
+    /**
+     * 値から {@link Scalar} のサプライヤを作成するファクトリです。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    @FunctionalInterface
+    protected interface ScalarFactory {
+
+        /**
+         * {@link Scalar} のサプライヤを作成します。
+         * 
+         * @param value
+         *            値
+         * @param optional
+         *            オプション型かどうか
+         * @param classHelper
+         *            クラスヘルパー
+         * @return サプライヤ、値をラップできない場合 {@code null}
+         */
+        Supplier<Scalar<?, ?>> create(Object value, boolean optional,
+                ClassHelper classHelper);
+    }
+
+    /**
+     * ドメインクラスもしくは列挙型の値をラップする {@link ScalarFactory} です。
+     * <p>
+     * ドメインのメタタイプの検索は {@link ClassHelper} ごとに1度だけ行われます。
+     * {@link ClassHelper} によってはドメインのメタタイプを読み込めるクラスが異なるため、
+     * 検索結果は {@link ClassHelper} ごとに保持します。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    protected static class DomainOrEnumScalarFactory implements ScalarFactory {
+
+        protected final Class<?> valueClass;
+
+        protected final ConcurrentMap<ClassHelper, Optional<DomainType<?, ?>>> domainTypes = new ConcurrentHashMap<>();
+
+        protected DomainOrEnumScalarFactory(Class<?> valueClass) {
+            this.valueClass = valueClass;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        public Supplier<Scalar<?, ?>> create(Object value, boolean optional,
+                ClassHelper classHelper) {
+            Optional<DomainType<?, ?>> domainType = domainTypes.computeIfAbsent(
+                    classHelper,
+                    k -> Optional.ofNullable(getDomainType(valueClass, k)));
+            if (domainType.isPresent()) {
+                return wrapDomainObject(value, (DomainType) domainType.get(),
+                        (Class) valueClass, optional);
+            }
+            return wrapEnumObject(value, valueClass, optional);
+        }
+    }
 }
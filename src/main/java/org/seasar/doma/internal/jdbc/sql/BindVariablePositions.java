@@ -0,0 +1,117 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.seasar.doma.jdbc.SqlLogFormattingFunction;
+import org.seasar.doma.jdbc.SqlLogFormattingVisitor;
+
+/**
+ * 生のSQLにおけるバインド変数のプレースホルダ {@code ?} の位置です。
+ * <p>
+ * ログ用のSQLはこの位置をもとに生のSQLとバインド変数から必要になった時点で組み立てられます。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class BindVariablePositions {
+
+    protected int[] positions = new int[8];
+
+    protected int size;
+
+    /**
+     * プレースホルダの位置を追加します。
+     * 
+     * @param position
+     *            生のSQLにおけるプレースホルダの位置
+     */
+    public void add(int position) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size << 1);
+        }
+        positions[size++] = position;
+    }
+
+    /**
+     * 別のSQLの断片に含まれるプレースホルダの位置を追加します。
+     * 
+     * @param other
+     *            別のSQLの断片におけるプレースホルダの位置
+     * @param offset
+     *            断片が追加される位置
+     */
+    public void addAll(BindVariablePositions other, int offset) {
+        assertNotNull(other);
+        for (int i = 0; i < other.size; i++) {
+            add(other.positions[i] + offset);
+        }
+    }
+
+    /**
+     * 生のSQLが切り詰められたことを通知します。
+     * 
+     * @param length
+     *            切り詰められた後の生のSQLの長さ
+     */
+    public void cutBack(int length) {
+        while (size > 0 && positions[size - 1] >= length) {
+            size--;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * ログ用のSQLを組み立てます。
+     * 
+     * @param rawSql
+     *            生のSQL
+     * @param parameters
+     *            プレースホルダと同じ順序で並んだパラメータ
+     * @param formattingVisitor
+     *            ログ用のフォーマットへ変換するビジター
+     * @param formattingFunction
+     *            ログ用のフォーマットへ変換する関数
+     * @return ログ用のSQL
+     */
+    public String format(String rawSql,
+            List<? extends InParameter<?>> parameters,
+            SqlLogFormattingVisitor formattingVisitor,
+            SqlLogFormattingFunction formattingFunction) {
+        assertNotNull(rawSql, parameters, formattingVisitor,
+                formattingFunction);
+        assertTrue(size <= parameters.size());
+        StringBuilder buf = new StringBuilder(rawSql.length() + size * 8);
+        int start = 0;
+        for (int i = 0; i < size; i++) {
+            int position = positions[i];
+            buf.append(rawSql, start, position);
+            buf.append(parameters.get(i).getWrapper()
+                    .accept(formattingVisitor, formattingFunction, null));
+            start = position + 1;
+        }
+        buf.append(rawSql, start, rawSql.length());
+        return buf.toString();
+    }
+}
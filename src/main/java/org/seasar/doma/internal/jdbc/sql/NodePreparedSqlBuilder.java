@@ -30,7 +30,6 @@ import java.util.regex.Pattern;
 import org.seasar.doma.internal.expr.EvaluationResult;
 import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.expr.ExpressionException;
-import org.seasar.doma.internal.expr.ExpressionParser;
 import org.seasar.doma.internal.expr.Value;
 import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.internal.jdbc.scalar.Scalar;
@@ -40,6 +39,7 @@ import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.internal.jdbc.sql.node.BindVariableNode;
 import org.seasar.doma.internal.jdbc.sql.node.ClauseNode;
 import org.seasar.doma.internal.jdbc.sql.node.CommentNode;
+import org.seasar.doma.internal.jdbc.sql.node.CompiledExpression;
 import org.seasar.doma.internal.jdbc.sql.node.ElseNode;
 import org.seasar.doma.internal.jdbc.sql.node.ElseifNode;
 import org.seasar.doma.internal.jdbc.sql.node.EmbeddedVariableNode;
@@ -70,6 +70,7 @@ import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlLogFormattingFunction;
+import org.seasar.doma.jdbc.SqlLogFormattingVisitor;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.SqlNode;
 import org.seasar.doma.jdbc.SqlNodeVisitor;
@@ -135,9 +136,16 @@ public class NodePreparedSqlBuilder implements
         assertNotNull(sqlNode);
         Context context = new Context(config, evaluator);
         sqlNode.accept(this, context);
-        return new PreparedSql(kind, context.getSqlBuf(),
-                context.getFormattedSqlBuf(), sqlFilePath,
-                context.getParameters(), sqlLogType);
+        String rawSql = context.getSqlBuf().toString();
+        BindVariablePositions positions = context.getPositions();
+        List<InParameter<?>> parameters = context.getParameters();
+        SqlLogFormattingVisitor formattingVisitor = config.getDialect()
+                .getSqlLogFormattingVisitor();
+        SqlLogFormattingFunction formattingFunction = context
+                .getFormattingFunction();
+        return new PreparedSql(kind, rawSql, () -> positions.format(rawSql,
+                parameters, formattingVisitor, formattingFunction),
+                sqlFilePath, parameters, sqlLogType);
     }
 
     @Override
@@ -153,7 +161,6 @@ public class NodePreparedSqlBuilder implements
         p.setAvailable(true);
         String other = node.getOther();
         p.appendRawSql(other);
-        p.appendFormattedSql(other);
         return null;
     }
 
@@ -161,7 +168,6 @@ public class NodePreparedSqlBuilder implements
     public Void visitWhitespaceNode(WhitespaceNode node, Context p) {
         String whitespace = node.getWhitespace();
         p.appendRawSql(whitespace);
-        p.appendFormattedSql(whitespace);
         return null;
     }
 
@@ -169,15 +175,14 @@ public class NodePreparedSqlBuilder implements
     public Void visitCommentNode(CommentNode node, Context p) {
         String comment = node.getComment();
         p.appendRawSql(comment);
-        p.appendFormattedSql(comment);
         return null;
     }
 
     @Override
     public Void visitBindVariableNode(BindVariableNode node, Context p) {
         SqlLocation location = node.getLocation();
-        String name = node.getVariableName();
-        EvaluationResult result = p.evaluate(location, name);
+        EvaluationResult result = p.evaluate(location,
+                node.getCompiledExpression());
         Object value = result.getValue();
         Class<?> valueClass = result.getValueClass();
         p.setAvailable(true);
@@ -206,8 +211,8 @@ public class NodePreparedSqlBuilder implements
     @Override
     public Void visitEmbeddedVariableNode(EmbeddedVariableNode node, Context p) {
         SqlLocation location = node.getLocation();
-        String name = node.getVariableName();
-        EvaluationResult result = p.evaluate(location, name);
+        EvaluationResult result = p.evaluate(location,
+                node.getCompiledExpression());
         Object value = result.getValue();
         if (value != null) {
             String fragment = value.toString();
@@ -235,7 +240,6 @@ public class NodePreparedSqlBuilder implements
                 p.setAvailable(true);
             }
             p.appendRawSql(fragment);
-            p.appendFormattedSql(fragment);
         }
         for (SqlNode child : node.getChildren()) {
             child.accept(this, p);
@@ -271,15 +275,12 @@ public class NodePreparedSqlBuilder implements
                     node.getText(), v, v.getClass());
             p.addBindValue(supplier.get());
             p.appendRawSql(", ");
-            p.appendFormattedSql(", ");
             index++;
         }
         if (index == 0) {
             p.appendRawSql("null");
-            p.appendFormattedSql("null");
         } else {
             p.cutBackSqlBuf(2);
-            p.cutBackFormattedSqlBuf(2);
         }
     }
 
@@ -298,8 +299,8 @@ public class NodePreparedSqlBuilder implements
     protected boolean handleIfNode(IfBlockNode node, Context p) {
         IfNode ifNode = node.getIfNode();
         SqlLocation location = ifNode.getLocation();
-        String expression = ifNode.getExpression();
-        EvaluationResult ifResult = p.evaluate(location, expression);
+        EvaluationResult ifResult = p.evaluate(location,
+                ifNode.getCompiledExpression());
         if (ifResult.getBooleanValue()) {
             ifNode.accept(this, p);
             return true;
@@ -310,8 +311,8 @@ public class NodePreparedSqlBuilder implements
     protected boolean handleElseifNode(IfBlockNode node, Context p) {
         for (ElseifNode elseifNode : node.getElseifNodes()) {
             SqlLocation location = elseifNode.getLocation();
-            String expression = elseifNode.getExpression();
-            EvaluationResult elseifResult = p.evaluate(location, expression);
+            EvaluationResult elseifResult = p.evaluate(location,
+                    elseifNode.getCompiledExpression());
             if (elseifResult.getBooleanValue()) {
                 elseifNode.accept(this, p);
                 return true;
@@ -364,7 +365,7 @@ public class NodePreparedSqlBuilder implements
         ForNode forNode = node.getForNode();
         SqlLocation location = forNode.getLocation();
         EvaluationResult expressionResult = p.evaluate(location,
-                forNode.getExpression());
+                forNode.getCompiledExpression());
         Object expressionValue = expressionResult.getValue();
         Class<?> expressionValueClass = expressionResult.getValueClass();
         if (!Iterable.class.isAssignableFrom(expressionValueClass)) {
@@ -500,16 +501,12 @@ public class NodePreparedSqlBuilder implements
         if (context.isAvailable()) {
             node.getWordNode().accept(this, p);
             p.setAvailable(true);
-            p.appendRawSql(context.getSqlBuf());
-            p.appendFormattedSql(context.getFormattedSqlBuf());
-            p.addAllParameters(context.getParameters());
+            p.appendContext(context);
         } else {
             String fragment = context.getSqlBuf().toString();
             if (startsWithClauseKeyword(fragment)) {
                 p.setAvailable(true);
-                p.appendRawSql(context.getSqlBuf());
-                p.appendFormattedSql(context.getFormattedSqlBuf());
-                p.addAllParameters(context.getParameters());
+                p.appendContext(context);
             }
         }
     }
@@ -531,7 +528,6 @@ public class NodePreparedSqlBuilder implements
         p.setAvailable(true);
         String word = node.getWord();
         p.appendRawSql(word);
-        p.appendFormattedSql(word);
         return null;
     }
 
@@ -540,7 +536,6 @@ public class NodePreparedSqlBuilder implements
         p.setAvailable(true);
         String fragment = node.getFragment();
         p.appendRawSql(fragment);
-        p.appendFormattedSql(fragment);
         return null;
     }
 
@@ -559,9 +554,7 @@ public class NodePreparedSqlBuilder implements
         if (context.isAvailable()) {
             node.getOpenedFragmentNode().accept(this, p);
             p.setAvailable(true);
-            p.appendRawSql(context.getSqlBuf());
-            p.appendFormattedSql(context.getFormattedSqlBuf());
-            p.addAllParameters(context.getParameters());
+            p.appendContext(context);
             node.getClosedFragmentNode().accept(this, p);
         }
         return null;
@@ -571,14 +564,13 @@ public class NodePreparedSqlBuilder implements
     public Void visitEolNode(EolNode node, Context p) {
         String eol = node.getEol();
         p.appendRawSql(eol);
-        p.appendFormattedSql(eol);
         return null;
     }
 
     @Override
     public Void visitExpandNode(ExpandNode node, Context p) {
         EvaluationResult evalResult = p.evaluate(node.getLocation(),
-                node.getAlias());
+                node.getCompiledExpression());
         String alias = evalResult.getValue().toString();
         String prefix = alias.isEmpty() ? "" : alias + ".";
         StringJoiner joiner = new StringJoiner(", ");
@@ -587,7 +579,6 @@ public class NodePreparedSqlBuilder implements
         }
         String joined = joiner.toString();
         p.appendRawSql(joined);
-        p.appendFormattedSql(joined);
         return null;
     }
 
@@ -613,7 +604,7 @@ public class NodePreparedSqlBuilder implements
 
         private final StringBuilder rawSqlBuf = new StringBuilder(200);
 
-        private final StringBuilder formattedSqlBuf = new StringBuilder(200);
+        private final BindVariablePositions positions = new BindVariablePositions();
 
         private final List<InParameter<?>> parameters = new ArrayList<>();
 
@@ -632,44 +623,40 @@ public class NodePreparedSqlBuilder implements
             rawSqlBuf.append(sql);
         }
 
-        protected void appendFormattedSql(CharSequence sql) {
-            formattedSqlBuf.append(sql);
+        protected void appendContext(Context context) {
+            positions.addAll(context.positions, rawSqlBuf.length());
+            rawSqlBuf.append(context.rawSqlBuf);
+            parameters.addAll(context.parameters);
         }
 
         protected void cutBackSqlBuf(int size) {
             rawSqlBuf.setLength(rawSqlBuf.length() - size);
-        }
-
-        protected void cutBackFormattedSqlBuf(int size) {
-            formattedSqlBuf.setLength(formattedSqlBuf.length() - size);
+            positions.cutBack(rawSqlBuf.length());
         }
 
         protected CharSequence getSqlBuf() {
             return rawSqlBuf;
         }
 
-        protected CharSequence getFormattedSqlBuf() {
-            return formattedSqlBuf;
-        }
-
         protected <BASIC, CONTAINER> void addBindValue(
                 Scalar<BASIC, CONTAINER> scalar) {
             parameters.add(new ScalarInParameter<BASIC, CONTAINER>(scalar));
+            positions.add(rawSqlBuf.length());
             rawSqlBuf.append("?");
-            String formatted = scalar.getWrapper().accept(
-                    config.getDialect().getSqlLogFormattingVisitor(),
-                    formattingFunction, null);
-            formattedSqlBuf.append(formatted);
-        }
-
-        protected void addAllParameters(List<InParameter<?>> values) {
-            parameters.addAll(values);
         }
 
         protected List<InParameter<?>> getParameters() {
             return parameters;
         }
 
+        protected BindVariablePositions getPositions() {
+            return positions;
+        }
+
+        protected SqlLogFormattingFunction getFormattingFunction() {
+            return formattingFunction;
+        }
+
         void setAvailable(boolean available) {
             this.available = available;
         }
@@ -687,10 +674,9 @@ public class NodePreparedSqlBuilder implements
         }
 
         protected EvaluationResult evaluate(SqlLocation location,
-                String expression) {
+                CompiledExpression expression) {
             try {
-                ExpressionParser parser = new ExpressionParser(expression);
-                ExpressionNode expressionNode = parser.parse();
+                ExpressionNode expressionNode = expression.getExpressionNode();
                 return evaluator.evaluate(expressionNode);
             } catch (ExpressionException e) {
                 throw new JdbcException(Message.DOMA2111, e, location.getSql(),
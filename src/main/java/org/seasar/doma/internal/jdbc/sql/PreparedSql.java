@@ -17,6 +17,7 @@ package org.seasar.doma.internal.jdbc.sql;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.jdbc.Sql;
@@ -34,7 +35,9 @@ public class PreparedSql implements Sql<InParameter<?>> {
 
     protected final String rawSql;
 
-    protected final String formattedSql;
+    protected volatile String formattedSql;
+
+    protected volatile Supplier<String> formattedSqlSupplier;
 
     protected final String sqlFilePath;
 
@@ -68,6 +71,52 @@ public class PreparedSql implements Sql<InParameter<?>> {
         this.sqlLogType = sqlLogType;
     }
 
+    /**
+     * ログ用のSQLを遅延して組み立てるインスタンスを構築します。
+     * <p>
+     * {@code formattedSqlSupplier} は {@link #getFormattedSql()}
+     * が初めて呼び出された時点で一度だけ実行されます。
+     * 
+     * @param kind
+     *            SQLの種別
+     * @param rawSql
+     *            生のSQL
+     * @param formattedSqlSupplier
+     *            ログ用のSQLのサプライヤ
+     * @param sqlFilePath
+     *            SQLファイルのパス
+     * @param parameters
+     *            パラメータ
+     * @param sqlLogType
+     *            SQLのログの出力形式
+     * @since 2.0.2
+     */
+    public PreparedSql(SqlKind kind, CharSequence rawSql,
+            Supplier<String> formattedSqlSupplier, String sqlFilePath,
+            List<? extends InParameter<?>> parameters, SqlLogType sqlLogType) {
+        if (kind == null) {
+            throw new DomaNullPointerException("kind");
+        }
+        if (rawSql == null) {
+            throw new DomaNullPointerException("rawSql");
+        }
+        if (formattedSqlSupplier == null) {
+            throw new DomaNullPointerException("formattedSqlSupplier");
+        }
+        if (parameters == null) {
+            throw new DomaNullPointerException("parameters");
+        }
+        if (sqlLogType == null) {
+            throw new DomaNullPointerException("sqlLogType");
+        }
+        this.kind = kind;
+        this.rawSql = rawSql.toString().trim();
+        this.formattedSqlSupplier = formattedSqlSupplier;
+        this.sqlFilePath = sqlFilePath;
+        this.parameters = Collections.unmodifiableList(parameters);
+        this.sqlLogType = sqlLogType;
+    }
+
     @Override
     public SqlKind getKind() {
         return kind;
@@ -80,7 +129,17 @@ public class PreparedSql implements Sql<InParameter<?>> {
 
     @Override
     public String getFormattedSql() {
-        return formattedSql;
+        String sql = formattedSql;
+        if (sql == null) {
+            Supplier<String> supplier = formattedSqlSupplier;
+            if (supplier == null) {
+                return formattedSql;
+            }
+            sql = supplier.get().trim();
+            formattedSql = sql;
+            formattedSqlSupplier = null;
+        }
+        return sql;
     }
 
     @Override
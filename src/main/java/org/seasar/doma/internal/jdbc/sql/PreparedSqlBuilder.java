@@ -24,6 +24,7 @@ import org.seasar.doma.internal.jdbc.command.JdbcMappable;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlLogFormattingFunction;
+import org.seasar.doma.jdbc.SqlLogFormattingVisitor;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.wrapper.Wrapper;
 
@@ -33,7 +34,7 @@ public class PreparedSqlBuilder {
 
     protected final StringBuilder rawSql = new StringBuilder(200);
 
-    protected final StringBuilder formattedSql = new StringBuilder(200);
+    protected final BindVariablePositions positions = new BindVariablePositions();
 
     protected final Config config;
 
@@ -53,24 +54,50 @@ public class PreparedSqlBuilder {
 
     public void appendSql(String sql) {
         rawSql.append(sql);
-        formattedSql.append(sql);
     }
 
     public void cutBackSql(int length) {
         rawSql.setLength(rawSql.length() - length);
-        formattedSql.setLength(formattedSql.length() - length);
+        positions.cutBack(rawSql.length());
     }
 
     public <BASIC> void appendParameter(JdbcMappable<BASIC> parameter) {
+        positions.add(rawSql.length());
         rawSql.append("?");
         Wrapper<BASIC> wrapper = parameter.getWrapper();
-        formattedSql.append(wrapper.accept(config.getDialect()
-                .getSqlLogFormattingVisitor(), formattingFunction, null));
         parameters.add(new BasicInParameter<BASIC>(() -> wrapper));
     }
 
+    /**
+     * 値を持たないプレースホルダを追加します。
+     * <p>
+     * {@link #buildTemplate()} でテンプレートを作成する場合に使用します。
+     * 
+     * @since 2.0.2
+     */
+    public void appendPlaceholder() {
+        positions.add(rawSql.length());
+        rawSql.append("?");
+    }
+
+    /**
+     * パラメータの値を含まないテンプレートを作成します。
+     * 
+     * @return テンプレート
+     * @since 2.0.2
+     */
+    public PreparedSqlTemplate buildTemplate() {
+        return new PreparedSqlTemplate(kind, rawSql.toString(), positions,
+                null, sqlLogType, config.getDialect()
+                        .getSqlLogFormattingVisitor(), formattingFunction);
+    }
+
     public PreparedSql build() {
-        return new PreparedSql(kind, rawSql, formattedSql, null, parameters,
-                sqlLogType);
+        String sql = rawSql.toString();
+        SqlLogFormattingVisitor formattingVisitor = config.getDialect()
+                .getSqlLogFormattingVisitor();
+        return new PreparedSql(kind, sql, () -> positions.format(sql,
+                parameters, formattingVisitor, formattingFunction), null,
+                parameters, sqlLogType);
     }
 }
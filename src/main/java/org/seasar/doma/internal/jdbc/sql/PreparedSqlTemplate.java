@@ -0,0 +1,91 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertEquals;
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.List;
+
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogFormattingFunction;
+import org.seasar.doma.jdbc.SqlLogFormattingVisitor;
+import org.seasar.doma.jdbc.SqlLogType;
+
+/**
+ * パラメータの値だけが異なる {@link PreparedSql} を繰り返し作成するためのテンプレートです。
+ * <p>
+ * SQLの文字列は一度だけ組み立てられ、このテンプレートから作成されるすべての {@link PreparedSql}
+ * で共有されます。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class PreparedSqlTemplate {
+
+    protected final SqlKind kind;
+
+    protected final String rawSql;
+
+    protected final BindVariablePositions positions;
+
+    protected final String sqlFilePath;
+
+    protected final SqlLogType sqlLogType;
+
+    protected final SqlLogFormattingVisitor formattingVisitor;
+
+    protected final SqlLogFormattingFunction formattingFunction;
+
+    public PreparedSqlTemplate(SqlKind kind, String rawSql,
+            BindVariablePositions positions, String sqlFilePath,
+            SqlLogType sqlLogType, SqlLogFormattingVisitor formattingVisitor,
+            SqlLogFormattingFunction formattingFunction) {
+        assertNotNull(kind, rawSql, positions, sqlLogType, formattingVisitor,
+                formattingFunction);
+        this.kind = kind;
+        this.rawSql = rawSql;
+        this.positions = positions;
+        this.sqlFilePath = sqlFilePath;
+        this.sqlLogType = sqlLogType;
+        this.formattingVisitor = formattingVisitor;
+        this.formattingFunction = formattingFunction;
+    }
+
+    /**
+     * バインド変数の数を返します。
+     * 
+     * @return バインド変数の数
+     */
+    public int getParameterSize() {
+        return positions.size();
+    }
+
+    /**
+     * パラメータをバインドする {@link PreparedSql} を作成します。
+     * 
+     * @param parameters
+     *            プレースホルダと同じ順序で並んだパラメータ
+     * @return SQL
+     */
+    public PreparedSql build(List<? extends InParameter<?>> parameters) {
+        assertNotNull(parameters);
+        assertEquals(positions.size(), parameters.size());
+        return new PreparedSql(kind, rawSql, () -> positions.format(rawSql,
+                parameters, formattingVisitor, formattingFunction),
+                sqlFilePath, parameters, sqlLogType);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import java.util.Optional;
+
+import org.seasar.doma.wrapper.Wrapper;
+
+/**
+ * ラッパーの値をそのままバインドするパラメータです。
+ * <p>
+ * {@link BasicInParameter} と同じ振る舞いをしますが、バッチ処理で大量に作成されることを想定して
+ * ラッパーのみを保持します。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ * 
+ * @param <BASIC>
+ *            基本型
+ */
+public class WrapperInParameter<BASIC> implements InParameter<BASIC> {
+
+    protected final Wrapper<BASIC> wrapper;
+
+    public WrapperInParameter(Wrapper<BASIC> wrapper) {
+        assertNotNull(wrapper);
+        this.wrapper = wrapper;
+    }
+
+    @Override
+    public BASIC getValue() {
+        return wrapper.get();
+    }
+
+    @Override
+    public Wrapper<BASIC> getWrapper() {
+        return wrapper;
+    }
+
+    @Override
+    public Optional<Class<?>> getDomainClass() {
+        return Optional.empty();
+    }
+
+    @Override
+    public <R, P, TH extends Throwable> R accept(
+            SqlParameterVisitor<R, P, TH> visitor, P p) throws TH {
+        return visitor.visitInParameter(this, p);
+    }
+}
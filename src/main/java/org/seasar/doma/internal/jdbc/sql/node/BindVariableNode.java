@@ -28,6 +28,8 @@ public class BindVariableNode extends AbstractSqlNode {
 
     protected final String variableName;
 
+    protected final CompiledExpression compiledExpression;
+
     protected final String text;
 
     protected WordNode wordNode;
@@ -39,6 +41,7 @@ public class BindVariableNode extends AbstractSqlNode {
         assertNotNull(location, variableName, text);
         this.location = location;
         this.variableName = variableName;
+        this.compiledExpression = new CompiledExpression(variableName);
         this.text = text;
     }
 
@@ -50,6 +53,16 @@ public class BindVariableNode extends AbstractSqlNode {
         return variableName;
     }
 
+    /**
+     * 解析済みの式を返します。
+     * 
+     * @return 解析済みの式
+     * @since 2.0.2
+     */
+    public CompiledExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
     public String getText() {
         return text;
     }
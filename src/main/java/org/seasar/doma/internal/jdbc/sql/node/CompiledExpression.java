@@ -0,0 +1,69 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.sql.node;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+
+import org.seasar.doma.internal.expr.ExpressionParser;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
+
+/**
+ * SQLのコメントに記述された式とその解析結果です。
+ * <p>
+ * 式は初回の評価時に解析され、以降は同じ解析結果が再利用されます。解析結果はこのインスタンスを保持する
+ * {@link SqlNode} と同じ寿命をもつため、SQLファイルが再読み込みされると破棄されます。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class CompiledExpression {
+
+    protected final String expression;
+
+    protected volatile ExpressionNode expressionNode;
+
+    public CompiledExpression(String expression) {
+        assertNotNull(expression);
+        this.expression = expression;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * 式の解析結果を返します。
+     * 
+     * @return 式の解析結果
+     * @throws org.seasar.doma.internal.expr.ExpressionException
+     *             式の解析に失敗した場合
+     */
+    public ExpressionNode getExpressionNode() {
+        ExpressionNode node = expressionNode;
+        if (node == null) {
+            node = new ExpressionParser(expression).parse();
+            expressionNode = node;
+        }
+        return node;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
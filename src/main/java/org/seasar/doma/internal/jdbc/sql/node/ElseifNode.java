@@ -30,12 +30,15 @@ public class ElseifNode extends AbstractSqlNode implements SpaceStrippingNode {
 
     protected final String expression;
 
+    protected final CompiledExpression compiledExpression;
+
     protected final String text;
 
     public ElseifNode(SqlLocation location, String expression, String text) {
         assertNotNull(location, expression, text);
         this.location = location;
         this.expression = expression;
+        this.compiledExpression = new CompiledExpression(expression);
         this.text = text;
     }
 
@@ -47,6 +50,16 @@ public class ElseifNode extends AbstractSqlNode implements SpaceStrippingNode {
         return expression;
     }
 
+    /**
+     * 解析済みの式を返します。
+     * 
+     * @return 解析済みの式
+     * @since 2.0.2
+     */
+    public CompiledExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
     @Override
     public void clearChildren() {
         children.clear();
@@ -26,6 +26,8 @@ public class EmbeddedVariableNode extends AbstractSqlNode {
 
     protected final String variableName;
 
+    protected final CompiledExpression compiledExpression;
+
     protected final String text;
 
     public EmbeddedVariableNode(SqlLocation location, String variableName,
@@ -33,6 +35,7 @@ public class EmbeddedVariableNode extends AbstractSqlNode {
         assertNotNull(location, variableName, text);
         this.location = location;
         this.variableName = variableName;
+        this.compiledExpression = new CompiledExpression(variableName);
         this.text = text;
     }
 
@@ -44,6 +47,16 @@ public class EmbeddedVariableNode extends AbstractSqlNode {
         return variableName;
     }
 
+    /**
+     * 解析済みの式を返します。
+     * 
+     * @return 解析済みの式
+     * @since 2.0.2
+     */
+    public CompiledExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
     public String getText() {
         return text;
     }
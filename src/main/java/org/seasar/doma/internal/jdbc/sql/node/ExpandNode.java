@@ -28,12 +28,15 @@ public class ExpandNode extends AbstractSqlNode {
 
     protected final String alias;
 
+    protected final CompiledExpression compiledExpression;
+
     protected final String text;
 
     public ExpandNode(SqlLocation location, String alias, String text) {
         assertNotNull(location, alias, text);
         this.location = location;
         this.alias = alias;
+        this.compiledExpression = new CompiledExpression(alias);
         this.text = text;
     }
 
@@ -45,6 +48,16 @@ public class ExpandNode extends AbstractSqlNode {
         return alias;
     }
 
+    /**
+     * 解析済みの式を返します。
+     * 
+     * @return 解析済みの式
+     * @since 2.0.2
+     */
+    public CompiledExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
     public String getText() {
         return text;
     }
@@ -32,6 +32,8 @@ public class ForNode extends AbstractSqlNode implements SpaceStrippingNode {
 
     protected final String expression;
 
+    protected final CompiledExpression compiledExpression;
+
     protected final String text;
 
     public ForNode(SqlLocation location, String identifier, String expression,
@@ -40,6 +42,7 @@ public class ForNode extends AbstractSqlNode implements SpaceStrippingNode {
         this.location = location;
         this.identifier = identifier;
         this.expression = expression;
+        this.compiledExpression = new CompiledExpression(expression);
         this.text = text;
     }
 
@@ -55,6 +58,16 @@ public class ForNode extends AbstractSqlNode implements SpaceStrippingNode {
         return expression;
     }
 
+    /**
+     * 解析済みの式を返します。
+     * 
+     * @return 解析済みの式
+     * @since 2.0.2
+     */
+    public CompiledExpression getCompiledExpression() {
+        return compiledExpression;
+    }
+
     @Override
     public void clearChildren() {
         children.clear();
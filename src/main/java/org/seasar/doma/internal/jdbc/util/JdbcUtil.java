@@ -72,6 +72,46 @@ public final class JdbcUtil {
         }
     }
 
+    public static PreparedStatement prepareStatement(Connection connection,
+            Sql<?> sql, int statementCacheSize) {
+        PreparedStatementCache cache = getPreparedStatementCache(connection,
+                statementCacheSize);
+        if (cache == null) {
+            return prepareStatement(connection, sql);
+        }
+        try {
+            return cache.prepareStatement(sql.getRawSql(), false);
+        } catch (SQLException e) {
+            throw new JdbcException(Message.DOMA2016, e, sql.getSqlFilePath(),
+                    sql.getRawSql(), e);
+        }
+    }
+
+    public static PreparedStatement prepareStatementForAutoGeneratedKeys(
+            Connection connection, Sql<?> sql, int statementCacheSize) {
+        PreparedStatementCache cache = getPreparedStatementCache(connection,
+                statementCacheSize);
+        if (cache == null) {
+            return prepareStatementForAutoGeneratedKeys(connection, sql);
+        }
+        try {
+            return cache.prepareStatement(sql.getRawSql(), true);
+        } catch (SQLException e) {
+            throw new JdbcException(Message.DOMA2016, e, sql.getSqlFilePath(),
+                    sql.getRawSql(), e);
+        }
+    }
+
+    private static PreparedStatementCache getPreparedStatementCache(
+            Connection connection, int statementCacheSize) {
+        if (statementCacheSize <= 0
+                || !(connection instanceof PreparedStatementCacheHolder)) {
+            return null;
+        }
+        return ((PreparedStatementCacheHolder) connection)
+                .getPreparedStatementCache(statementCacheSize);
+    }
+
     public static CallableStatement prepareCall(Connection connection,
             Sql<?> sql) {
         try {
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.util;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * コネクションごとの {@link PreparedStatement} のキャッシュです。
+ * <p>
+ * 生のSQLと自動生成キー取得の有無をキーに、最近使用された順に最大 {@code maxSize} 件のステートメントを保持します。
+ * キャッシュから払い出されたステートメントの {@code close()} はキャッシュへの返却を意味し、
+ * 物理的なクローズは追い出されたとき、もしくは {@link #close()} が呼び出されたときに行われます。
+ * <p>
+ * 同じキーのステートメントが使用中の場合は、キャッシュされないステートメントを返します。
+ * <p>
+ * 仮想スレッドを固定しないよう、排他制御には {@code synchronized} ではなく {@link ReentrantLock} を使用します。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class PreparedStatementCache {
+
+    /** コネクション */
+    protected final Connection connection;
+
+    /** キャッシュの最大サイズ */
+    protected final int maxSize;
+
+    /** キーとステートメントのマップ */
+    protected final Map<Key, CachedPreparedStatement> statementMap;
+
+    /** ヒット数 */
+    protected long hitCount;
+
+    /** ミス数 */
+    protected long missCount;
+
+    /** クローズされた場合 {@code true} */
+    protected boolean closed;
+
+    /** ロック */
+    protected final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param connection
+     *            コネクション
+     * @param maxSize
+     *            キャッシュの最大サイズ
+     */
+    public PreparedStatementCache(Connection connection, int maxSize) {
+        assertNotNull(connection);
+        assertTrue(maxSize > 0);
+        this.connection = connection;
+        this.maxSize = maxSize;
+        this.statementMap = new LinkedHashMap<Key, CachedPreparedStatement>(
+                16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<Key, CachedPreparedStatement> eldest) {
+                if (size() > PreparedStatementCache.this.maxSize) {
+                    eldest.getValue().evict();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * ステートメントを準備します。
+     * 
+     * @param sql
+     *            生のSQL
+     * @param autoGeneratedKeys
+     *            自動生成キーを取得する場合 {@code true}
+     * @return ステートメント
+     * @throws SQLException
+     *             SQLに関する例外が発生した場合
+     */
+    public PreparedStatement prepareStatement(String sql,
+            boolean autoGeneratedKeys) throws SQLException {
+        assertNotNull(sql);
+        lock.lock();
+        try {
+            return getOrPrepareStatement(new Key(sql, autoGeneratedKeys));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    protected PreparedStatement getOrPrepareStatement(Key key)
+            throws SQLException {
+        String sql = key.sql;
+        boolean autoGeneratedKeys = key.autoGeneratedKeys;
+        if (closed) {
+            return prepareStatementInternal(sql, autoGeneratedKeys);
+        }
+        CachedPreparedStatement cached = statementMap.get(key);
+        if (cached != null && !cached.isInUse()) {
+            hitCount++;
+            cached.acquire();
+            return cached;
+        }
+        missCount++;
+        PreparedStatement statement = prepareStatementInternal(sql,
+                autoGeneratedKeys);
+        if (cached != null) {
+            return statement;
+        }
+        cached = new CachedPreparedStatement(this, key, statement);
+        cached.acquire();
+        statementMap.put(key, cached);
+        return cached;
+    }
+
+    protected PreparedStatement prepareStatementInternal(String sql,
+            boolean autoGeneratedKeys) throws SQLException {
+        if (autoGeneratedKeys) {
+            return connection.prepareStatement(sql,
+                    Statement.RETURN_GENERATED_KEYS);
+        }
+        return connection.prepareStatement(sql);
+    }
+
+    /**
+     * 使用済みのステートメントを返却します。
+     * 
+     * @param statement
+     *            ステートメント
+     * @throws SQLException
+     *             SQLに関する例外が発生した場合
+     */
+    void release(CachedPreparedStatement statement) throws SQLException {
+        lock.lock();
+        try {
+            if (closed || statement.isEvicted()) {
+                statement.closePhysically();
+                return;
+            }
+            try {
+                statement.reset();
+            } catch (SQLException e) {
+                statementMap.remove(statement.getKey(), statement);
+                statement.closePhysically();
+                throw e;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * キャッシュしているすべてのステートメントをクローズします。
+     * <p>
+     * 使用中のステートメントは、返却されたときにクローズされます。
+     */
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            List<CachedPreparedStatement> statements = new ArrayList<>(
+                    statementMap.values());
+            statementMap.clear();
+            for (CachedPreparedStatement statement : statements) {
+                statement.evict();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * キャッシュしているステートメントの数を返します。
+     * 
+     * @return ステートメントの数
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return statementMap.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * キャッシュにヒットした回数を返します。
+     * 
+     * @return ヒット数
+     */
+    public long getHitCount() {
+        lock.lock();
+        try {
+            return hitCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * キャッシュにヒットしなかった回数を返します。
+     * 
+     * @return ミス数
+     */
+    public long getMissCount() {
+        lock.lock();
+        try {
+            return missCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * キャッシュのキーです。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    protected static class Key {
+
+        protected final String sql;
+
+        protected final boolean autoGeneratedKeys;
+
+        protected Key(String sql, boolean autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+
+        @Override
+        public int hashCode() {
+            return sql.hashCode() * 31 + (autoGeneratedKeys ? 1 : 0);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return autoGeneratedKeys == other.autoGeneratedKeys
+                    && sql.equals(other.sql);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.util;
+
+/**
+ * {@link PreparedStatementCache} を保持するコネクションです。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public interface PreparedStatementCacheHolder {
+
+    /**
+     * ステートメントのキャッシュを返します。
+     * <p>
+     * キャッシュが存在しない場合は、指定された最大サイズで作成します。
+     * 
+     * @param maxSize
+     *            キャッシュの最大サイズ
+     * @return ステートメントのキャッシュ
+     */
+    PreparedStatementCache getPreparedStatementCache(int maxSize);
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ロックを使用しない対数線形のヒストグラムです。
+ * <p>
+ * 2のべき乗ごとの区間を {@link #SUB_BUCKET_COUNT} 個の等幅のバケットに分割して、非負の値を記録します。
+ * 記録された値の相対誤差は最大で {@literal 1/}{@link #SUB_BUCKET_COUNT} です。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class Histogram {
+
+    /** 2のべき乗ごとの区間を分割するビット数 */
+    protected static final int SUB_BUCKET_BITS = 3;
+
+    /** 2のべき乗ごとの区間のバケットの数 */
+    protected static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** バケットの数 */
+    protected static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS + 1)
+            * SUB_BUCKET_COUNT;
+
+    protected final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    protected final LongAdder sum = new LongAdder();
+
+    protected final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * 値を記録します。
+     * <p>
+     * 負の値は {@literal 0} とみなされます。
+     * 
+     * @param value
+     *            値
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(indexOf(value));
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * 記録した値をすべて破棄します。
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * スナップショットを作成します。
+     * 
+     * @return スナップショット
+     */
+    public Snapshot snapshot() {
+        long[] bucketCounts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = counts.get(i);
+            total += bucketCounts[i];
+        }
+        return new Snapshot(bucketCounts, total, sum.sum(), max.get());
+    }
+
+    protected static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    protected static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long lowest = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+
+    /**
+     * ヒストグラムのスナップショットです。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    public static class Snapshot {
+
+        protected final long[] bucketCounts;
+
+        protected final long count;
+
+        protected final long sum;
+
+        protected final long max;
+
+        protected Snapshot(long[] bucketCounts, long count, long sum, long max) {
+            this.bucketCounts = bucketCounts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        /**
+         * 記録された値の数を返します。
+         * 
+         * @return 記録された値の数
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * 記録された値の合計を返します。
+         * 
+         * @return 記録された値の合計
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        /**
+         * 記録された値の最大値を返します。
+         * 
+         * @return 記録された値の最大値
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * 記録された値の平均を返します。
+         * 
+         * @return 記録された値の平均、値が記録されていない場合 {@literal 0}
+         */
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * パーセンタイル値を返します。
+         * <p>
+         * 返される値は、該当するバケットの上限値です。ただし、最大値を超えることはありません。
+         * 
+         * @param percentile
+         *            {@literal 0} から {@literal 100} までのパーセンタイル
+         * @return パーセンタイル値、値が記録されていない場合 {@literal 0}
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            double p = Math.min(Math.max(percentile, 0), 100);
+            long rank = Math.max((long) Math.ceil(p / 100 * count), 1);
+            long seen = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueOf(i), max);
+                }
+            }
+            return max;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.util;
+
+import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
+import static org.seasar.doma.internal.util.AssertionUtil.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * ロックを使用しない有界のリングバッファです。
+ * <p>
+ * 複数のスレッドから同時に {@link #offer(Object)} と {@link #poll()} を呼び出せます。
+ * 各スロットはシーケンス番号を持ち、要素の書き込みはシーケンス番号の更新によって公開されます。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ * @param <E>
+ *            要素の型
+ */
+public class RingBuffer<E> {
+
+    protected final int capacity;
+
+    protected final int mask;
+
+    protected final Object[] elements;
+
+    protected final AtomicLongArray sequences;
+
+    protected final AtomicLong head = new AtomicLong();
+
+    protected final AtomicLong tail = new AtomicLong();
+
+    /**
+     * インスタンスを構築します。
+     * <p>
+     * 容量は {@code capacity} 以上の2のべき乗に切り上げられます。
+     * 
+     * @param capacity
+     *            容量
+     */
+    public RingBuffer(int capacity) {
+        assertTrue(capacity > 0 && capacity <= (1 << 30));
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.capacity = size;
+        this.mask = size - 1;
+        this.elements = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 要素を追加します。
+     * 
+     * @param element
+     *            要素
+     * @return 追加できた場合 {@code true} 、満杯の場合 {@code false}
+     */
+    public boolean offer(E element) {
+        assertNotNull(element);
+        long position = tail.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 要素を取り出します。
+     * 
+     * @return 要素、空の場合 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+        for (;;) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = (E) elements[index];
+                    elements[index] = null;
+                    sequences.set(index, position + capacity);
+                    return element;
+                }
+                position = head.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                position = head.get();
+            }
+        }
+    }
+
+    /**
+     * 要素の数のおおよその値を返します。
+     * 
+     * @return 要素の数
+     */
+    public int size() {
+        long size = tail.get() - head.get();
+        if (size < 0) {
+            return 0;
+        }
+        return (int) Math.min(size, capacity);
+    }
+
+    /**
+     * 空の場合 {@code true} を返します。
+     * 
+     * @return 空の場合 {@code true}
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * 容量を返します。
+     * 
+     * @return 容量
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+}
@@ -90,6 +90,26 @@ public abstract class AbstractSqlFileRepository implements SqlFileRepository {
      * @return SQLファイル
      */
     protected final SqlFile createSqlFile(String path, Dialect dialect) {
+        SqlFile sqlFile = findSqlFile(path, dialect);
+        if (sqlFile == null) {
+            throw new SqlFileNotFoundException(path);
+        }
+        return sqlFile;
+    }
+
+    /**
+     * SQLファイルを検索して作成します。
+     * <p>
+     * 方言に固有のSQLファイルが存在する場合はそれを優先します。
+     * 
+     * @param path
+     *            SQLのパス
+     * @param dialect
+     *            方言
+     * @return SQLファイル、見つからない場合 {@code null}
+     * @since 2.0.2
+     */
+    protected final SqlFile findSqlFile(String path, Dialect dialect) {
         String primaryPath = getPrimaryPath(path, dialect);
         String sql = getSql(primaryPath);
         if (sql != null) {
@@ -101,7 +121,7 @@ public abstract class AbstractSqlFileRepository implements SqlFileRepository {
             SqlNode sqlNode = parse(sql);
             return new SqlFile(path, sql, sqlNode);
         }
-        throw new SqlFileNotFoundException(path);
+        return null;
     }
 
     /**
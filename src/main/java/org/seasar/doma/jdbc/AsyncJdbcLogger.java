@@ -0,0 +1,417 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.util.RingBuffer;
+
+/**
+ * ログの出力をバックグラウンドのスレッドで行うJDBCロガーです。
+ * <p>
+ * 呼び出し元のスレッドでは、引数を捕捉したイベントを有界のリングバッファに追加するだけです。
+ * メッセージの組み立てと出力は、バックグラウンドのスレッドがバッファからまとめて取り出したうえで、委譲先のロガーに対して行います。
+ * <p>
+ * バッファが満杯の場合の振る舞いは {@link OverflowPolicy} で指定します。 {@link OverflowPolicy#DROP}
+ * の場合、破棄されたイベントの数は {@link #getDroppedCount()} で取得できます。
+ * <p>
+ * ログ用のSQLの組み立てもバックグラウンドのスレッドで行われます。 また、委譲先のロガーから見た呼び出し元のスレッドはバックグラウンドのスレッドになります。
+ * <p>
+ * 不要になったら {@link #close()} を呼び出してください。 バッファに残ったイベントを出力し、バックグラウンドのスレッドを終了します。
+ * {@link #close()} の呼び出し後のイベントは、呼び出し元のスレッドで出力されます。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class AsyncJdbcLogger implements JdbcLogger, AutoCloseable {
+
+    /** デフォルトのバッファの容量 */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** 一度に出力するイベントの最大数 */
+    protected static final int DRAIN_BATCH_SIZE = 256;
+
+    /** バックグラウンドのスレッドが待機する時間（ナノ秒） */
+    protected static final long PARK_NANOS = TimeUnit.MILLISECONDS
+            .toNanos(10);
+
+    /** バッファが満杯の場合に呼び出し元のスレッドが待機する時間（ナノ秒） */
+    protected static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS
+            .toNanos(50);
+
+    /**
+     * バッファが満杯の場合の振る舞いです。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    public static enum OverflowPolicy {
+
+        /** イベントを破棄します。 */
+        DROP,
+
+        /** 空きができるまで呼び出し元のスレッドを待機させます。 */
+        BLOCK
+    }
+
+    /** 委譲先のロガー */
+    protected final JdbcLogger delegate;
+
+    /** バッファ */
+    protected final RingBuffer<Consumer<JdbcLogger>> buffer;
+
+    /** バッファが満杯の場合の振る舞い */
+    protected final OverflowPolicy overflowPolicy;
+
+    /** 破棄されたイベントの数 */
+    protected final LongAdder droppedCount = new LongAdder();
+
+    /** バックグラウンドのスレッド */
+    protected final Thread drainer;
+
+    /** バックグラウンドのスレッドが待機中の場合 {@code true} */
+    protected volatile boolean waiting;
+
+    /** クローズされた場合 {@code true} */
+    protected volatile boolean closed;
+
+    /**
+     * 委譲先のロガーを指定してインスタンスを構築します。
+     * <p>
+     * バッファの容量は {@link #DEFAULT_CAPACITY} 、バッファが満杯の場合の振る舞いは
+     * {@link OverflowPolicy#DROP} になります。
+     * 
+     * @param delegate
+     *            委譲先のロガー
+     */
+    public AsyncJdbcLogger(JdbcLogger delegate) {
+        this(delegate, DEFAULT_CAPACITY, OverflowPolicy.DROP);
+    }
+
+    /**
+     * 委譲先のロガー、バッファの容量、バッファが満杯の場合の振る舞いを指定してインスタンスを構築します。
+     * 
+     * @param delegate
+     *            委譲先のロガー
+     * @param capacity
+     *            バッファの容量
+     * @param overflowPolicy
+     *            バッファが満杯の場合の振る舞い
+     * @throws DomaNullPointerException
+     *             {@code delegate} もしくは {@code overflowPolicy} が {@code null}
+     *             の場合
+     * @throws DomaIllegalArgumentException
+     *             {@code capacity} が {@literal 0} 以下の場合
+     */
+    public AsyncJdbcLogger(JdbcLogger delegate, int capacity,
+            OverflowPolicy overflowPolicy) {
+        if (delegate == null) {
+            throw new DomaNullPointerException("delegate");
+        }
+        if (capacity <= 0) {
+            throw new DomaIllegalArgumentException("capacity", "capacity <= 0");
+        }
+        if (overflowPolicy == null) {
+            throw new DomaNullPointerException("overflowPolicy");
+        }
+        this.delegate = delegate;
+        this.buffer = new RingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.drainer = new Thread(this::drain, getClass().getSimpleName());
+        this.drainer.setDaemon(true);
+        this.drainer.start();
+    }
+
+    /**
+     * イベントをバッファに追加します。
+     * 
+     * @param event
+     *            イベント
+     */
+    protected void enqueue(Consumer<JdbcLogger> event) {
+        if (closed) {
+            write(event);
+            return;
+        }
+        while (!buffer.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.DROP) {
+                droppedCount.increment();
+                return;
+            }
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (closed) {
+                write(event);
+                return;
+            }
+        }
+        if (waiting) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    /**
+     * バックグラウンドのスレッドでバッファからイベントを取り出して出力します。
+     */
+    protected void drain() {
+        for (;;) {
+            if (drainBatch() > 0) {
+                continue;
+            }
+            if (closed) {
+                while (drainBatch() > 0) {
+                    // continue
+                }
+                return;
+            }
+            waiting = true;
+            if (buffer.isEmpty() && !closed) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            waiting = false;
+        }
+    }
+
+    /**
+     * バッファから最大 {@link #DRAIN_BATCH_SIZE} 件のイベントを取り出して出力します。
+     * 
+     * @return 出力したイベントの数
+     */
+    protected int drainBatch() {
+        int count = 0;
+        while (count < DRAIN_BATCH_SIZE) {
+            Consumer<JdbcLogger> event = buffer.poll();
+            if (event == null) {
+                break;
+            }
+            write(event);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * イベントを委譲先のロガーに出力します。
+     * 
+     * @param event
+     *            イベント
+     */
+    protected void write(Consumer<JdbcLogger> event) {
+        try {
+            event.accept(delegate);
+        } catch (RuntimeException ignored) {
+            // JdbcLogger must not throw any exception
+        }
+    }
+
+    /**
+     * このメソッドの呼び出し前に追加されたイベントがすべて出力されるまで待機します。
+     * <p>
+     * {@link OverflowPolicy} にかかわらず、バッファに空きができるまで待機します。
+     */
+    public void flush() {
+        if (closed) {
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        Consumer<JdbcLogger> marker = logger -> latch.countDown();
+        while (!buffer.offer(marker)) {
+            LockSupport.unpark(drainer);
+            LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+            if (closed) {
+                return;
+            }
+        }
+        LockSupport.unpark(drainer);
+        try {
+            while (!latch.await(PARK_NANOS, TimeUnit.NANOSECONDS)) {
+                if (closed && !drainer.isAlive()) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * バッファに残ったイベントを出力し、バックグラウンドのスレッドを終了します。
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        while (drainBatch() > 0) {
+            // continue
+        }
+    }
+
+    /**
+     * バッファが満杯のため破棄されたイベントの数を返します。
+     * 
+     * @return 破棄されたイベントの数
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * バッファに残っているイベントのおおよその数を返します。
+     * 
+     * @return イベントの数
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    @Override
+    public void logDaoMethodEntering(String callerClassName,
+            String callerMethodName, Object... args) {
+        enqueue(logger -> logger.logDaoMethodEntering(callerClassName,
+                callerMethodName, args));
+    }
+
+    @Override
+    public void logDaoMethodExiting(String callerClassName,
+            String callerMethodName, Object result) {
+        enqueue(logger -> logger.logDaoMethodExiting(callerClassName,
+                callerMethodName, result));
+    }
+
+    @Override
+    public void logDaoMethodThrowing(String callerClassName,
+            String callerMethodName, RuntimeException e) {
+        enqueue(logger -> logger.logDaoMethodThrowing(callerClassName,
+                callerMethodName, e));
+    }
+
+    @Override
+    public void logSqlExecutionSkipping(String callerClassName,
+            String callerMethodName, SqlExecutionSkipCause cause) {
+        enqueue(logger -> logger.logSqlExecutionSkipping(callerClassName,
+                callerMethodName, cause));
+    }
+
+    @Override
+    public void logSql(String callerClassName, String callerMethodName,
+            Sql<?> sql) {
+        enqueue(logger -> logger.logSql(callerClassName, callerMethodName, sql));
+    }
+
+    @Override
+    public void logTransactionBegun(String callerClassName,
+            String callerMethodName, String transactionId) {
+        enqueue(logger -> logger.logTransactionBegun(callerClassName,
+                callerMethodName, transactionId));
+    }
+
+    @Override
+    public void logTransactionEnded(String callerClassName,
+            String callerMethodName, String transactionId) {
+        enqueue(logger -> logger.logTransactionEnded(callerClassName,
+                callerMethodName, transactionId));
+    }
+
+    @Override
+    public void logTransactionCommitted(String callerClassName,
+            String callerMethodName, String transactionId) {
+        enqueue(logger -> logger.logTransactionCommitted(callerClassName,
+                callerMethodName, transactionId));
+    }
+
+    @Override
+    public void logTransactionSavepointCreated(String callerClassName,
+            String callerMethodName, String transactionId, String savepointName) {
+        enqueue(logger -> logger.logTransactionSavepointCreated(
+                callerClassName, callerMethodName, transactionId,
+                savepointName));
+    }
+
+    @Override
+    public void logTransactionRolledback(String callerClassName,
+            String callerMethodName, String transactionId) {
+        enqueue(logger -> logger.logTransactionRolledback(callerClassName,
+                callerMethodName, transactionId));
+    }
+
+    @Override
+    public void logTransactionSavepointRolledback(String callerClassName,
+            String callerMethodName, String transactionId, String savepointName) {
+        enqueue(logger -> logger.logTransactionSavepointRolledback(
+                callerClassName, callerMethodName, transactionId,
+                savepointName));
+    }
+
+    @Override
+    public void logTransactionRollbackFailure(String callerClassName,
+            String callerMethodName, String transactionId, SQLException e) {
+        enqueue(logger -> logger.logTransactionRollbackFailure(
+                callerClassName, callerMethodName, transactionId, e));
+    }
+
+    @Override
+    public void logAutoCommitEnablingFailure(String callerClassName,
+            String callerMethodName, SQLException e) {
+        enqueue(logger -> logger.logAutoCommitEnablingFailure(
+                callerClassName, callerMethodName, e));
+    }
+
+    @Override
+    public void logTransactionIsolationSettingFailuer(String callerClassName,
+            String callerMethodName, int transactionIsolationLevel,
+            SQLException e) {
+        enqueue(logger -> logger.logTransactionIsolationSettingFailuer(
+                callerClassName, callerMethodName, transactionIsolationLevel,
+                e));
+    }
+
+    @Override
+    public void logConnectionClosingFailure(String callerClassName,
+            String callerMethodName, SQLException e) {
+        enqueue(logger -> logger.logConnectionClosingFailure(callerClassName,
+                callerMethodName, e));
+    }
+
+    @Override
+    public void logStatementClosingFailure(String callerClassName,
+            String callerMethodName, SQLException e) {
+        enqueue(logger -> logger.logStatementClosingFailure(callerClassName,
+                callerMethodName, e));
+    }
+
+    @Override
+    public void logResultSetClosingFailure(String callerClassName,
+            String callerMethodName, SQLException e) {
+        enqueue(logger -> logger.logResultSetClosingFailure(callerClassName,
+                callerMethodName, e));
+    }
+
+}
@@ -17,6 +17,7 @@ package org.seasar.doma.jdbc;
 
 import java.sql.PreparedStatement;
 import java.sql.Statement;
+import java.util.concurrent.Executor;
 
 import javax.sql.DataSource;
 
@@ -152,6 +153,34 @@ public interface Config {
         return ConfigSupport.defaultMapKeyNaming;
     }
 
+    /**
+     * クエリの計測値を記録するオブジェクトを返します。
+     * 
+     * @return クエリの計測値を記録するオブジェクト
+     * @since 2.0.2
+     */
+    default QueryMetrics getQueryMetrics() {
+        return ConfigSupport.defaultQueryMetrics;
+    }
+
+    /**
+     * 戻り値が {@link java.util.concurrent.CompletableFuture} のDaoメソッドを実行する
+     * {@link Executor} を返します。
+     * <p>
+     * デフォルトの実装では、呼び出し元のスレッドでそのまま実行します。並列に実行するにはスレッドプールを返してください。
+     * <p>
+     * {@link org.seasar.doma.jdbc.tx.LocalTransactionDataSource}
+     * のトランザクションを別スレッドで利用するには、
+     * {@link org.seasar.doma.jdbc.tx.ScopedTransactionContextHolder#wrapExecutor(Executor)}
+     * などでトランザクションコンテキストを引き継いでください。
+     * 
+     * @return {@link Executor}
+     * @since 2.0.2
+     */
+    default Executor getQueryExecutor() {
+        return ConfigSupport.defaultQueryExecutor;
+    }
+
     /**
      * トランザクションマネジャーを返します。
      * <p>
@@ -218,6 +247,21 @@ public interface Config {
         return 0;
     }
 
+    /**
+     * コネクションごとにキャッシュする {@link PreparedStatement} の最大数を返します。
+     * <p>
+     * {@literal 0} 以下の値は、キャッシュしないことを示します。
+     * <p>
+     * キャッシュは {@link org.seasar.doma.jdbc.tx.LocalTransaction}
+     * が管理するコネクションでのみ有効です。 キャッシュされたステートメントはトランザクションの終了時にクローズされます。
+     * 
+     * @return ステートメントキャッシュの最大数
+     * @since 2.0.2
+     */
+    default int getStatementCacheSize() {
+        return 0;
+    }
+
     /**
      * {@link ConfigProvider} から {@link Config} を取得します。
      * 
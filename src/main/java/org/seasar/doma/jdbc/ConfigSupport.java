@@ -15,6 +15,8 @@
  */
 package org.seasar.doma.jdbc;
 
+import java.util.concurrent.Executor;
+
 /**
  * {@link Config} が返すインタフェースのデフォルト実装を提供します。
  * 
@@ -44,4 +46,9 @@ public final class ConfigSupport {
 
     public static MapKeyNaming defaultMapKeyNaming = new MapKeyNaming() {
     };
+
+    public static QueryMetrics defaultQueryMetrics = new QueryMetrics() {
+    };
+
+    public static Executor defaultQueryExecutor = Runnable::run;
 }
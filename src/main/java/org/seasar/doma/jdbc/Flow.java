@@ -0,0 +1,108 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+/**
+ * フロー制御されたデータの発行と購読のためのインタフェースです。
+ * <p>
+ * Java 9 の {@code java.util.concurrent.Flow} および Reactive Streams
+ * と同じ契約を持ちます。Java 8 でも利用できるように Doma で定義しています。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ * @see SelectPublisher
+ */
+public final class Flow {
+
+    private Flow() {
+    }
+
+    /**
+     * 要素の発行者です。
+     * 
+     * @param <T>
+     *            要素の型
+     */
+    @FunctionalInterface
+    public interface Publisher<T> {
+
+        /**
+         * 購読者を登録します。
+         * 
+         * @param subscriber
+         *            購読者
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+
+    /**
+     * 要素の購読者です。
+     * 
+     * @param <T>
+     *            要素の型
+     */
+    public interface Subscriber<T> {
+
+        /**
+         * 購読が開始されたときに呼び出されます。
+         * 
+         * @param subscription
+         *            購読
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * 要素を受け取ります。
+         * 
+         * @param item
+         *            要素
+         */
+        void onNext(T item);
+
+        /**
+         * 購読がエラーで終了したときに呼び出されます。
+         * 
+         * @param throwable
+         *            エラー
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * すべての要素を受け取り終えたときに呼び出されます。
+         */
+        void onComplete();
+    }
+
+    /**
+     * 発行者と購読者を結ぶ購読です。
+     */
+    public interface Subscription {
+
+        /**
+         * 指定された数の要素を要求します。
+         * 
+         * @param n
+         *            要求する要素の数
+         */
+        void request(long n);
+
+        /**
+         * 購読を取り消します。
+         */
+        void cancel();
+    }
+
+}
@@ -16,9 +16,27 @@
 package org.seasar.doma.jdbc;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
+import org.seasar.doma.BatchDelete;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.BatchUpdate;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Delete;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.Update;
+import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
 import org.seasar.doma.jdbc.dialect.Dialect;
 
 /**
@@ -45,4 +63,221 @@ public class GreedyCacheSqlFileRepository extends AbstractSqlFileRepository {
         return current != null ? current : file;
     }
 
+    /**
+     * Daoが参照するSQLファイルを {@link ForkJoinPool#commonPool()} で並列に解析してキャッシュします。
+     * 
+     * @param dialect
+     *            方言
+     * @param daoClasses
+     *            Daoのインタフェースもしくは実装クラス
+     * @return 事前読み込みの結果
+     * @throws DomaNullPointerException
+     *             引数のいずれかが {@code null} の場合
+     * @throws JdbcException
+     *             SQLファイルの読み込みや解析に失敗した場合
+     * @since 2.0.2
+     * @see #preload(Dialect, ForkJoinPool, Class...)
+     */
+    public SqlFilePreloadResult preload(Dialect dialect, Class<?>... daoClasses) {
+        return preload(dialect, ForkJoinPool.commonPool(), daoClasses);
+    }
+
+    /**
+     * Daoが参照するSQLファイルを並列に解析してキャッシュします。
+     * <p>
+     * アプリケーションの起動時に呼び出すことで、Daoのメソッドの初回呼び出し時に発生するSQLファイルの読み込みと解析を避けられます。
+     * 対象となるのはSQLファイルにマッピングされるDaoのメソッドです。
+     * SQLファイルのパスはDaoのメソッドから導出され、方言に固有のSQLファイルが存在する場合はそれを優先します。
+     * すでにキャッシュされているSQLファイルは無視され、見つからなかったSQLファイルのパスは結果に含まれます。
+     * <p>
+     * 解析は呼び出し元スレッドのコンテキストクラスローダーを設定したうえで行われます。
+     * 
+     * @param dialect
+     *            方言
+     * @param pool
+     *            解析に使用するプール
+     * @param daoClasses
+     *            Daoのインタフェースもしくは実装クラス
+     * @return 事前読み込みの結果
+     * @throws DomaNullPointerException
+     *             引数のいずれかが {@code null} の場合
+     * @throws JdbcException
+     *             SQLファイルの読み込みや解析に失敗した場合
+     * @since 2.0.2
+     */
+    public SqlFilePreloadResult preload(Dialect dialect, ForkJoinPool pool,
+            Class<?>... daoClasses) {
+        if (dialect == null) {
+            throw new DomaNullPointerException("dialect");
+        }
+        if (pool == null) {
+            throw new DomaNullPointerException("pool");
+        }
+        if (daoClasses == null) {
+            throw new DomaNullPointerException("daoClasses");
+        }
+        long startNanos = System.nanoTime();
+        ClassLoader classLoader = Thread.currentThread()
+                .getContextClassLoader();
+        List<String> paths = new ArrayList<>(collectSqlFilePaths(daoClasses));
+        List<ForkJoinTask<PreloadStatus>> tasks = new ArrayList<>();
+        for (String path : paths) {
+            tasks.add(pool.submit(() -> preloadSqlFile(path, dialect,
+                    classLoader)));
+        }
+        int fileCount = 0;
+        List<String> missingPaths = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            PreloadStatus status = tasks.get(i).join();
+            if (status == PreloadStatus.LOADED) {
+                fileCount++;
+            } else if (status == PreloadStatus.MISSING) {
+                missingPaths.add(paths.get(i));
+            }
+        }
+        return new SqlFilePreloadResult(fileCount,
+                Collections.unmodifiableList(missingPaths), System.nanoTime()
+                        - startNanos);
+    }
+
+    /**
+     * Daoのメソッドに対応するSQLファイルのパスを収集します。
+     * 
+     * @param daoClasses
+     *            Daoのインタフェースもしくは実装クラス
+     * @return SQLファイルのパスの集合
+     */
+    protected Set<String> collectSqlFilePaths(Class<?>... daoClasses) {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Class<?> daoClass : daoClasses) {
+            if (daoClass == null) {
+                throw new DomaNullPointerException("daoClasses");
+            }
+            if (daoClass.isAnnotationPresent(Dao.class)) {
+                collectSqlFilePaths(daoClass, paths);
+            } else {
+                for (Class<?> daoInterface : daoClass.getInterfaces()) {
+                    if (daoInterface.isAnnotationPresent(Dao.class)) {
+                        collectSqlFilePaths(daoInterface, paths);
+                    }
+                }
+            }
+        }
+        return paths;
+    }
+
+    private void collectSqlFilePaths(Class<?> daoInterface, Set<String> paths) {
+        for (Method method : daoInterface.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.isDefault()) {
+                continue;
+            }
+            if (isSqlFileMethod(method)) {
+                paths.add(SqlFileUtil.buildPath(method.getDeclaringClass()
+                        .getName(), method.getName()));
+            }
+        }
+    }
+
+    /**
+     * DaoのメソッドがSQLファイルにマッピングされるかどうかを返します。
+     * 
+     * @param method
+     *            Daoのメソッド
+     * @return SQLファイルにマッピングされる場合 {@code true}
+     */
+    protected boolean isSqlFileMethod(Method method) {
+        if (method.isAnnotationPresent(Select.class)) {
+            return true;
+        }
+        Insert insert = method.getAnnotation(Insert.class);
+        if (insert != null) {
+            return insert.sqlFile();
+        }
+        Update update = method.getAnnotation(Update.class);
+        if (update != null) {
+            return update.sqlFile();
+        }
+        Delete delete = method.getAnnotation(Delete.class);
+        if (delete != null) {
+            return delete.sqlFile();
+        }
+        BatchInsert batchInsert = method.getAnnotation(BatchInsert.class);
+        if (batchInsert != null) {
+            return batchInsert.sqlFile();
+        }
+        BatchUpdate batchUpdate = method.getAnnotation(BatchUpdate.class);
+        if (batchUpdate != null) {
+            return batchUpdate.sqlFile();
+        }
+        BatchDelete batchDelete = method.getAnnotation(BatchDelete.class);
+        if (batchDelete != null) {
+            return batchDelete.sqlFile();
+        }
+        return false;
+    }
+
+    /**
+     * SQLファイルを解析してキャッシュします。
+     * <p>
+     * 解析の間、現在のスレッドのコンテキストクラスローダーを {@code classLoader} に置き換えます。
+     * 
+     * @param path
+     *            SQLのパス
+     * @param dialect
+     *            方言
+     * @param classLoader
+     *            SQLファイルの検索に使用するクラスローダー
+     * @return 事前読み込みの状態
+     */
+    protected PreloadStatus preloadSqlFile(String path, Dialect dialect,
+            ClassLoader classLoader) {
+        Thread thread = Thread.currentThread();
+        ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return preloadSqlFile(path, dialect);
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+
+    /**
+     * SQLファイルを解析してキャッシュします。
+     * 
+     * @param path
+     *            SQLのパス
+     * @param dialect
+     *            方言
+     * @return 事前読み込みの状態
+     */
+    protected PreloadStatus preloadSqlFile(String path, Dialect dialect) {
+        if (sqlFileMap.containsKey(path)) {
+            return PreloadStatus.CACHED;
+        }
+        SqlFile file = findSqlFile(path, dialect);
+        if (file == null) {
+            return PreloadStatus.MISSING;
+        }
+        return sqlFileMap.putIfAbsent(path, file) == null ? PreloadStatus.LOADED
+                : PreloadStatus.CACHED;
+    }
+
+    /**
+     * SQLファイルの事前読み込みの状態です。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    protected static enum PreloadStatus {
+
+        /** 解析してキャッシュした */
+        LOADED,
+
+        /** すでにキャッシュされていた */
+        CACHED,
+
+        /** SQLファイルが見つからなかった */
+        MISSING
+    }
+
 }
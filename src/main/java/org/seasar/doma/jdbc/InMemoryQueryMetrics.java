@@ -0,0 +1,284 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.seasar.doma.internal.util.Histogram;
+import org.seasar.doma.jdbc.query.Query;
+
+/**
+ * クエリの計測値をメモリ上に保持する {@link QueryMetrics} の実装です。
+ * <p>
+ * 計測値はDaoのクラスとメソッドの組ごとにヒストグラムとして集計されます。 {@link #snapshot()}
+ * で、集計結果を取得できます。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class InMemoryQueryMetrics implements QueryMetrics {
+
+    /** クラス名をキー、メソッド名と計測値のマップを値とするマップ */
+    protected final ConcurrentMap<String, ConcurrentMap<String, MethodMetrics>> metricsMap = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordPrepare(Query query, long nanos) {
+        getMethodMetrics(query).prepare.record(nanos);
+    }
+
+    @Override
+    public void recordSelect(Query query, long executeNanos, long fetchNanos,
+            long rowCount) {
+        MethodMetrics metrics = getMethodMetrics(query);
+        metrics.setSqlFilePath(query);
+        metrics.execute.record(executeNanos);
+        metrics.fetch.record(fetchNanos);
+        metrics.rows.record(rowCount);
+    }
+
+    @Override
+    public void recordModify(Query query, long executeNanos, long rowCount) {
+        MethodMetrics metrics = getMethodMetrics(query);
+        metrics.setSqlFilePath(query);
+        metrics.execute.record(executeNanos);
+        metrics.rows.record(rowCount);
+    }
+
+    @Override
+    public void recordBatch(Query query, long executeNanos, int batchSize,
+            long rowCount) {
+        MethodMetrics metrics = getMethodMetrics(query);
+        metrics.setSqlFilePath(query);
+        metrics.execute.record(executeNanos);
+        metrics.batchSize.record(batchSize);
+        metrics.rows.record(rowCount);
+    }
+
+    protected MethodMetrics getMethodMetrics(Query query) {
+        String className = query.getClassName();
+        String methodName = query.getMethodName();
+        ConcurrentMap<String, MethodMetrics> methodMap = metricsMap.get(className);
+        if (methodMap == null) {
+            methodMap = metricsMap.computeIfAbsent(className,
+                    k -> new ConcurrentHashMap<>());
+        }
+        MethodMetrics metrics = methodMap.get(methodName);
+        if (metrics == null) {
+            metrics = methodMap.computeIfAbsent(methodName,
+                    k -> new MethodMetrics(className, methodName));
+        }
+        return metrics;
+    }
+
+    /**
+     * 集計結果のスナップショットを返します。
+     * 
+     * @return Daoのメソッドごとのスナップショットのリスト
+     */
+    public List<MethodSnapshot> snapshot() {
+        List<MethodSnapshot> results = new ArrayList<>();
+        for (ConcurrentMap<String, MethodMetrics> methodMap : metricsMap
+                .values()) {
+            for (MethodMetrics metrics : methodMap.values()) {
+                results.add(metrics.snapshot());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 集計結果をすべて破棄します。
+     */
+    public void reset() {
+        metricsMap.clear();
+    }
+
+    /**
+     * Daoのメソッドごとの計測値です。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    protected static class MethodMetrics {
+
+        protected final String className;
+
+        protected final String methodName;
+
+        protected volatile String sqlFilePath;
+
+        protected final Histogram prepare = new Histogram();
+
+        protected final Histogram execute = new Histogram();
+
+        protected final Histogram fetch = new Histogram();
+
+        protected final Histogram rows = new Histogram();
+
+        protected final Histogram batchSize = new Histogram();
+
+        protected MethodMetrics(String className, String methodName) {
+            this.className = className;
+            this.methodName = methodName;
+        }
+
+        protected void setSqlFilePath(Query query) {
+            if (sqlFilePath == null) {
+                Sql<?> sql = query.getSql();
+                if (sql != null) {
+                    sqlFilePath = sql.getSqlFilePath();
+                }
+            }
+        }
+
+        protected MethodSnapshot snapshot() {
+            return new MethodSnapshot(className, methodName, sqlFilePath,
+                    prepare.snapshot(), execute.snapshot(), fetch.snapshot(),
+                    rows.snapshot(), batchSize.snapshot());
+        }
+    }
+
+    /**
+     * Daoのメソッドごとの集計結果のスナップショットです。
+     * <p>
+     * 時間はすべてナノ秒です。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    public static class MethodSnapshot {
+
+        protected final String className;
+
+        protected final String methodName;
+
+        protected final String sqlFilePath;
+
+        protected final Histogram.Snapshot prepare;
+
+        protected final Histogram.Snapshot execute;
+
+        protected final Histogram.Snapshot fetch;
+
+        protected final Histogram.Snapshot rows;
+
+        protected final Histogram.Snapshot batchSize;
+
+        protected MethodSnapshot(String className, String methodName,
+                String sqlFilePath, Histogram.Snapshot prepare,
+                Histogram.Snapshot execute, Histogram.Snapshot fetch,
+                Histogram.Snapshot rows, Histogram.Snapshot batchSize) {
+            this.className = className;
+            this.methodName = methodName;
+            this.sqlFilePath = sqlFilePath;
+            this.prepare = prepare;
+            this.execute = execute;
+            this.fetch = fetch;
+            this.rows = rows;
+            this.batchSize = batchSize;
+        }
+
+        /**
+         * Daoのクラス名を返します。
+         * 
+         * @return Daoのクラス名
+         */
+        public String getClassName() {
+            return className;
+        }
+
+        /**
+         * Daoのメソッド名を返します。
+         * 
+         * @return Daoのメソッド名
+         */
+        public String getMethodName() {
+            return methodName;
+        }
+
+        /**
+         * SQLファイルのパスを返します。
+         * 
+         * @return SQLファイルのパス、SQLファイルを使用しない場合 {@code null}
+         */
+        public String getSqlFilePath() {
+            return sqlFilePath;
+        }
+
+        /**
+         * {@link Query#prepare()} に要した時間の分布を返します。
+         * 
+         * @return 準備に要した時間の分布
+         */
+        public Histogram.Snapshot getPrepare() {
+            return prepare;
+        }
+
+        /**
+         * SQLの実行に要した時間の分布を返します。
+         * 
+         * @return SQLの実行に要した時間の分布
+         */
+        public Histogram.Snapshot getExecute() {
+            return execute;
+        }
+
+        /**
+         * 結果セットの処理に要した時間の分布を返します。
+         * 
+         * @return 結果セットの処理に要した時間の分布
+         */
+        public Histogram.Snapshot getFetch() {
+            return fetch;
+        }
+
+        /**
+         * 取得もしくは更新した行数の分布を返します。
+         * 
+         * @return 行数の分布
+         */
+        public Histogram.Snapshot getRows() {
+            return rows;
+        }
+
+        /**
+         * バッチ対象の数の分布を返します。
+         * 
+         * @return バッチ対象の数の分布
+         */
+        public Histogram.Snapshot getBatchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public String toString() {
+            return className + "#" + methodName + " [sqlFilePath="
+                    + sqlFilePath + ", count=" + execute.getCount()
+                    + ", execute(p50/p99/max)="
+                    + execute.getValueAtPercentile(50) + "/"
+                    + execute.getValueAtPercentile(99) + "/"
+                    + execute.getMax() + ", rows=" + rows.getSum() + "]";
+        }
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.seasar.doma.message.Message;
+
+/**
+ * {@link PooledDataSource} から貸し出されるコネクションです。
+ * <p>
+ * {@code close()} を呼び出すと物理コネクションをプールへ返却します。インスタンスは貸し出しのたびに作成され、
+ * 返却後の呼び出しは {@link SQLException} をスローします。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+class PooledConnection implements Connection {
+
+    /** 貸し出し元のデータソース */
+    protected final PooledDataSource dataSource;
+
+    /** 物理コネクション */
+    protected final PooledDataSource.Entry entry;
+
+    /** 貸し出された時刻（ナノ秒） */
+    protected final long borrowedAt;
+
+    /** 貸し出された場所のスタックトレース、リークを検出しない場合 {@code null} */
+    protected final Throwable borrowedStackTrace;
+
+    /** 返却されたかどうか */
+    protected final AtomicBoolean closed = new AtomicBoolean();
+
+    /** リークが検出されたかどうか */
+    protected final AtomicBoolean leaked = new AtomicBoolean();
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param dataSource
+     *            貸し出し元のデータソース
+     * @param entry
+     *            物理コネクション
+     */
+    PooledConnection(PooledDataSource dataSource, PooledDataSource.Entry entry) {
+        this.dataSource = dataSource;
+        this.entry = entry;
+        this.borrowedAt = System.nanoTime();
+        this.borrowedStackTrace = dataSource.getLeakDetectionThreshold() > 0 ? new Throwable()
+                : null;
+    }
+
+    /**
+     * リークが検出されたことを記録します。
+     * 
+     * @return 初めて記録された場合 {@code true}
+     */
+    protected boolean markLeaked() {
+        return leaked.compareAndSet(false, true);
+    }
+
+    /**
+     * 物理コネクションを返します。
+     * 
+     * @return 物理コネクション
+     * @throws SQLException
+     *             返却済みの場合
+     */
+    protected Connection physicalConnection() throws SQLException {
+        if (closed.get()) {
+            throw new SQLException(Message.DOMA5006.getMessage());
+        }
+        return entry.connection;
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        physicalConnection().clearWarnings();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (closed.compareAndSet(false, true)) {
+            dataSource.release(this);
+        }
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        physicalConnection().commit();
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements)
+            throws SQLException {
+        return physicalConnection().createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return physicalConnection().createBlob();
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return physicalConnection().createClob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return physicalConnection().createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return physicalConnection().createSQLXML();
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        return physicalConnection().createStatement();
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType,
+            int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        return physicalConnection().createStatement(resultSetType, resultSetConcurrency,
+                resultSetHoldability);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency)
+            throws SQLException {
+        return physicalConnection().createStatement(resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes)
+            throws SQLException {
+        return physicalConnection().createStruct(typeName, attributes);
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return physicalConnection().getAutoCommit();
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return physicalConnection().getCatalog();
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return physicalConnection().getClientInfo();
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return physicalConnection().getClientInfo(name);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return physicalConnection().getHoldability();
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return physicalConnection().getMetaData();
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return physicalConnection().getTransactionIsolation();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return physicalConnection().getTypeMap();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return physicalConnection().getWarnings();
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return closed.get();
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return physicalConnection().isReadOnly();
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return physicalConnection().isValid(timeout);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        if (iface == null) {
+            return false;
+        }
+        if (iface.isAssignableFrom(getClass())) {
+            return true;
+        }
+        return physicalConnection().isWrapperFor(iface);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return physicalConnection().nativeSQL(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType,
+            int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        return physicalConnection().prepareCall(sql, resultSetType, resultSetConcurrency,
+                resultSetHoldability);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType,
+            int resultSetConcurrency) throws SQLException {
+        return physicalConnection().prepareCall(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return physicalConnection().prepareCall(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType,
+            int resultSetConcurrency, int resultSetHoldability)
+            throws SQLException {
+        return physicalConnection().prepareStatement(sql, resultSetType,
+                resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType,
+            int resultSetConcurrency) throws SQLException {
+        return physicalConnection().prepareStatement(sql, resultSetType,
+                resultSetConcurrency);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys)
+            throws SQLException {
+        return physicalConnection().prepareStatement(sql, autoGeneratedKeys);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes)
+            throws SQLException {
+        return physicalConnection().prepareStatement(sql, columnIndexes);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames)
+            throws SQLException {
+        return physicalConnection().prepareStatement(sql, columnNames);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        return physicalConnection().prepareStatement(sql);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        physicalConnection().releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        physicalConnection().rollback();
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        physicalConnection().rollback(savepoint);
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        physicalConnection().setAutoCommit(autoCommit);
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        physicalConnection().setCatalog(catalog);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties)
+            throws SQLClientInfoException {
+        entry.connection.setClientInfo(properties);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value)
+            throws SQLClientInfoException {
+        entry.connection.setClientInfo(name, value);
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        physicalConnection().setHoldability(holdability);
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        physicalConnection().setReadOnly(readOnly);
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return physicalConnection().setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return physicalConnection().setSavepoint(name);
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        physicalConnection().setTransactionIsolation(level);
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        physicalConnection().setTypeMap(map);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface == null) {
+            throw new SQLException("iface must not be null");
+        }
+        if (iface.isAssignableFrom(getClass())) {
+            return (T) this;
+        }
+        return physicalConnection().unwrap(iface);
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        physicalConnection().setSchema(schema);
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return physicalConnection().getSchema();
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        if (closed.compareAndSet(false, true)) {
+            try {
+                entry.connection.abort(executor);
+            } finally {
+                dataSource.discard(this);
+            }
+        }
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds)
+            throws SQLException {
+        physicalConnection().setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return physicalConnection().getNetworkTimeout();
+    }
+
+}
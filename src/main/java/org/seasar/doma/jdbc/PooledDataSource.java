@@ -0,0 +1,798 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.io.PrintWriter;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.sql.DataSource;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.message.Message;
+
+/**
+ * 物理コネクションをプールする軽量なデータソースです。
+ * <p>
+ * 物理コネクションの取得は {@link #PooledDataSource(DataSource, int)}
+ * で渡されたデータソース（たとえば {@link SimpleDataSource} ）に委譲します。
+ * {@link #getConnection()} で返されたコネクションの {@link Connection#close()}
+ * を呼び出すと、物理コネクションはクローズされずにプールへ返却されます。
+ * <p>
+ * このクラスは次の機能を持ちます。
+ * <ul>
+ * <li>アイドル状態のコネクションはロックを使用しないキューで管理されます。</li>
+ * <li>同時に貸し出すコネクションの数は {@code maxSize} に制限され、上限に達している場合は
+ * {@code connectionTimeout} まで返却を待ちます。</li>
+ * <li>アイドル状態のコネクションは貸し出す前に検証されます。</li>
+ * <li>生成から {@code maxLifetime} を超えた物理コネクションは破棄されます。</li>
+ * <li>{@code leakDetectionThreshold} を超えて返却されないコネクションは警告としてログに出力されます。</li>
+ * </ul>
+ * <p>
+ * アイドル状態のコネクションの補充とリークの検出は、最初の貸し出しの際に開始されるデーモンスレッド上で
+ * {@code housekeepingInterval} ごとに行われます。コネクションを貸し出すスレッドでは行いません。
+ * <p>
+ * このクラスはスレッドセーフです。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class PooledDataSource implements DataSource, AutoCloseable {
+
+    /** 物理コネクションを返すデータソース */
+    protected final DataSource dataSource;
+
+    /** 同時に貸し出すコネクションの最大数 */
+    protected final int maxSize;
+
+    /** 貸し出しの許可 */
+    protected final Semaphore permits;
+
+    /** アイドル状態のコネクション */
+    protected final ConcurrentLinkedDeque<Entry> idleEntries = new ConcurrentLinkedDeque<>();
+
+    /** 貸し出し中のコネクション */
+    protected final Set<PooledConnection> activeConnections = ConcurrentHashMap
+            .newKeySet();
+
+    /** 物理コネクションの数 */
+    protected final AtomicInteger totalCount = new AtomicInteger();
+
+    /** 貸し出しの回数 */
+    protected final AtomicLong borrowCount = new AtomicLong();
+
+    /** 貸し出しを待った時間の合計（ナノ秒） */
+    protected final AtomicLong totalWaitNanos = new AtomicLong();
+
+    /** 貸し出しを待った時間の最大値（ナノ秒） */
+    protected final AtomicLong maxWaitNanos = new AtomicLong();
+
+    /** リークが検出されたコネクションの数 */
+    protected final AtomicLong leakCount = new AtomicLong();
+
+    /** ロガー */
+    protected final Logger logger = Logger.getLogger(PooledDataSource.class
+            .getName());
+
+    /** 保持するアイドル状態のコネクションの最小数 */
+    protected volatile int minIdle;
+
+    /** コネクションの取得を待つ時間（ミリ秒） */
+    protected volatile long connectionTimeout = 30000L;
+
+    /** 物理コネクションの最大生存時間（ミリ秒）、{@code 0} 以下の場合は無制限 */
+    protected volatile long maxLifetime = 1800000L;
+
+    /** リークを検出するまでの時間（ミリ秒）、{@code 0} 以下の場合は検出しない */
+    protected volatile long leakDetectionThreshold;
+
+    /** 検証に使用するSQL、{@code null} の場合は {@link Connection#isValid(int)} を使用する */
+    protected volatile String validationSql;
+
+    /** 検証のタイムアウト（秒） */
+    protected volatile int validationTimeout = 5;
+
+    /** ハウスキーピングの間隔（ミリ秒） */
+    protected volatile long housekeepingInterval = 30000L;
+
+    /** ハウスキーピングが開始されたかどうか */
+    protected final AtomicBoolean housekeepingStarted = new AtomicBoolean();
+
+    /** ハウスキーピングを実行するエグゼキュータ */
+    protected volatile ScheduledExecutorService housekeeper;
+
+    /** クローズされたかどうか */
+    protected volatile boolean closed;
+
+    /**
+     * コネクションの最大数を {@code 10} としてインスタンスを構築します。
+     * 
+     * @param dataSource
+     *            物理コネクションを返すデータソース
+     * @throws DomaNullPointerException
+     *             {@code dataSource} が {@code null} の場合
+     */
+    public PooledDataSource(DataSource dataSource) {
+        this(dataSource, 10);
+    }
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param dataSource
+     *            物理コネクションを返すデータソース
+     * @param maxSize
+     *            同時に貸し出すコネクションの最大数
+     * @throws DomaNullPointerException
+     *             {@code dataSource} が {@code null} の場合
+     * @throws DomaIllegalArgumentException
+     *             {@code maxSize} が {@code 1} より小さい場合
+     */
+    public PooledDataSource(DataSource dataSource, int maxSize) {
+        if (dataSource == null) {
+            throw new DomaNullPointerException("dataSource");
+        }
+        if (maxSize < 1) {
+            throw new DomaIllegalArgumentException("maxSize", "maxSize < 1");
+        }
+        this.dataSource = dataSource;
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (closed) {
+            throw new SQLException(Message.DOMA5003.getMessage());
+        }
+        long start = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(connectionTimeout, TimeUnit.MILLISECONDS)) {
+                throw new SQLException(Message.DOMA5004.getMessage(
+                        connectionTimeout, maxSize));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException(e);
+        }
+        recordWait(System.nanoTime() - start);
+        PooledConnection connection;
+        try {
+            connection = new PooledConnection(this, borrow());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        activeConnections.add(connection);
+        borrowCount.incrementAndGet();
+        startHousekeeping();
+        return connection;
+    }
+
+    /**
+     * ハウスキーピングを開始します。
+     * <p>
+     * 2回目以降の呼び出しでは何もしません。
+     */
+    protected void startHousekeeping() {
+        if (housekeepingStarted.get()
+                || !housekeepingStarted.compareAndSet(false, true)) {
+            return;
+        }
+        ScheduledExecutorService executor = Executors
+                .newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable,
+                            "doma-pool-housekeeper");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        long interval = housekeepingInterval;
+        executor.scheduleWithFixedDelay(this::housekeep, interval, interval,
+                TimeUnit.MILLISECONDS);
+        housekeeper = executor;
+        if (closed) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * リークを検出し、アイドル状態のコネクションを補充します。
+     * <p>
+     * ハウスキーピングのスレッドから定期的に呼び出されます。
+     */
+    protected void housekeep() {
+        try {
+            detectLeaks();
+            fillIdle();
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * プールから物理コネクションを取り出します。
+     * <p>
+     * アイドル状態のコネクションが存在しない場合は新しく作成します。
+     * 
+     * @return 物理コネクション
+     * @throws SQLException
+     *             SQLに関する例外が発生した場合
+     */
+    protected Entry borrow() throws SQLException {
+        for (Entry entry = idleEntries.pollFirst(); entry != null; entry = idleEntries
+                .pollFirst()) {
+            if (isExpired(entry) || !isValid(entry)) {
+                destroy(entry);
+                continue;
+            }
+            return entry;
+        }
+        return createEntry();
+    }
+
+    /**
+     * 貸し出したコネクションをプールへ返却します。
+     * 
+     * @param connection
+     *            返却されるコネクション
+     */
+    protected void release(PooledConnection connection) {
+        activeConnections.remove(connection);
+        Entry entry = connection.entry;
+        try {
+            if (closed || isExpired(entry) || !reset(entry)) {
+                destroy(entry);
+            } else {
+                idleEntries.offerFirst(entry);
+                if (closed) {
+                    closeIdleEntries();
+                }
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 貸し出したコネクションを返却せずに破棄します。
+     * 
+     * @param connection
+     *            破棄されるコネクション
+     */
+    protected void discard(PooledConnection connection) {
+        activeConnections.remove(connection);
+        try {
+            destroy(connection.entry);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 物理コネクションを作成します。
+     * 
+     * @return 物理コネクション
+     * @throws SQLException
+     *             SQLに関する例外が発生した場合
+     */
+    protected Entry createEntry() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        totalCount.incrementAndGet();
+        return new Entry(connection, System.nanoTime());
+    }
+
+    /**
+     * 物理コネクションをクローズします。
+     * 
+     * @param entry
+     *            物理コネクション
+     */
+    protected void destroy(Entry entry) {
+        totalCount.decrementAndGet();
+        try {
+            entry.connection.close();
+        } catch (SQLException ignored) {
+            logger.log(Level.FINE, Message.DOMA2073.getMessage(), ignored);
+        }
+    }
+
+    /**
+     * アイドル状態のコネクションの数が {@code minIdle} に満たない場合、アイドル状態のコネクションを補充します。
+     * <p>
+     * 物理コネクションの数は {@code maxSize} を超えません。
+     */
+    protected void fillIdle() {
+        for (;;) {
+            int count = totalCount.get();
+            if (closed || idleEntries.size() >= minIdle || count >= maxSize) {
+                return;
+            }
+            if (!totalCount.compareAndSet(count, count + 1)) {
+                continue;
+            }
+            Connection connection;
+            try {
+                connection = dataSource.getConnection();
+            } catch (SQLException e) {
+                totalCount.decrementAndGet();
+                logger.log(Level.FINE, e.getMessage(), e);
+                return;
+            }
+            idleEntries.offerLast(new Entry(connection, System.nanoTime()));
+            if (closed) {
+                closeIdleEntries();
+                return;
+            }
+        }
+    }
+
+    /**
+     * 物理コネクションが最大生存時間を超えているかどうかを返します。
+     * 
+     * @param entry
+     *            物理コネクション
+     * @return 超えている場合 {@code true}
+     */
+    protected boolean isExpired(Entry entry) {
+        long lifetime = maxLifetime;
+        return lifetime > 0
+                && System.nanoTime() - entry.createdAt >= TimeUnit.MILLISECONDS
+                        .toNanos(lifetime);
+    }
+
+    /**
+     * アイドル状態だった物理コネクションを検証します。
+     * 
+     * @param entry
+     *            物理コネクション
+     * @return 有効な場合 {@code true}
+     */
+    protected boolean isValid(Entry entry) {
+        String sql = validationSql;
+        try {
+            if (sql == null) {
+                return entry.connection.isValid(validationTimeout);
+            }
+            try (Statement statement = entry.connection.createStatement()) {
+                statement.setQueryTimeout(validationTimeout);
+                statement.execute(sql);
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.log(Level.FINE, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 返却された物理コネクションを再利用できる状態に戻します。
+     * <p>
+     * 自動コミットモードが無効な場合、未確定の変更をロールバックして自動コミットモードを有効にします。
+     * 
+     * @param entry
+     *            物理コネクション
+     * @return 再利用できる場合 {@code true}
+     */
+    protected boolean reset(Entry entry) {
+        try {
+            Connection connection = entry.connection;
+            if (connection.isClosed()) {
+                return false;
+            }
+            if (!connection.getAutoCommit()) {
+                connection.rollback();
+                connection.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.log(Level.FINE, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * 返却されずに {@code leakDetectionThreshold} を超えたコネクションをログに出力します。
+     * <p>
+     * 1つのコネクションにつき1度だけ出力します。
+     */
+    protected void detectLeaks() {
+        long threshold = leakDetectionThreshold;
+        if (threshold <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(threshold);
+        for (PooledConnection connection : activeConnections) {
+            if (now - connection.borrowedAt >= thresholdNanos
+                    && connection.markLeaked()) {
+                leakCount.incrementAndGet();
+                logger.log(Level.WARNING,
+                        Message.DOMA5005.getMessage(threshold),
+                        connection.borrowedStackTrace);
+            }
+        }
+    }
+
+    /**
+     * 待ち時間を記録します。
+     * 
+     * @param nanos
+     *            待ち時間（ナノ秒）
+     */
+    protected void recordWait(long nanos) {
+        totalWaitNanos.addAndGet(nanos);
+        for (;;) {
+            long max = maxWaitNanos.get();
+            if (nanos <= max || maxWaitNanos.compareAndSet(max, nanos)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * プールをクローズします。
+     * <p>
+     * アイドル状態の物理コネクションはただちにクローズされ、貸し出し中のコネクションは返却時にクローズされます。
+     * ハウスキーピングは停止されます。
+     */
+    @Override
+    public void close() {
+        closed = true;
+        ScheduledExecutorService executor = housekeeper;
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        closeIdleEntries();
+    }
+
+    /**
+     * アイドル状態の物理コネクションをクローズします。
+     */
+    protected void closeIdleEntries() {
+        for (Entry entry = idleEntries.pollFirst(); entry != null; entry = idleEntries
+                .pollFirst()) {
+            destroy(entry);
+        }
+    }
+
+    /**
+     * 同時に貸し出すコネクションの最大数を返します。
+     * 
+     * @return コネクションの最大数
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 保持するアイドル状態のコネクションの最小数を返します。
+     * 
+     * @return アイドル状態のコネクションの最小数
+     */
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    /**
+     * 保持するアイドル状態のコネクションの最小数を設定します。
+     * <p>
+     * アイドル状態のコネクションの数がこの値に満たない場合、ハウスキーピングの際に補充します。
+     * ただし、物理コネクションの数は {@code maxSize} を超えません。
+     * 
+     * @param minIdle
+     *            アイドル状態のコネクションの最小数
+     * @throws DomaIllegalArgumentException
+     *             {@code minIdle} が {@code 0} より小さい場合、もしくは {@code maxSize}
+     *             より大きい場合
+     */
+    public void setMinIdle(int minIdle) {
+        if (minIdle < 0 || minIdle > maxSize) {
+            throw new DomaIllegalArgumentException("minIdle",
+                    "minIdle < 0 || minIdle > maxSize");
+        }
+        this.minIdle = minIdle;
+    }
+
+    /**
+     * コネクションの取得を待つ時間（ミリ秒）を返します。
+     * 
+     * @return コネクションの取得を待つ時間
+     */
+    public long getConnectionTimeout() {
+        return connectionTimeout;
+    }
+
+    /**
+     * コネクションの取得を待つ時間（ミリ秒）を設定します。
+     * 
+     * @param connectionTimeout
+     *            コネクションの取得を待つ時間
+     */
+    public void setConnectionTimeout(long connectionTimeout) {
+        this.connectionTimeout = connectionTimeout;
+    }
+
+    /**
+     * 物理コネクションの最大生存時間（ミリ秒）を返します。
+     * 
+     * @return 物理コネクションの最大生存時間
+     */
+    public long getMaxLifetime() {
+        return maxLifetime;
+    }
+
+    /**
+     * 物理コネクションの最大生存時間（ミリ秒）を設定します。
+     * 
+     * @param maxLifetime
+     *            物理コネクションの最大生存時間、{@code 0} 以下の場合は無制限
+     */
+    public void setMaxLifetime(long maxLifetime) {
+        this.maxLifetime = maxLifetime;
+    }
+
+    /**
+     * リークを検出するまでの時間（ミリ秒）を返します。
+     * 
+     * @return リークを検出するまでの時間
+     */
+    public long getLeakDetectionThreshold() {
+        return leakDetectionThreshold;
+    }
+
+    /**
+     * リークを検出するまでの時間（ミリ秒）を設定します。
+     * <p>
+     * {@code 0} より大きい値を設定すると、コネクションを取得した場所のスタックトレースを記録します。
+     * リークはハウスキーピングの際に検出されます。
+     * 
+     * @param leakDetectionThreshold
+     *            リークを検出するまでの時間、{@code 0} 以下の場合は検出しない
+     */
+    public void setLeakDetectionThreshold(long leakDetectionThreshold) {
+        this.leakDetectionThreshold = leakDetectionThreshold;
+    }
+
+    /**
+     * 検証に使用するSQLを返します。
+     * 
+     * @return 検証に使用するSQL
+     */
+    public String getValidationSql() {
+        return validationSql;
+    }
+
+    /**
+     * 検証に使用するSQLを設定します。
+     * <p>
+     * たとえば、 {@literal Oracle} では {@code select 1 from dual} を指定します。
+     * 
+     * @param validationSql
+     *            検証に使用するSQL、{@code null} の場合は {@link Connection#isValid(int)}
+     *            を使用する
+     */
+    public void setValidationSql(String validationSql) {
+        this.validationSql = validationSql;
+    }
+
+    /**
+     * 検証のタイムアウト（秒）を返します。
+     * 
+     * @return 検証のタイムアウト
+     */
+    public int getValidationTimeout() {
+        return validationTimeout;
+    }
+
+    /**
+     * 検証のタイムアウト（秒）を設定します。
+     * 
+     * @param validationTimeout
+     *            検証のタイムアウト
+     */
+    public void setValidationTimeout(int validationTimeout) {
+        this.validationTimeout = validationTimeout;
+    }
+
+    /**
+     * ハウスキーピングの間隔（ミリ秒）を返します。
+     * 
+     * @return ハウスキーピングの間隔
+     */
+    public long getHousekeepingInterval() {
+        return housekeepingInterval;
+    }
+
+    /**
+     * ハウスキーピングの間隔（ミリ秒）を設定します。
+     * <p>
+     * ハウスキーピングが開始された後に設定した値は反映されません。
+     * 
+     * @param housekeepingInterval
+     *            ハウスキーピングの間隔
+     * @throws DomaIllegalArgumentException
+     *             {@code housekeepingInterval} が {@code 1} より小さい場合
+     */
+    public void setHousekeepingInterval(long housekeepingInterval) {
+        if (housekeepingInterval < 1) {
+            throw new DomaIllegalArgumentException("housekeepingInterval",
+                    "housekeepingInterval < 1");
+        }
+        this.housekeepingInterval = housekeepingInterval;
+    }
+
+    /**
+     * 貸し出し中のコネクションの数を返します。
+     * 
+     * @return 貸し出し中のコネクションの数
+     */
+    public int getActiveCount() {
+        return activeConnections.size();
+    }
+
+    /**
+     * アイドル状態のコネクションの数を返します。
+     * 
+     * @return アイドル状態のコネクションの数
+     */
+    public int getIdleCount() {
+        return idleEntries.size();
+    }
+
+    /**
+     * 物理コネクションの数を返します。
+     * 
+     * @return 物理コネクションの数
+     */
+    public int getTotalCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * 貸し出しの回数を返します。
+     * 
+     * @return 貸し出しの回数
+     */
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+    /**
+     * 貸し出しを待った時間の合計（ナノ秒）を返します。
+     * 
+     * @return 貸し出しを待った時間の合計
+     */
+    public long getTotalWaitNanos() {
+        return totalWaitNanos.get();
+    }
+
+    /**
+     * 貸し出しを待った時間の最大値（ナノ秒）を返します。
+     * 
+     * @return 貸し出しを待った時間の最大値
+     */
+    public long getMaxWaitNanos() {
+        return maxWaitNanos.get();
+    }
+
+    /**
+     * リークが検出されたコネクションの数を返します。
+     * 
+     * @return リークが検出されたコネクションの数
+     */
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    /**
+     * プールがクローズされたかどうかを返します。
+     * 
+     * @return クローズされた場合 {@code true}
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password)
+            throws SQLException {
+        throw new SQLFeatureNotSupportedException(
+                "getConnection(String, String)");
+    }
+
+    @Override
+    public PrintWriter getLogWriter() throws SQLException {
+        return dataSource.getLogWriter();
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) throws SQLException {
+        dataSource.setLogWriter(out);
+    }
+
+    @Override
+    public int getLoginTimeout() throws SQLException {
+        return dataSource.getLoginTimeout();
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) throws SQLException {
+        dataSource.setLoginTimeout(seconds);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        if (iface == null) {
+            return false;
+        }
+        if (iface.isAssignableFrom(getClass())) {
+            return true;
+        }
+        return dataSource.isWrapperFor(iface);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface == null) {
+            throw new SQLException("iface must not be null");
+        }
+        if (iface.isAssignableFrom(getClass())) {
+            return (T) this;
+        }
+        return dataSource.unwrap(iface);
+    }
+
+    @SuppressWarnings("all")
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+
+    /**
+     * プールされる物理コネクションです。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    protected static class Entry {
+
+        /** 物理コネクション */
+        protected final Connection connection;
+
+        /** 生成された時刻（ナノ秒） */
+        protected final long createdAt;
+
+        protected Entry(Connection connection, long createdAt) {
+            this.connection = connection;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import org.seasar.doma.jdbc.query.Query;
+
+/**
+ * クエリの実行に関する計測値を記録します。
+ * <p>
+ * 時間はすべてナノ秒です。 {@link #isEnabled()} が {@code false} を返す場合、計測そのものが行われません。
+ * <p>
+ * このインタフェースの実装はスレッドセーフでなければいけません。
+ * <p>
+ * このインタフェースのメソッドは例外をスローしてはいけません。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ * @see InMemoryQueryMetrics
+ */
+public interface QueryMetrics {
+
+    /**
+     * 計測が有効かどうかを返します。
+     * 
+     * @return 計測が有効な場合 {@code true}
+     */
+    default boolean isEnabled() {
+        return false;
+    }
+
+    /**
+     * {@link Query#prepare()} に要した時間を記録します。
+     * 
+     * @param query
+     *            クエリ
+     * @param nanos
+     *            準備に要した時間
+     */
+    default void recordPrepare(Query query, long nanos) {
+    }
+
+    /**
+     * 検索の実行を記録します。
+     * 
+     * @param query
+     *            クエリ
+     * @param executeNanos
+     *            SQLの実行に要した時間
+     * @param fetchNanos
+     *            結果セットの処理に要した時間
+     * @param rowCount
+     *            取得した行数
+     */
+    default void recordSelect(Query query, long executeNanos, long fetchNanos,
+            long rowCount) {
+    }
+
+    /**
+     * 更新の実行を記録します。
+     * 
+     * @param query
+     *            クエリ
+     * @param executeNanos
+     *            SQLの実行に要した時間
+     * @param rowCount
+     *            更新件数
+     */
+    default void recordModify(Query query, long executeNanos, long rowCount) {
+    }
+
+    /**
+     * バッチ更新の実行を記録します。
+     * 
+     * @param query
+     *            クエリ
+     * @param executeNanos
+     *            SQLの実行に要した時間
+     * @param batchSize
+     *            バッチ対象の数
+     * @param rowCount
+     *            更新件数の合計
+     */
+    default void recordBatch(Query query, long executeNanos, int batchSize,
+            long rowCount) {
+    }
+}
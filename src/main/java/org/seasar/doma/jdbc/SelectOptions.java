@@ -59,6 +59,12 @@ public class SelectOptions implements Serializable {
     /** 悲観的排他制御のロック対象のエイリアスの配列 */
     protected String[] aliases = new String[] {};
 
+    /** キーセットによるページングの開始位置となるキーの配列 */
+    protected Object[] keys;
+
+    /** 検索結果の最後の行のキーの配列 */
+    protected Object[] lastKeys;
+
     /**
      * インスタンスを構築します。
      */
@@ -206,6 +212,54 @@ public class SelectOptions implements Serializable {
         return this;
     }
 
+    /**
+     * キーセットによるページングを行うことを示します。
+     * <p>
+     * SQLのorder by句に指定された列の値が {@code keys} より後ろとなる行だけを検索します。 order
+     * by句には列名と {@code asc} / {@code desc} のみを指定でき、 {@code keys}
+     * の要素の数はorder by句の列の数と一致している必要があります。 最初のページを検索する場合は引数なしで呼び出します。
+     * <p>
+     * 検索後、次のページを検索するためのキーを {@link #getLastKeys()} で取得できます。
+     * {@link #offset(int)} と異なり、読み飛ばす行を走査しないため、後ろのページでも検索性能が劣化しません。
+     * {@link #limit(int)} と組み合わせて使用します。
+     * 
+     * @param keys
+     *            直前のページの最後の行のキー
+     * @return このインスタンス
+     * @throws DomaNullPointerException
+     *             {@code keys} が {@code null} の場合
+     * @throws DomaIllegalArgumentException
+     *             {@code keys} の要素に {@code null} が含まれる場合
+     * @since 2.0.2
+     */
+    public SelectOptions after(Object... keys) {
+        if (keys == null) {
+            throw new DomaNullPointerException("keys");
+        }
+        for (Object key : keys) {
+            if (key == null) {
+                throw new DomaIllegalArgumentException("keys",
+                        "keys contains null");
+            }
+        }
+        this.keys = keys.clone();
+        return this;
+    }
+
+    /**
+     * 検索結果の最後の行のキーを返します。
+     * <p>
+     * Daoのメソッドを実行する前に{@link #after(Object...)}を呼び出していない場合、
+     * もしくは検索結果が0件の場合 {@code null} を返します。 戻り値は次のページを検索する際に
+     * {@link #after(Object...)} の引数として使用できます。
+     * 
+     * @return 最後の行のキー
+     * @since 2.0.2
+     */
+    public Object[] getLastKeys() {
+        return lastKeys != null ? lastKeys.clone() : null;
+    }
+
     /**
      * 集計を返します。
      * <p>
@@ -102,4 +102,12 @@ public class SelectOptionsAccessor {
     public static long getLimit(SelectOptions options) {
         return options.limit;
     }
+
+    public static Object[] getKeys(SelectOptions options) {
+        return options.keys;
+    }
+
+    public static void setLastKeys(SelectOptions options, Object[] lastKeys) {
+        options.lastKeys = lastKeys;
+    }
 }
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.DomaNullPointerException;
+
+/**
+ * {@link org.seasar.doma.SelectType#STREAM} の検索結果を購読者の要求に応じて発行する
+ * {@link Flow.Publisher} です。
+ * <p>
+ * 購読されるたびに {@link Executor} の上で検索を実行し、 {@link Flow.Subscription#request(long)}
+ * で要求された数だけ {@link java.sql.ResultSet} から行を読み出して
+ * {@link Flow.Subscriber#onNext(Object)} に渡します。要求がない間は読み出しを止めて待機します。
+ * コネクションとステートメントは購読の間だけ保持され、すべての行を発行し終えたとき、エラーが発生したとき、または
+ * {@link Flow.Subscription#cancel()} が呼び出されたときにクローズされます。
+ * <p>
+ * Daoのメソッドは次のように結果の型を型パラメータとして宣言し、 {@link org.seasar.doma.FetchType#LAZY}
+ * で検索するようにしてください。 {@link org.seasar.doma.Select#fetchSize()}
+ * を指定すると、ドライバが一度に取得する行数を要求の大きさに合わせられます。
+ * 
+ * <pre>
+ * &#064;Select(strategy = SelectType.STREAM, fetchSize = 100)
+ * &lt;R&gt; R selectAll(Function&lt;Stream&lt;Emp&gt;, R&gt; mapper);
+ * 
+ * Flow.Publisher&lt;Emp&gt; publisher = new SelectPublisher&lt;&gt;(executor,
+ *         dao::selectAll);
+ * </pre>
+ * <p>
+ * {@link org.seasar.doma.jdbc.tx.LocalTransactionDataSource}
+ * のトランザクションの中で購読する場合は、
+ * {@link org.seasar.doma.jdbc.tx.ScopedTransactionContextHolder#wrapExecutor(Executor)}
+ * などでトランザクションコンテキストを引き継いだ {@link Executor} を指定してください。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ * 
+ * @param <T>
+ *            要素の型
+ */
+public class SelectPublisher<T> implements Flow.Publisher<T> {
+
+    protected final Executor executor;
+
+    protected final Consumer<Function<Stream<T>, Void>> query;
+
+    /**
+     * インスタンスを構築します。
+     * 
+     * @param executor
+     *            検索を実行する {@link Executor}
+     * @param query
+     *            ストリームを処理する関数を受け取り検索を実行する処理
+     */
+    public SelectPublisher(Executor executor,
+            Consumer<Function<Stream<T>, Void>> query) {
+        if (executor == null) {
+            throw new DomaNullPointerException("executor");
+        }
+        if (query == null) {
+            throw new DomaNullPointerException("query");
+        }
+        this.executor = executor;
+        this.query = query;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        if (subscriber == null) {
+            throw new DomaNullPointerException("subscriber");
+        }
+        SelectSubscription subscription = new SelectSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+        if (subscription.isCancelled()) {
+            subscription.complete();
+            return;
+        }
+        try {
+            executor.execute(subscription::run);
+        } catch (RejectedExecutionException e) {
+            subscription.error(e);
+        }
+    }
+
+    /**
+     * 1つの購読を表します。
+     * 
+     * @author nakamura-to
+     */
+    protected class SelectSubscription implements Flow.Subscription {
+
+        protected final Flow.Subscriber<? super T> subscriber;
+
+        protected final ReentrantLock lock = new ReentrantLock();
+
+        protected final Condition demanded = lock.newCondition();
+
+        protected long demand;
+
+        protected boolean cancelled;
+
+        protected Throwable illegalRequest;
+
+        protected SelectSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            lock.lock();
+            try {
+                if (cancelled) {
+                    return;
+                }
+                if (n <= 0) {
+                    illegalRequest = new DomaIllegalArgumentException("n",
+                            "n <= 0");
+                    cancelled = true;
+                } else {
+                    demand += n;
+                    if (demand < 0) {
+                        demand = Long.MAX_VALUE;
+                    }
+                }
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            lock.lock();
+            try {
+                cancelled = true;
+                demanded.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        protected boolean isCancelled() {
+            lock.lock();
+            try {
+                return cancelled;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        protected void run() {
+            try {
+                query.accept(this::publish);
+            } catch (RuntimeException e) {
+                error(e);
+                return;
+            }
+            complete();
+        }
+
+        protected Void publish(Stream<T> stream) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                if (!awaitDemand()) {
+                    return null;
+                }
+                subscriber.onNext(iterator.next());
+            }
+            return null;
+        }
+
+        protected boolean awaitDemand() {
+            lock.lock();
+            try {
+                while (demand == 0 && !cancelled) {
+                    try {
+                        demanded.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        cancelled = true;
+                    }
+                }
+                if (cancelled) {
+                    return false;
+                }
+                if (demand != Long.MAX_VALUE) {
+                    demand--;
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        protected void complete() {
+            Throwable throwable;
+            lock.lock();
+            try {
+                throwable = illegalRequest;
+                if (cancelled && throwable == null) {
+                    return;
+                }
+                cancelled = true;
+            } finally {
+                lock.unlock();
+            }
+            if (throwable != null) {
+                subscriber.onError(throwable);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+
+        protected void error(Throwable throwable) {
+            lock.lock();
+            try {
+                if (illegalRequest != null) {
+                    throwable = illegalRequest;
+                } else if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+            } finally {
+                lock.unlock();
+            }
+            subscriber.onError(throwable);
+        }
+    }
+
+}
@@ -15,6 +15,11 @@
  */
 package org.seasar.doma.jdbc;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
 import org.seasar.doma.DomaNullPointerException;
 
 /**
@@ -27,6 +32,13 @@ import org.seasar.doma.DomaNullPointerException;
  */
 public class SqlFile {
 
+    /**
+     * キャッシュする変換されたSQLの解析結果の最大数
+     * 
+     * @since 2.0.2
+     */
+    protected static final int MAX_TRANSFORMED_SQL_NODE_SIZE = 64;
+
     /** SQLファイルのパス */
     protected final String path;
 
@@ -36,6 +48,21 @@ public class SqlFile {
     /** SQLの解析結果 */
     protected final SqlNode sqlNode;
 
+    /** キーをキー、変換されたSQLの解析結果を値とするアクセス順のマップ */
+    protected final Map<Object, SqlNode> transformedSqlNodeMap = new LinkedHashMap<Object, SqlNode>(
+            16, 0.75f, true) {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, SqlNode> eldest) {
+            return size() > MAX_TRANSFORMED_SQL_NODE_SIZE;
+        }
+    };
+
+    /** {@link #transformedSqlNodeMap} のロック */
+    protected final ReentrantLock transformedSqlNodeLock = new ReentrantLock();
+
     /**
      * 
      * @param path
@@ -89,6 +116,49 @@ public class SqlFile {
         return sqlNode;
     }
 
+    /**
+     * 変換されたSQLの解析結果を返します。
+     * <p>
+     * 変換結果はキーごとにキャッシュされます。キーには、変換結果を一意に決める値を指定しなければいけません。
+     * キャッシュされた変換結果の数が上限を超えた場合、最も長く使用されていない変換結果が破棄されます。
+     * <p>
+     * 呼び出し側で変換されたSQLの解析結果を変更してはいけません。
+     * 
+     * @param key
+     *            変換結果を一意に決めるキー
+     * @param transformer
+     *            SQLの解析結果を変換する関数
+     * @return 変換されたSQLの解析結果
+     * @since 2.0.2
+     */
+    public SqlNode getTransformedSqlNode(Object key,
+            Function<SqlNode, SqlNode> transformer) {
+        if (key == null) {
+            throw new DomaNullPointerException("key");
+        }
+        if (transformer == null) {
+            throw new DomaNullPointerException("transformer");
+        }
+        transformedSqlNodeLock.lock();
+        try {
+            SqlNode transformed = transformedSqlNodeMap.get(key);
+            if (transformed != null) {
+                return transformed;
+            }
+        } finally {
+            transformedSqlNodeLock.unlock();
+        }
+        SqlNode transformed = transformer.apply(sqlNode);
+        transformedSqlNodeLock.lock();
+        try {
+            SqlNode current = transformedSqlNodeMap.putIfAbsent(key,
+                    transformed);
+            return current != null ? current : transformed;
+        } finally {
+            transformedSqlNodeLock.unlock();
+        }
+    }
+
     @Override
     public String toString() {
         return sqlNode.toString();
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQLファイルの事前読み込みの結果を表します。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ * @see GreedyCacheSqlFileRepository#preload(org.seasar.doma.jdbc.dialect.Dialect,
+ *      Class...)
+ */
+public class SqlFilePreloadResult {
+
+    private final int fileCount;
+
+    private final List<String> missingPaths;
+
+    private final long elapsedNanos;
+
+    /**
+     * 
+     * @param fileCount
+     *            解析したSQLファイルの数
+     * @param missingPaths
+     *            見つからなかったSQLファイルのパスのリスト
+     * @param elapsedNanos
+     *            経過時間（ナノ秒）
+     */
+    public SqlFilePreloadResult(int fileCount, List<String> missingPaths,
+            long elapsedNanos) {
+        this.fileCount = fileCount;
+        this.missingPaths = missingPaths;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * 解析したSQLファイルの数を返します。
+     * 
+     * @return 解析したSQLファイルの数
+     */
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * 見つからなかったSQLファイルのパスのリストを返します。
+     * <p>
+     * SQLファイルにマッピングされるDaoのメソッドに対応するSQLファイルが存在しない場合、そのパスが含まれます。
+     * 
+     * @return 見つからなかったSQLファイルのパスのリスト
+     */
+    public List<String> getMissingPaths() {
+        return missingPaths;
+    }
+
+    /**
+     * 経過時間（ナノ秒）を返します。
+     * 
+     * @return 経過時間
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * 経過時間（ミリ秒）を返します。
+     * 
+     * @return 経過時間
+     */
+    public long getElapsedMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "SqlFilePreloadResult [fileCount=" + fileCount
+                + ", missingPaths=" + missingPaths + ", elapsedMillis="
+                + getElapsedMillis() + "]";
+    }
+
+}
@@ -15,11 +15,16 @@
  */
 package org.seasar.doma.jdbc.command;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
 import java.util.List;
 
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.util.JdbcUtil;
+import org.seasar.doma.jdbc.BatchSqlExecutionException;
 import org.seasar.doma.jdbc.BatchUniqueConstraintException;
 import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.query.BatchInsertQuery;
@@ -34,6 +39,72 @@ public class BatchInsertCommand extends BatchModifyCommand<BatchInsertQuery> {
         super(query);
     }
 
+    @Override
+    protected int[] execute(Connection connection) {
+        if (query.isMultiRowSupported()) {
+            return executeMultiRow(connection);
+        }
+        return super.execute(connection);
+    }
+
+    /**
+     * 複数行を1つのINSERT文にまとめて実行します。
+     * <p>
+     * 同じ行数のSQLが続く間は {@link PreparedStatement} を再利用します。
+     * 
+     * @param connection
+     *            コネクション
+     * @return 更新件数の配列
+     * @since 2.0.2
+     */
+    protected int[] executeMultiRow(Connection connection) {
+        PreparedSql sql = query.getSql();
+        PreparedStatement preparedStatement = null;
+        int statementRowSize = 0;
+        try {
+            int[] rows = new int[0];
+            int size = 0;
+            do {
+                List<PreparedSql> sqls = query.getSqls();
+                int sqlSize = sqls.size();
+                int multiRowSize = query.getMultiRowSize();
+                int[] chunkRows = new int[sqlSize];
+                for (int from = 0; from < sqlSize; from += multiRowSize) {
+                    int to = Math.min(from + multiRowSize, sqlSize);
+                    int rowSize = to - from;
+                    sql = query.createMultiRowSql(from, to);
+                    if (preparedStatement == null
+                            || statementRowSize != rowSize) {
+                        JdbcUtil.close(preparedStatement, query.getConfig()
+                                .getJdbcLogger());
+                        preparedStatement = null;
+                        preparedStatement = JdbcUtil.prepareStatement(
+                                connection, sql, query.getConfig()
+                                        .getStatementCacheSize());
+                        statementRowSize = rowSize;
+                        setupOptions(preparedStatement);
+                    }
+                    log(sql);
+                    bindParameters(preparedStatement, sql);
+                    int updatedRows = executeUpdate(preparedStatement, sql);
+                    Arrays.fill(chunkRows, from, to,
+                            updatedRows == rowSize ? 1
+                                    : Statement.SUCCESS_NO_INFO);
+                }
+                rows = appendRows(rows, size, chunkRows);
+                size += sqlSize;
+            } while (query.prepareNextChunk());
+            return size == rows.length ? rows : Arrays.copyOf(rows, size);
+        } catch (SQLException e) {
+            Dialect dialect = query.getConfig().getDialect();
+            throw new BatchSqlExecutionException(query.getConfig()
+                    .getExceptionSqlLogType(), sql, e, dialect.getRootCause(e));
+        } finally {
+            JdbcUtil.close(preparedStatement, query.getConfig()
+                    .getJdbcLogger());
+        }
+    }
+
     @Override
     protected int[] executeInternal(PreparedStatement preparedStatement,
             List<PreparedSql> sqls) throws SQLException {
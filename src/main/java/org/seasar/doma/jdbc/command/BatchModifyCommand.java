@@ -30,6 +30,7 @@ import org.seasar.doma.jdbc.BatchOptimisticLockException;
 import org.seasar.doma.jdbc.BatchSqlExecutionException;
 import org.seasar.doma.jdbc.BatchUniqueConstraintException;
 import org.seasar.doma.jdbc.JdbcLogger;
+import org.seasar.doma.jdbc.QueryMetrics;
 import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.query.BatchModifyQuery;
 
@@ -59,33 +60,72 @@ public abstract class BatchModifyCommand<QUERY extends BatchModifyQuery>
         Connection connection = JdbcUtil.getConnection(query.getConfig()
                 .getDataSource());
         try {
-            PreparedSql sql = query.getSql();
-            PreparedStatement preparedStatement = prepareStatement(connection,
-                    sql);
-            try {
-                setupOptions(preparedStatement);
-                return executeInternal(preparedStatement, query.getSqls());
-            } catch (SQLException e) {
-                Dialect dialect = query.getConfig().getDialect();
-                throw new BatchSqlExecutionException(query.getConfig()
-                        .getExceptionSqlLogType(), sql, e,
-                        dialect.getRootCause(e));
-            } finally {
-                JdbcUtil.close(preparedStatement, query.getConfig()
-                        .getJdbcLogger());
+            QueryMetrics metrics = query.getConfig().getQueryMetrics();
+            if (!metrics.isEnabled()) {
+                return execute(connection);
             }
+            long startNanos = System.nanoTime();
+            int[] rows = execute(connection);
+            long rowCount = 0;
+            for (int row : rows) {
+                if (row > 0) {
+                    rowCount += row;
+                }
+            }
+            metrics.recordBatch(query, System.nanoTime() - startNanos,
+                    rows.length, rowCount);
+            return rows;
         } finally {
             JdbcUtil.close(connection, query.getConfig().getJdbcLogger());
         }
     }
 
+    protected int[] execute(Connection connection) {
+        PreparedSql sql = query.getSql();
+        PreparedStatement preparedStatement = prepareStatement(connection, sql);
+        try {
+            setupOptions(preparedStatement);
+            return executeChunks(preparedStatement);
+        } catch (SQLException e) {
+            Dialect dialect = query.getConfig().getDialect();
+            throw new BatchSqlExecutionException(query.getConfig()
+                    .getExceptionSqlLogType(), sql, e, dialect.getRootCause(e));
+        } finally {
+            JdbcUtil.close(preparedStatement, query.getConfig()
+                    .getJdbcLogger());
+        }
+    }
+
+    protected int[] executeChunks(PreparedStatement preparedStatement)
+            throws SQLException {
+        int[] rows = executeInternal(preparedStatement, query.getSqls());
+        int size = rows.length;
+        while (query.prepareNextChunk()) {
+            int[] chunkRows = executeInternal(preparedStatement,
+                    query.getSqls());
+            rows = appendRows(rows, size, chunkRows);
+            size += chunkRows.length;
+        }
+        return size == rows.length ? rows : Arrays.copyOf(rows, size);
+    }
+
+    protected int[] appendRows(int[] rows, int size, int[] chunkRows) {
+        if (size + chunkRows.length > rows.length) {
+            rows = Arrays.copyOf(rows,
+                    Math.max(rows.length << 1, size + chunkRows.length));
+        }
+        System.arraycopy(chunkRows, 0, rows, size, chunkRows.length);
+        return rows;
+    }
+
     protected PreparedStatement prepareStatement(Connection connection,
             PreparedSql sql) {
         if (query.isAutoGeneratedKeysSupported()) {
             return JdbcUtil.prepareStatementForAutoGeneratedKeys(connection,
-                    sql);
+                    sql, query.getConfig().getStatementCacheSize());
         }
-        return JdbcUtil.prepareStatement(connection, sql);
+        return JdbcUtil.prepareStatement(connection, sql, query.getConfig()
+                .getStatementCacheSize());
     }
 
     protected abstract int[] executeInternal(
@@ -15,11 +15,19 @@
  */
 package org.seasar.doma.jdbc.command;
 
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.util.JdbcUtil;
+import org.seasar.doma.jdbc.BatchSqlExecutionException;
+import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.query.BatchUpdateQuery;
 
 /**
@@ -32,6 +40,80 @@ public class BatchUpdateCommand extends BatchModifyCommand<BatchUpdateQuery> {
         super(query);
     }
 
+    @Override
+    protected int[] execute(Connection connection) {
+        if (query.isUnchangedPropertyExcluded()) {
+            return executeGrouped(connection);
+        }
+        return super.execute(connection);
+    }
+
+    /**
+     * 同じSQLを持つ行ごとにグループ化して実行します。
+     * <p>
+     * グループごとに1つの {@link PreparedStatement} を使用します。 返される更新件数の配列の順序は
+     * {@link BatchUpdateQuery#getSqls()} の順序と一致します。
+     * 
+     * @param connection
+     *            コネクション
+     * @return 更新件数の配列
+     * @since 2.0.2
+     */
+    protected int[] executeGrouped(Connection connection) {
+        int[] rows = new int[0];
+        int size = 0;
+        do {
+            List<PreparedSql> sqls = query.getSqls();
+            int sqlSize = sqls.size();
+            Map<String, List<Integer>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < sqlSize; i++) {
+                groups.computeIfAbsent(sqls.get(i).getRawSql(),
+                        k -> new ArrayList<>()).add(i);
+            }
+            int[] chunkRows = new int[sqlSize];
+            for (List<Integer> indexes : groups.values()) {
+                List<PreparedSql> groupSqls = new ArrayList<>(indexes.size());
+                for (int index : indexes) {
+                    groupSqls.add(sqls.get(index));
+                }
+                int[] groupRows = executeGroup(connection, groupSqls);
+                for (int i = 0; i < groupRows.length; i++) {
+                    chunkRows[indexes.get(i)] = groupRows[i];
+                }
+            }
+            query.incrementVersions();
+            rows = appendRows(rows, size, chunkRows);
+            size += sqlSize;
+        } while (query.prepareNextChunk());
+        return size == rows.length ? rows : Arrays.copyOf(rows, size);
+    }
+
+    /**
+     * 同じSQLを持つ行をまとめて実行します。
+     * 
+     * @param connection
+     *            コネクション
+     * @param sqls
+     *            同じSQLを持つ行
+     * @return 更新件数の配列
+     * @since 2.0.2
+     */
+    protected int[] executeGroup(Connection connection, List<PreparedSql> sqls) {
+        PreparedSql sql = sqls.get(0);
+        PreparedStatement preparedStatement = prepareStatement(connection, sql);
+        try {
+            setupOptions(preparedStatement);
+            return executeBatch(preparedStatement, sqls);
+        } catch (SQLException e) {
+            Dialect dialect = query.getConfig().getDialect();
+            throw new BatchSqlExecutionException(query.getConfig()
+                    .getExceptionSqlLogType(), sql, e, dialect.getRootCause(e));
+        } finally {
+            JdbcUtil.close(preparedStatement, query.getConfig()
+                    .getJdbcLogger());
+        }
+    }
+
     @Override
     protected int[] executeInternal(PreparedStatement preparedStatement,
             List<PreparedSql> sqls) throws SQLException {
@@ -26,6 +26,7 @@ import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.OptimisticLockException;
+import org.seasar.doma.jdbc.QueryMetrics;
 import org.seasar.doma.jdbc.SqlExecutionException;
 import org.seasar.doma.jdbc.UniqueConstraintException;
 import org.seasar.doma.jdbc.dialect.Dialect;
@@ -65,7 +66,7 @@ public abstract class ModifyCommand<QUERY extends ModifyQuery> implements
                 log();
                 setupOptions(preparedStatement);
                 bindParameters(preparedStatement);
-                return executeInternal(preparedStatement);
+                return execute(preparedStatement);
             } catch (SQLException e) {
                 Dialect dialect = query.getConfig().getDialect();
                 throw new SqlExecutionException(query.getConfig()
@@ -83,9 +84,22 @@ public abstract class ModifyCommand<QUERY extends ModifyQuery> implements
     protected PreparedStatement prepareStatement(Connection connection) {
         if (query.isAutoGeneratedKeysSupported()) {
             return JdbcUtil.prepareStatementForAutoGeneratedKeys(connection,
-                    sql);
+                    sql, query.getConfig().getStatementCacheSize());
         }
-        return JdbcUtil.prepareStatement(connection, sql);
+        return JdbcUtil.prepareStatement(connection, sql, query.getConfig()
+                .getStatementCacheSize());
+    }
+
+    protected int execute(PreparedStatement preparedStatement)
+            throws SQLException {
+        QueryMetrics metrics = query.getConfig().getQueryMetrics();
+        if (!metrics.isEnabled()) {
+            return executeInternal(preparedStatement);
+        }
+        long startNanos = System.nanoTime();
+        int rows = executeInternal(preparedStatement);
+        metrics.recordModify(query, System.nanoTime() - startNanos, rows);
+        return rows;
     }
 
     protected abstract int executeInternal(PreparedStatement preparedStatement)
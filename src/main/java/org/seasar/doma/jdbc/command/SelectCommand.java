@@ -15,6 +15,7 @@
  */
 package org.seasar.doma.jdbc.command;
 
+import static org.seasar.doma.internal.Constants.COUNT_COLUMN_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.sql.Connection;
@@ -28,6 +29,9 @@ import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.NoResultException;
+import org.seasar.doma.jdbc.QueryMetrics;
+import org.seasar.doma.jdbc.SelectOptions;
+import org.seasar.doma.jdbc.SelectOptionsAccessor;
 import org.seasar.doma.jdbc.Sql;
 import org.seasar.doma.jdbc.SqlExecutionException;
 import org.seasar.doma.jdbc.dialect.Dialect;
@@ -46,6 +50,8 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
 
     protected final ResultSetHandler<RESULT> resultSetHandler;
 
+    protected long rowCount;
+
     public SelectCommand(SelectQuery query,
             ResultSetHandler<RESULT> resultSetHandler) {
         assertNotNull(query, resultSetHandler);
@@ -61,7 +67,7 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
                 .getDataSource());
         try {
             PreparedStatement preparedStatement = JdbcUtil.prepareStatement(
-                    connection, sql);
+                    connection, sql, query.getConfig().getStatementCacheSize());
             try {
                 log();
                 setupOptions(preparedStatement);
@@ -109,6 +115,10 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
 
     protected Supplier<RESULT> executeQuery(PreparedStatement preparedStatement)
             throws SQLException {
+        QueryMetrics metrics = query.getConfig().getQueryMetrics();
+        if (metrics.isEnabled()) {
+            return executeQuery(preparedStatement, metrics);
+        }
         ResultSet resultSet = preparedStatement.executeQuery();
         try {
             return handleResultSet(resultSet);
@@ -117,14 +127,96 @@ public class SelectCommand<RESULT> implements Command<RESULT> {
         }
     }
 
+    protected Supplier<RESULT> executeQuery(
+            PreparedStatement preparedStatement, QueryMetrics metrics)
+            throws SQLException {
+        long startNanos = System.nanoTime();
+        ResultSet resultSet = preparedStatement.executeQuery();
+        long executedNanos = System.nanoTime();
+        try {
+            Supplier<RESULT> supplier = handleResultSet(resultSet);
+            metrics.recordSelect(query, executedNanos - startNanos,
+                    System.nanoTime() - executedNanos, rowCount);
+            return supplier;
+        } finally {
+            JdbcUtil.close(resultSet, query.getConfig().getJdbcLogger());
+        }
+    }
+
     protected Supplier<RESULT> handleResultSet(ResultSet resultSet)
             throws SQLException {
-        return resultSetHandler.handle(resultSet, query, (index, next) -> {
+        SelectOptions options = query.getOptions();
+        boolean countCalculatedInSelect = query.isCountCalculatedInSelect();
+        String[] keysetColumnLabels = query.getKeysetColumnLabels();
+        Object[] keys = keysetColumnLabels != null ? new Object[keysetColumnLabels.length]
+                : null;
+        int[] keyIndexes = keysetColumnLabels != null ? new int[keysetColumnLabels.length]
+                : null;
+        Supplier<RESULT> supplier = resultSetHandler.handle(resultSet, query, (
+                index, next) -> {
+            if (next) {
+                rowCount++;
+                if (countCalculatedInSelect && index == -1) {
+                    SelectOptionsAccessor.setCountSize(options,
+                            fetchCount(resultSet));
+                }
+                if (keys != null) {
+                    if (index == -1) {
+                        findKeyIndexes(resultSet, keysetColumnLabels,
+                                keyIndexes);
+                    }
+                    fetchKeys(resultSet, keyIndexes, keys);
+                }
+            } else if (index == -1 && countCalculatedInSelect
+                    && SelectOptionsAccessor.getOffset(options) <= 0) {
+                SelectOptionsAccessor.setCountSize(options, 0);
+            }
             if (index == -1 && !next && query.isResultEnsured()) {
                 Sql<?> sql = query.getSql();
                 throw new NoResultException(query.getConfig()
                         .getExceptionSqlLogType(), sql);
             }
         });
+        if (keys != null) {
+            // 最後の行のキーだけが配列に残っている
+            SelectOptionsAccessor.setLastKeys(options, rowCount > 0 ? keys
+                    : null);
+        }
+        return supplier;
+    }
+
+    protected long fetchCount(ResultSet resultSet) {
+        try {
+            return resultSet.getLong(COUNT_COLUMN_NAME);
+        } catch (SQLException e) {
+            throw convertException(e);
+        }
+    }
+
+    protected void findKeyIndexes(ResultSet resultSet, String[] labels,
+            int[] indexes) {
+        try {
+            for (int i = 0; i < labels.length; i++) {
+                indexes[i] = resultSet.findColumn(labels[i]);
+            }
+        } catch (SQLException e) {
+            throw convertException(e);
+        }
+    }
+
+    protected void fetchKeys(ResultSet resultSet, int[] indexes, Object[] keys) {
+        try {
+            for (int i = 0; i < indexes.length; i++) {
+                keys[i] = resultSet.getObject(indexes[i]);
+            }
+        } catch (SQLException e) {
+            throw convertException(e);
+        }
+    }
+
+    protected SqlExecutionException convertException(SQLException e) {
+        Dialect dialect = query.getConfig().getDialect();
+        return new SqlExecutionException(query.getConfig()
+                .getExceptionSqlLogType(), sql, e, dialect.getRootCause(e));
     }
 }
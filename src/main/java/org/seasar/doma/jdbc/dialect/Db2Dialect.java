@@ -135,6 +135,11 @@ public class Db2Dialect extends StandardDialect {
         return transformer.transform(sqlNode);
     }
 
+    @Override
+    protected boolean supportsCountWindowFunction() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         Db2PagingTransformer transformer = new Db2PagingTransformer(offset,
@@ -76,6 +76,43 @@ public interface Dialect {
      */
     SqlNode transformSelectSqlNodeForGettingCount(SqlNode sqlNode);
 
+    /**
+     * 集計を検索と同じSQLで取得するかどうかを返します。
+     * <p>
+     * {@code true} を返す場合、
+     * {@link #transformSelectSqlNode(SqlNode, SelectOptions)} は select 句に
+     * {@code count(*) over()} の列を追加し、集計は検索結果の最初の行から取得されます。
+     * <p>
+     * デフォルトの実装では {@code false} を返し、集計は別のSQLで取得されます。
+     * 
+     * @param options
+     *            オプション
+     * @return 集計を検索と同じSQLで取得する場合 {@code true}
+     * @throws DomaNullPointerException
+     *             {@code options} が {@code null} の場合
+     * @since 2.0.2
+     */
+    default boolean isCountCalculatedInSelect(SelectOptions options) {
+        if (options == null) {
+            throw new DomaNullPointerException("options");
+        }
+        return false;
+    }
+
+    /**
+     * ページングのオフセットとリミットをバインド変数で指定するかどうかを返します。
+     * <p>
+     * {@code true} を返す場合、{@link #transformSelectSqlNode(SqlNode, SelectOptions)}
+     * が返すSQLノードはオフセットとリミットの値には依存せず、それぞれが負の値か、0か、正の値かにだけ依存します。
+     * 変換されたSQLノードはこの前提でキャッシュされます。
+     * 
+     * @return バインド変数で指定する場合 {@code true}
+     * @since 2.0.2
+     */
+    default boolean isPagingParameterized() {
+        return false;
+    }
+
     /**
      * 一意制約違反かどうかを返します。
      * 
@@ -122,6 +159,30 @@ public interface Dialect {
      */
     boolean supportsBatchUpdateResults();
 
+    /**
+     * 1つのINSERT文の {@code values} 句に複数行を指定できるかどうかを返します。
+     * <p>
+     * デフォルトの実装では {@code false} を返します。
+     * 
+     * @return サポートしている場合 {@code true}
+     * @since 2.0.2
+     */
+    default boolean supportsMultiRowInsertStatement() {
+        return false;
+    }
+
+    /**
+     * 1つのSQLにバインドできるパラメータの最大数を返します。
+     * <p>
+     * デフォルトの実装では {@link Short#MAX_VALUE} を返します。
+     * 
+     * @return バインドできるパラメータの最大数
+     * @since 2.0.2
+     */
+    default int getMaxBindParameterCount() {
+        return Short.MAX_VALUE;
+    }
+
     /**
      * 悲観的排他制御をサポートしているかどうかを返します。
      * 
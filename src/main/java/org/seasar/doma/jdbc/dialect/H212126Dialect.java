@@ -164,6 +164,11 @@ public class H212126Dialect extends StandardDialect {
         return UNIQUE_CONSTRAINT_VIOLATION_ERROR_CODE == code;
     }
 
+    @Override
+    public boolean isPagingParameterized() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         H212126PagingTransformer transformer = new H212126PagingTransformer(
@@ -195,6 +200,11 @@ public class H212126Dialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return true;
+    }
+
     @Override
     public boolean supportsSelectForUpdate(SelectForUpdateType type,
             boolean withTargets) {
@@ -29,6 +29,9 @@ import org.seasar.doma.wrapper.Wrapper;
 
 /**
  * H2用の方言です。
+ * <p>
+ * H2はバージョン1.4.198より前ではウィンドウ関数をサポートしないため、
+ * {@link org.seasar.doma.jdbc.SelectOptions#count()} の集計は検索とは別のSQLで取得します。
  * 
  * @author taedium
  * 
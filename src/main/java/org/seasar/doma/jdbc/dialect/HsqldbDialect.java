@@ -165,6 +165,11 @@ public class HsqldbDialect extends StandardDialect {
         return UNIQUE_CONSTRAINT_VIOLATION_ERROR_CODE == code;
     }
 
+    @Override
+    public boolean isPagingParameterized() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         HsqldbPagingTransformer transformer = new HsqldbPagingTransformer(
@@ -137,6 +137,16 @@ public class Mssql2008Dialect extends StandardDialect {
         return transformer.transform(sqlNode);
     }
 
+    @Override
+    protected boolean supportsCountWindowFunction() {
+        return true;
+    }
+
+    @Override
+    public boolean isPagingParameterized() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         Mssql2008PagingTransformer transformer = new Mssql2008PagingTransformer(
@@ -151,6 +151,16 @@ public class MysqlDialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return true;
+    }
+
+    @Override
+    public int getMaxBindParameterCount() {
+        return 65535;
+    }
+
     @Override
     public boolean supportsSelectForUpdate(SelectForUpdateType type,
             boolean withTargets) {
@@ -163,6 +173,11 @@ public class MysqlDialect extends StandardDialect {
         return transformer.transform(sqlNode);
     }
 
+    @Override
+    public boolean isPagingParameterized() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         MysqlPagingTransformer transformer = new MysqlPagingTransformer(offset,
@@ -168,6 +168,16 @@ public class OracleDialect extends StandardDialect {
         return transformer.transform(sqlNode);
     }
 
+    @Override
+    protected boolean supportsCountWindowFunction() {
+        return true;
+    }
+
+    @Override
+    public boolean isPagingParameterized() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         OraclePagingTransformer transformer = new OraclePagingTransformer(
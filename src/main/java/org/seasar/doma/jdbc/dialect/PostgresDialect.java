@@ -23,6 +23,7 @@ import java.util.Collections;
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.expr.ExpressionFunctions;
 import org.seasar.doma.internal.jdbc.dialect.PostgresForUpdateTransformer;
+import org.seasar.doma.internal.jdbc.dialect.PostgresKeysetTransformer;
 import org.seasar.doma.internal.jdbc.dialect.PostgresPagingTransformer;
 import org.seasar.doma.internal.jdbc.sql.InParameter;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
@@ -142,6 +143,23 @@ public class PostgresDialect extends StandardDialect {
         return transformer.transform(sqlNode);
     }
 
+    @Override
+    protected SqlNode toKeysetSqlNode(SqlNode sqlNode, int keyCount) {
+        PostgresKeysetTransformer transformer = new PostgresKeysetTransformer(
+                keyCount);
+        return transformer.transform(sqlNode);
+    }
+
+    @Override
+    protected boolean supportsCountWindowFunction() {
+        return true;
+    }
+
+    @Override
+    public boolean isPagingParameterized() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         PostgresPagingTransformer transformer = new PostgresPagingTransformer(
@@ -198,6 +216,11 @@ public class PostgresDialect extends StandardDialect {
         return true;
     }
 
+    @Override
+    public boolean supportsMultiRowInsertStatement() {
+        return true;
+    }
+
     @Override
     public boolean supportsSelectForUpdate(SelectForUpdateType type,
             boolean withTargets) {
@@ -140,6 +140,11 @@ public class SqliteDialect extends StandardDialect {
                 Collections.<InParameter<?>> emptyList(), SqlLogType.FORMATTED);
     }
 
+    @Override
+    public boolean isPagingParameterized() {
+        return true;
+    }
+
     @Override
     protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset, long limit) {
         SqlitePagingTransformer transformer = new SqlitePagingTransformer(
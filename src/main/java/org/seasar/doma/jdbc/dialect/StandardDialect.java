@@ -33,7 +33,9 @@ import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.expr.ExpressionFunctions;
 import org.seasar.doma.internal.jdbc.dialect.StandardCountGettingTransformer;
 import org.seasar.doma.internal.jdbc.dialect.StandardForUpdateTransformer;
+import org.seasar.doma.internal.jdbc.dialect.StandardKeysetTransformer;
 import org.seasar.doma.internal.jdbc.dialect.StandardPagingTransformer;
+import org.seasar.doma.internal.jdbc.dialect.WindowCountCalculatingTransformer;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.internal.util.AssertionUtil;
 import org.seasar.doma.internal.util.CharSequenceUtil;
@@ -65,6 +67,7 @@ import org.seasar.doma.wrapper.DateWrapper;
 import org.seasar.doma.wrapper.DoubleWrapper;
 import org.seasar.doma.wrapper.EnumWrapper;
 import org.seasar.doma.wrapper.FloatWrapper;
+import org.seasar.doma.wrapper.InputStreamWrapper;
 import org.seasar.doma.wrapper.IntegerWrapper;
 import org.seasar.doma.wrapper.LocalDateTimeWrapper;
 import org.seasar.doma.wrapper.LocalDateWrapper;
@@ -72,6 +75,7 @@ import org.seasar.doma.wrapper.LocalTimeWrapper;
 import org.seasar.doma.wrapper.LongWrapper;
 import org.seasar.doma.wrapper.NClobWrapper;
 import org.seasar.doma.wrapper.ObjectWrapper;
+import org.seasar.doma.wrapper.ReaderWrapper;
 import org.seasar.doma.wrapper.SQLXMLWrapper;
 import org.seasar.doma.wrapper.ShortWrapper;
 import org.seasar.doma.wrapper.StringWrapper;
@@ -210,7 +214,15 @@ public class StandardDialect implements Dialect {
         }
         SqlNode transformed = sqlNode;
         if (SelectOptionsAccessor.isCount(options)) {
-            transformed = toCountCalculatingSqlNode(sqlNode);
+            if (isCountCalculatedInSelect(options)) {
+                transformed = toWindowCountCalculatingSqlNode(sqlNode);
+            } else {
+                transformed = toCountCalculatingSqlNode(sqlNode);
+            }
+        }
+        Object[] keys = SelectOptionsAccessor.getKeys(options);
+        if (keys != null && keys.length > 0) {
+            transformed = toKeysetSqlNode(transformed, keys.length);
         }
         long offset = SelectOptionsAccessor.getOffset(options);
         long limit = SelectOptionsAccessor.getLimit(options);
@@ -265,8 +277,40 @@ public class StandardDialect implements Dialect {
         return sqlNode;
     }
 
+    /**
+     * {@code count(*) over()} で集計を計算するSQLノードに変換します。
+     * 
+     * @param sqlNode
+     *            SQLノード
+     * @return 変換されたSQLノード
+     * @since 2.0.2
+     */
+    protected SqlNode toWindowCountCalculatingSqlNode(SqlNode sqlNode) {
+        WindowCountCalculatingTransformer transformer = new WindowCountCalculatingTransformer();
+        return transformer.transform(sqlNode);
+    }
+
+    /**
+     * キーセットによるページング用のSQLノードに変換します。
+     * 
+     * @param sqlNode
+     *            SQLノード
+     * @param keyCount
+     *            キーの数
+     * @return 変換されたSQLノード
+     * @since 2.0.2
+     */
+    protected SqlNode toKeysetSqlNode(SqlNode sqlNode, int keyCount) {
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                keyCount);
+        return transformer.transform(sqlNode);
+    }
+
     /**
      * ページング用のSQLノードに変換します。
+     * <p>
+     * {@link #isPagingParameterized()} が {@code true} を返すようにオーバーライドする場合は、オフセットとリミットを
+     * バインド変数で指定しなければいけません。
      * 
      * @param sqlNode
      *            SQLノード
@@ -303,6 +347,30 @@ public class StandardDialect implements Dialect {
         return transformer.transform(sqlNode);
     }
 
+    @Override
+    public boolean isCountCalculatedInSelect(SelectOptions options) {
+        if (options == null) {
+            throw new DomaNullPointerException("options");
+        }
+        return SelectOptionsAccessor.isCount(options)
+                && SelectOptionsAccessor.getForUpdateType(options) == null
+                && SelectOptionsAccessor.getKeys(options) == null
+                && supportsCountWindowFunction();
+    }
+
+    /**
+     * 集計の取得に {@code count(*) over()} を使用するかどうかを返します。
+     * <p>
+     * {@code false} を返す場合、集計は検索とは別のSQLで取得されます。
+     * 悲観的排他制御やキーセットによるページングを行う場合は、このメソッドの戻り値に関わらず別のSQLで取得されます。
+     * 
+     * @return {@code count(*) over()} を使用する場合 {@code true}
+     * @since 2.0.2
+     */
+    protected boolean supportsCountWindowFunction() {
+        return false;
+    }
+
     @Override
     public SqlNode transformSelectSqlNodeForGettingCount(SqlNode sqlNode) {
         if (sqlNode == null) {
@@ -562,6 +630,12 @@ public class StandardDialect implements Dialect {
             return p.apply(wrapper, JdbcTypes.FLOAT);
         }
 
+        @Override
+        public Void visitInputStreamWrapper(InputStreamWrapper wrapper,
+                JdbcMappingFunction p, JdbcMappingHint q) throws SQLException {
+            return p.apply(wrapper, JdbcTypes.INPUT_STREAM);
+        }
+
         @Override
         public Void visitIntegerWrapper(IntegerWrapper wrapper,
                 JdbcMappingFunction p, JdbcMappingHint q) throws SQLException {
@@ -598,6 +672,12 @@ public class StandardDialect implements Dialect {
             return p.apply(wrapper, JdbcTypes.NCLOB);
         }
 
+        @Override
+        public Void visitReaderWrapper(ReaderWrapper wrapper,
+                JdbcMappingFunction p, JdbcMappingHint q) throws SQLException {
+            return p.apply(wrapper, JdbcTypes.READER);
+        }
+
         @Override
         public Void visitShortWrapper(ShortWrapper wrapper,
                 JdbcMappingFunction p, JdbcMappingHint q) throws SQLException {
@@ -724,6 +804,12 @@ public class StandardDialect implements Dialect {
             return p.apply(wrapper, JdbcTypes.FLOAT);
         }
 
+        @Override
+        public String visitInputStreamWrapper(InputStreamWrapper wrapper,
+                SqlLogFormattingFunction p, Void q) throws RuntimeException {
+            return p.apply(wrapper, JdbcTypes.INPUT_STREAM);
+        }
+
         @Override
         public String visitIntegerWrapper(IntegerWrapper wrapper,
                 SqlLogFormattingFunction p, Void q) {
@@ -760,6 +846,12 @@ public class StandardDialect implements Dialect {
             return p.apply(wrapper, JdbcTypes.NCLOB);
         }
 
+        @Override
+        public String visitReaderWrapper(ReaderWrapper wrapper,
+                SqlLogFormattingFunction p, Void q) throws RuntimeException {
+            return p.apply(wrapper, JdbcTypes.READER);
+        }
+
         @Override
         public String visitShortWrapper(ShortWrapper wrapper,
                 SqlLogFormattingFunction p, Void q) throws RuntimeException {
@@ -15,6 +15,8 @@
  */
 package org.seasar.doma.jdbc.entity;
 
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.seasar.doma.jdbc.domain.DomainType;
@@ -65,9 +67,48 @@ public class AssignedIdPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN
             EntityPropertyType<PARENT, BASIC> parentEntityPropertyType,
             DomainType<BASIC, DOMAIN> domainType, String name,
             String columnName, boolean quoteRequired) {
+        this(entityClass, entityPropertyClass, basicClass, wrapperSupplier,
+                parentEntityPropertyType, domainType, name, columnName,
+                quoteRequired, null, null);
+    }
+
+    /**
+     * プロパティへのアクセサを指定してインスタンスを構築します。
+     * 
+     * @param entityClass
+     *            エンティティのクラス
+     * @param entityPropertyClass
+     *            プロパティのクラス
+     * @param basicClass
+     *            値のクラス
+     * @param wrapperSupplier
+     *            ラッパーのサプライヤ
+     * @param parentEntityPropertyType
+     *            親のエンティティのプロパティ型、親のエンティティを持たない場合 {@code null}
+     * @param domainType
+     *            ドメインのメタタイプ、ドメインでない場合 {@code null}
+     * @param name
+     *            プロパティの名前
+     * @param columnName
+     *            カラム名
+     * @param quoteRequired
+     *            カラム名に引用符が必要とされるかどうか
+     * @param getter
+     *            プロパティの値を取得する関数、リフレクションを使う場合 {@code null}
+     * @param setter
+     *            プロパティに値を設定する関数、リフレクションを使う場合 {@code null}
+     * @since 2.0.2
+     */
+    public AssignedIdPropertyType(Class<ENTITY> entityClass,
+            Class<?> entityPropertyClass, Class<BASIC> basicClass,
+            Supplier<Wrapper<BASIC>> wrapperSupplier,
+            EntityPropertyType<PARENT, BASIC> parentEntityPropertyType,
+            DomainType<BASIC, DOMAIN> domainType, String name,
+            String columnName, boolean quoteRequired,
+            Function<ENTITY, Object> getter, BiConsumer<ENTITY, Object> setter) {
         super(entityClass, entityPropertyClass, basicClass, wrapperSupplier,
                 parentEntityPropertyType, domainType, name, columnName, true,
-                true, quoteRequired);
+                true, quoteRequired, getter, setter);
     }
 
     @Override
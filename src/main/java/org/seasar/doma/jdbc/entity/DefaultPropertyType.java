@@ -16,13 +16,18 @@
 package org.seasar.doma.jdbc.entity;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -93,9 +98,22 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
     /** プロパティのフィールド */
     protected final Field field;
 
+    /** プロパティの値を取得する関数 */
+    protected final Function<ENTITY, Object> getter;
+
+    /** プロパティに値を設定する関数 */
+    protected final BiConsumer<ENTITY, Object> setter;
+
     /** アクセサのサプライヤ */
     protected final Supplier<Property<ENTITY, BASIC>> propertySupplier;
 
+    /**
+     * 値が不変かどうか
+     * <p>
+     * 不変の場合、元の状態の保存と変更の判定はプロパティの値を直接扱います。
+     */
+    protected final boolean immutable;
+
     /**
      * インスタンスを構築します。
      * 
@@ -129,6 +147,52 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
             DomainType<BASIC, DOMAIN> domainType, String name,
             String columnName, boolean insertable, boolean updatable,
             boolean quoteRequired) {
+        this(entityClass, entityPropertyClass, basicClass, wrapperSupplier,
+                parentEntityPropertyType, domainType, name, columnName,
+                insertable, updatable, quoteRequired, null, null);
+    }
+
+    /**
+     * プロパティへのアクセサを指定してインスタンスを構築します。
+     * <p>
+     * アクセサが指定された場合、プロパティの値の読み書きはリフレクションを使わずにアクセサを介して行われます。
+     * 
+     * @param entityClass
+     *            エンティティのクラス
+     * @param entityPropertyClass
+     *            プロパティのクラス
+     * @param basicClass
+     *            値のクラス
+     * @param wrapperSupplier
+     *            ラッパーのサプライヤ
+     * @param parentEntityPropertyType
+     *            親のエンティティのプロパティ型、親のエンティティを持たない場合 {@code null}
+     * @param domainType
+     *            ドメインのメタタイプ、ドメインでない場合 {@code null}
+     * @param name
+     *            プロパティの名前
+     * @param columnName
+     *            カラム名
+     * @param insertable
+     *            挿入可能かどうか
+     * @param updatable
+     *            更新可能かどうか
+     * @param quoteRequired
+     *            カラム名に引用符が必要とされるかどうか
+     * @param getter
+     *            プロパティの値を取得する関数、リフレクションを使う場合 {@code null}
+     * @param setter
+     *            プロパティに値を設定する関数、リフレクションを使う場合 {@code null}
+     * @since 2.0.2
+     */
+    public DefaultPropertyType(Class<ENTITY> entityClass,
+            Class<?> entityPropertyClass, Class<BASIC> basicClass,
+            Supplier<Wrapper<BASIC>> wrapperSupplier,
+            EntityPropertyType<PARENT, BASIC> parentEntityPropertyType,
+            DomainType<BASIC, DOMAIN> domainType, String name,
+            String columnName, boolean insertable, boolean updatable,
+            boolean quoteRequired, Function<ENTITY, Object> getter,
+            BiConsumer<ENTITY, Object> setter) {
         if (entityClass == null) {
             throw new DomaNullPointerException("entityClass");
         }
@@ -159,7 +223,24 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
         this.updatable = updatable;
         this.quoteRequired = quoteRequired;
         this.field = parentEntityPropertyType == null ? getField() : null;
+        this.getter = getter;
+        this.setter = setter;
         this.propertySupplier = createPropertySupplier();
+        this.immutable = parentEntityPropertyType == null
+                && domainType == null && isImmutableBasicClass(basicClass);
+    }
+
+    private static boolean isImmutableBasicClass(Class<?> basicClass) {
+        return basicClass.isEnum() || basicClass == String.class
+                || basicClass == Boolean.class || basicClass == Byte.class
+                || basicClass == Short.class || basicClass == Integer.class
+                || basicClass == Long.class || basicClass == Float.class
+                || basicClass == Double.class
+                || basicClass == BigDecimal.class
+                || basicClass == BigInteger.class
+                || basicClass == LocalDate.class
+                || basicClass == LocalTime.class
+                || basicClass == LocalDateTime.class;
     }
 
     @SuppressWarnings("unchecked")
@@ -220,6 +301,10 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
 
     @Override
     public void copy(ENTITY destEntity, ENTITY srcEntity) {
+        if (immutable) {
+            setValue(destEntity, getValue(srcEntity));
+            return;
+        }
         Property<ENTITY, BASIC> dest = createProperty();
         dest.load(destEntity);
         Property<ENTITY, BASIC> src = createProperty();
@@ -228,6 +313,60 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
         dest.save(destEntity);
     }
 
+    @Override
+    public boolean isChanged(ENTITY entity, ENTITY originalStates) {
+        if (immutable
+                && Objects.equals(getValue(entity), getValue(originalStates))) {
+            return false;
+        }
+        return EntityPropertyType.super.isChanged(entity, originalStates);
+    }
+
+    /**
+     * エンティティからプロパティの値を取得します。
+     * 
+     * @param entity
+     *            エンティティ
+     * @return プロパティの値
+     */
+    protected Object getValue(ENTITY entity) {
+        if (getter != null) {
+            return getter.apply(entity);
+        }
+        try {
+            return FieldUtil.get(field, entity);
+        } catch (WrapException wrapException) {
+            throw new EntityPropertyAccessException(wrapException.getCause(),
+                    entityClass.getName(), name);
+        }
+    }
+
+    /**
+     * エンティティにプロパティの値を設定します。
+     * 
+     * @param entity
+     *            エンティティ
+     * @param value
+     *            プロパティの値
+     */
+    protected void setValue(ENTITY entity, Object value) {
+        if (setter != null) {
+            try {
+                setter.accept(entity, value);
+            } catch (NullPointerException | ClassCastException e) {
+                throw new EntityPropertyAccessException(e,
+                        entityClass.getName(), name);
+            }
+            return;
+        }
+        try {
+            FieldUtil.set(field, entity, value);
+        } catch (WrapException wrapException) {
+            throw new EntityPropertyAccessException(wrapException.getCause(),
+                    entityClass.getName(), name);
+        }
+    }
+
     @Override
     public String getName() {
         return name;
@@ -292,9 +431,11 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
         if (entityType.isImmutable()) {
             List<EntityPropertyType<ENTITY, ?>> propertyTypes = entityType
                     .getEntityPropertyTypes();
-            Map<String, Property<ENTITY, ?>> args = new HashMap<>(
-                    propertyTypes.size());
-            for (EntityPropertyType<ENTITY, ?> propertyType : propertyTypes) {
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            Property<ENTITY, ?>[] args = new Property[propertyTypes.size()];
+            for (int i = 0; i < args.length; i++) {
+                EntityPropertyType<ENTITY, ?> propertyType = propertyTypes
+                        .get(i);
                 Property<ENTITY, ?> property = propertyType.createProperty();
                 property.load(entity);
                 if (propertyType == this) {
@@ -304,7 +445,7 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
                         return entity;
                     }
                 }
-                args.put(propertyType.getName(), property);
+                args[i] = property;
             }
             return entityType.newEntity(args);
         } else {
@@ -379,24 +520,13 @@ public class DefaultPropertyType<PARENT, ENTITY extends PARENT, BASIC, DOMAIN>
 
         @Override
         public Property<ENTITY, BASIC> load(ENTITY entity) {
-            try {
-                Object value = FieldUtil.get(field, entity);
-                scalar.set(scalar.cast(value));
-            } catch (WrapException wrapException) {
-                throw new EntityPropertyAccessException(
-                        wrapException.getCause(), entityClass.getName(), name);
-            }
+            scalar.set(scalar.cast(getValue(entity)));
             return this;
         }
 
         @Override
         public Property<ENTITY, BASIC> save(ENTITY entity) {
-            try {
-                FieldUtil.set(field, entity, scalar.get());
-            } catch (WrapException wrapException) {
-                throw new EntityPropertyAccessException(
-                        wrapException.getCause(), entityClass.getName(), name);
-            }
+            setValue(entity, scalar.get());
             return this;
         }
 
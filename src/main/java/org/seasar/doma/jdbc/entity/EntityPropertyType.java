@@ -17,6 +17,8 @@ package org.seasar.doma.jdbc.entity;
 
 import java.util.function.Function;
 
+import org.seasar.doma.wrapper.Wrapper;
+
 /**
  * エンティティのプロパティ型を表します。
  * 
@@ -110,4 +112,21 @@ public interface EntityPropertyType<ENTITY, BASIC> {
      */
     void copy(ENTITY dest, ENTITY src);
 
+    /**
+     * 元の状態からプロパティの値が変更されているかどうかを返します。
+     * 
+     * @param entity
+     *            エンティティ
+     * @param originalStates
+     *            元の状態
+     * @return 変更されている場合 {@code true}
+     * @since 2.0.2
+     */
+    default boolean isChanged(ENTITY entity, ENTITY originalStates) {
+        Wrapper<?> originalWrapper = createProperty().load(originalStates)
+                .getWrapper();
+        Wrapper<?> wrapper = createProperty().load(entity).getWrapper();
+        return !wrapper.hasEqualValue(originalWrapper.get());
+    }
+
 }
@@ -15,6 +15,8 @@
  */
 package org.seasar.doma.jdbc.entity;
 
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -148,6 +150,32 @@ public interface EntityType<ENTITY> {
      */
     ENTITY newEntity(Map<String, Property<ENTITY, ?>> __args);
 
+    /**
+     * 位置で対応付けられたプロパティの配列から新しいエンティティをインスタンス化します。
+     * <p>
+     * 配列の各要素は {@link #getEntityPropertyTypes()} の同じ位置のプロパティ型に対応します。
+     * 値が存在しないプロパティの要素は {@code null} です。
+     * <p>
+     * 配列は呼び出し側で再利用されるため、実装は配列への参照を保持してはいけません。
+     * デフォルトの実装は配列を {@link Map} に変換して {@link #newEntity(Map)} に委譲します。
+     * 
+     * @param __args
+     *            プロパティの配列
+     * @return 新しいエンティティ
+     * @since 2.0.2
+     */
+    default ENTITY newEntity(Property<ENTITY, ?>[] __args) {
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = getEntityPropertyTypes();
+        Map<String, Property<ENTITY, ?>> args = new HashMap<>(__args.length);
+        for (int i = 0; i < __args.length; i++) {
+            Property<ENTITY, ?> property = __args[i];
+            if (property != null) {
+                args.put(propertyTypes.get(i).getName(), property);
+            }
+        }
+        return newEntity(args);
+    }
+
     /**
      * エンティティのクラスを返します。
      * 
@@ -172,6 +200,30 @@ public interface EntityType<ENTITY> {
      */
     ENTITY getOriginalStates(ENTITY entity);
 
+    /**
+     * 元の状態から値が変更されたプロパティを返します。
+     * <p>
+     * 返される {@link BitSet} のビットの位置は {@link #getEntityPropertyTypes()} のインデックスに対応します。
+     * 
+     * @param entity
+     *            エンティティ
+     * @param originalStates
+     *            元の状態
+     * @return 値が変更されたプロパティのインデックスの集合
+     * @since 2.0.2
+     */
+    default BitSet getChangedProperties(ENTITY entity, ENTITY originalStates) {
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = getEntityPropertyTypes();
+        int size = propertyTypes.size();
+        BitSet changed = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            if (propertyTypes.get(i).isChanged(entity, originalStates)) {
+                changed.set(i);
+            }
+        }
+        return changed;
+    }
+
     /**
      * 挿入処理の前処理を行います。
      * 
@@ -16,8 +16,13 @@
 package org.seasar.doma.jdbc.id;
 
 import java.sql.Statement;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.seasar.doma.jdbc.JdbcException;
 
@@ -36,6 +41,13 @@ public abstract class AbstractPreGenerateIdGenerator extends
     /** 割り当てサイズ */
     protected long allocationSize;
 
+    /**
+     * 次のブロックを先読みする残りの識別子の数
+     * 
+     * @since 2.0.2
+     */
+    protected long lowWaterMark = -1;
+
     /** データソース名をキー、識別子コンテキストを値とするマップ */
     protected ConcurrentMap<String, IdContext> idContextMap = new ConcurrentHashMap<String, IdContext>();
 
@@ -59,6 +71,32 @@ public abstract class AbstractPreGenerateIdGenerator extends
         this.allocationSize = allocationSize;
     }
 
+    /**
+     * 次のブロックを先読みする残りの識別子の数を設定します。
+     * <p>
+     * 割り当て済みの識別子の残りがこの数になった時点で、次のブロックを取得します。 {@code 0}
+     * を指定すると先読みを行いません。指定しない場合、割り当てサイズの4分の1が使用されます。
+     * 
+     * @param lowWaterMark
+     *            次のブロックを先読みする残りの識別子の数
+     * @since 2.0.2
+     */
+    public void setLowWaterMark(long lowWaterMark) {
+        this.lowWaterMark = lowWaterMark;
+    }
+
+    /**
+     * データソース名をキー、識別子コンテキストを値とするマップを返します。
+     * <p>
+     * 識別子コンテキストの統計情報を参照するために使用できます。
+     * 
+     * @return データソース名をキー、識別子コンテキストを値とする変更不可能なマップ
+     * @since 2.0.2
+     */
+    public Map<String, IdContext> getIdContextMap() {
+        return Collections.unmodifiableMap(idContextMap);
+    }
+
     @Override
     public boolean supportsBatch(IdGenerationConfig config) {
         return true;
@@ -121,18 +159,33 @@ public abstract class AbstractPreGenerateIdGenerator extends
     /**
      * 識別子コンテキストです。
      * <p>
-     * 識別子の増分と保持を行います。識別子の増分処理は同期化されます。
+     * 識別子の増分と保持を行います。識別子はロックせずに払い出されます。割り当て済みの識別子の残りが
+     * {@link AbstractPreGenerateIdGenerator#setLowWaterMark(long)} で指定された数になると、
+     * その識別子を受け取ったスレッドが次のブロックを先読みします。
+     * その間、他のスレッドは現在のブロックから識別子を受け取り続けます。
      * 
      * @author taedium
      * 
      */
     public class IdContext {
 
-        /** 初期値 */
-        protected long initValue = AbstractPreGenerateIdGenerator.this.initialValue;
+        /** 現在のブロック */
+        protected volatile Block currentBlock;
 
-        /** 割り当てサイズ */
-        protected long allocated = Long.MAX_VALUE;
+        /** 先読みしたブロック */
+        protected volatile Block prefetchedBlock;
+
+        /** ブロックの取得を同期化するロック */
+        protected final ReentrantLock refillLock = new ReentrantLock();
+
+        /** ブロックを取得した回数 */
+        protected final LongAdder refillCount = new LongAdder();
+
+        /** ブロックの取得に要した時間の合計（ナノ秒） */
+        protected final LongAdder refillNanos = new LongAdder();
+
+        /** 識別子の払い出しがブロックの取得を待った回数 */
+        protected final LongAdder stallCount = new LongAdder();
 
         /**
          * 次の識別子を返します。
@@ -143,14 +196,155 @@ public abstract class AbstractPreGenerateIdGenerator extends
          * @throws JdbcException
          *             次の識別子の生成に失敗した場合
          */
-        public synchronized long getNextValue(IdGenerationConfig config) {
-            if (allocated < allocationSize) {
-                return initValue + allocated++;
+        public long getNextValue(IdGenerationConfig config) {
+            for (;;) {
+                Block block = currentBlock;
+                if (block != null) {
+                    long index = block.allocated.getAndIncrement();
+                    if (index < block.size) {
+                        if (index == block.prefetchIndex) {
+                            prefetch(config);
+                        }
+                        return block.initialValue + index;
+                    }
+                }
+                refill(config, block);
             }
-            initValue = getNewInitialValue(config);
-            allocated = 1;
-            return initValue;
         }
 
+        /**
+         * 使い切ったブロックを次のブロックに置き換えます。
+         * 
+         * @param config
+         *            識別子生成の設定
+         * @param exhausted
+         *            使い切ったブロック
+         */
+        protected void refill(IdGenerationConfig config, Block exhausted) {
+            if (prefetchedBlock == null || !refillLock.tryLock()) {
+                stallCount.increment();
+                refillLock.lock();
+            }
+            try {
+                if (currentBlock != exhausted) {
+                    return;
+                }
+                Block next = prefetchedBlock;
+                if (next == null) {
+                    next = fetchBlock(config);
+                } else {
+                    prefetchedBlock = null;
+                }
+                currentBlock = next;
+            } finally {
+                refillLock.unlock();
+            }
+        }
+
+        /**
+         * 次のブロックを先読みします。
+         * <p>
+         * 他のスレッドがブロックを取得中の場合は何もしません。
+         * 
+         * @param config
+         *            識別子生成の設定
+         */
+        protected void prefetch(IdGenerationConfig config) {
+            if (!refillLock.tryLock()) {
+                return;
+            }
+            try {
+                if (prefetchedBlock == null) {
+                    prefetchedBlock = fetchBlock(config);
+                }
+            } catch (JdbcException ignored) {
+                // 先読みに失敗しても払い出し済みの識別子は有効なため、
+                // 例外はブロックを使い切った時点での再取得に委ねる
+            } finally {
+                refillLock.unlock();
+            }
+        }
+
+        /**
+         * 新しいブロックを取得します。
+         * 
+         * @param config
+         *            識別子生成の設定
+         * @return 新しいブロック
+         * @throws JdbcException
+         *             新しい初期値の取得に失敗した場合
+         */
+        protected Block fetchBlock(IdGenerationConfig config) {
+            long start = System.nanoTime();
+            try {
+                long value = getNewInitialValue(config);
+                long size = Math.max(allocationSize, 1);
+                long mark = lowWaterMark < 0 ? size / 4 : lowWaterMark;
+                long prefetchIndex = mark > 0 ? Math.max(size - 1 - mark, 0)
+                        : -1;
+                return new Block(value, size, prefetchIndex);
+            } finally {
+                refillCount.increment();
+                refillNanos.add(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * ブロックを取得した回数を返します。
+         * 
+         * @return ブロックを取得した回数
+         * @since 2.0.2
+         */
+        public long getRefillCount() {
+            return refillCount.sum();
+        }
+
+        /**
+         * ブロックの取得に要した時間の合計をナノ秒で返します。
+         * 
+         * @return ブロックの取得に要した時間の合計（ナノ秒）
+         * @since 2.0.2
+         */
+        public long getRefillNanos() {
+            return refillNanos.sum();
+        }
+
+        /**
+         * 識別子の払い出しがブロックの取得を待った回数を返します。
+         * 
+         * @return 識別子の払い出しがブロックの取得を待った回数
+         * @since 2.0.2
+         */
+        public long getStallCount() {
+            return stallCount.sum();
+        }
+
+    }
+
+    /**
+     * 一度に割り当てられた識別子のブロックです。
+     * 
+     * @author nakamura-to
+     * @since 2.0.2
+     */
+    protected static class Block {
+
+        /** 初期値 */
+        protected final long initialValue;
+
+        /** 割り当てサイズ */
+        protected final long size;
+
+        /** 先読みを開始するインデックス */
+        protected final long prefetchIndex;
+
+        /** 払い出した識別子の数 */
+        protected final AtomicLong allocated = new AtomicLong();
+
+        protected Block(long initialValue, long size, long prefetchIndex) {
+            this.initialValue = initialValue;
+            this.size = size;
+            this.prefetchIndex = prefetchIndex;
+        }
     }
 }
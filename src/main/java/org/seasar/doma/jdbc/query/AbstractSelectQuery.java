@@ -15,6 +15,10 @@
  */
 package org.seasar.doma.jdbc.query;
 
+import static org.seasar.doma.internal.Constants.KEYSET_PARAMETER_NAME_PREFIX;
+import static org.seasar.doma.internal.Constants.LIMIT_PARAMETER_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_LIMIT_PARAMETER_NAME;
+import static org.seasar.doma.internal.Constants.OFFSET_PARAMETER_NAME;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
@@ -28,6 +32,7 @@ import java.util.stream.Collectors;
 import org.seasar.doma.FetchType;
 import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.jdbc.dialect.KeysetColumn;
 import org.seasar.doma.internal.jdbc.command.BasicSingleResultHandler;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.internal.jdbc.sql.node.ExpandNode;
@@ -36,6 +41,7 @@ import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.SelectOptions;
 import org.seasar.doma.jdbc.SelectOptionsAccessor;
+import org.seasar.doma.jdbc.SqlFile;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.SqlNode;
 import org.seasar.doma.jdbc.command.SelectCommand;
@@ -80,6 +86,10 @@ public abstract class AbstractSelectQuery implements SelectQuery {
 
     protected SqlLogType sqlLogType;
 
+    protected String[] keysetColumnLabels;
+
+    protected boolean countCalculatedInSelect;
+
     protected AbstractSelectQuery() {
     }
 
@@ -105,6 +115,50 @@ public abstract class AbstractSelectQuery implements SelectQuery {
 
     protected abstract void prepareSql();
 
+    protected void prepareCount() {
+        countCalculatedInSelect = config.getDialect()
+                .isCountCalculatedInSelect(options);
+        if (countCalculatedInSelect) {
+            SelectOptionsAccessor.setCountSize(options, -1);
+        }
+    }
+
+    protected boolean isCountQueryRequired() {
+        if (!SelectOptionsAccessor.isCount(options)) {
+            return false;
+        }
+        if (!countCalculatedInSelect) {
+            return true;
+        }
+        return options.getCount() < 0;
+    }
+
+    protected void prepareKeyset(SqlNode sqlNode) {
+        Object[] keys = SelectOptionsAccessor.getKeys(options);
+        if (keys == null) {
+            return;
+        }
+        keysetColumnLabels = KeysetColumn.resolveLabels(sqlNode);
+        for (int i = 0; i < keys.length; i++) {
+            parameters.put(KEYSET_PARAMETER_NAME_PREFIX + i, new Value(
+                    keys[i].getClass(), keys[i]));
+        }
+    }
+
+    protected void preparePaging() {
+        long offset = SelectOptionsAccessor.getOffset(options);
+        long limit = SelectOptionsAccessor.getLimit(options);
+        if (offset >= 0) {
+            parameters.put(OFFSET_PARAMETER_NAME, new Value(Long.class, offset));
+        }
+        if (limit >= 0) {
+            parameters.put(LIMIT_PARAMETER_NAME, new Value(Long.class, limit));
+            long bias = offset < 0 ? 0 : offset;
+            parameters.put(OFFSET_LIMIT_PARAMETER_NAME, new Value(Long.class,
+                    bias + limit));
+        }
+    }
+
     protected void buildSql(
             BiFunction<ExpressionEvaluator, Function<ExpandNode, List<String>>, PreparedSql> sqlBuilder) {
         ExpressionEvaluator evaluator = new ExpressionEvaluator(parameters,
@@ -126,6 +180,14 @@ public abstract class AbstractSelectQuery implements SelectQuery {
     }
 
     protected void executeCount(SqlNode sqlNode) {
+        executeCount(sqlNode, null);
+    }
+
+    protected void executeCount(SqlFile sqlFile) {
+        executeCount(sqlFile.getSqlNode(), sqlFile);
+    }
+
+    protected void executeCount(SqlNode sqlNode, SqlFile sqlFile) {
         CountQuery query = new CountQuery();
         query.setCallerClassName(callerClassName);
         query.setCallerMethodName(callerMethodName);
@@ -136,6 +198,7 @@ public abstract class AbstractSelectQuery implements SelectQuery {
         query.setQueryTimeout(queryTimeout);
         query.setOptions(options);
         query.setSqlNode(sqlNode);
+        query.setSqlFile(sqlFile);
         query.setEntityType(entityType);
         query.setSqlLogType(sqlLogType);
         query.addParameters(parameters);
@@ -259,6 +322,16 @@ public abstract class AbstractSelectQuery implements SelectQuery {
         return sqlLogType;
     }
 
+    @Override
+    public String[] getKeysetColumnLabels() {
+        return keysetColumnLabels;
+    }
+
+    @Override
+    public boolean isCountCalculatedInSelect() {
+        return countCalculatedInSelect;
+    }
+
     public void setSqlLogType(SqlLogType sqlLogType) {
         this.sqlLogType = sqlLogType;
     }
@@ -19,18 +19,19 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertEquals;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.ListIterator;
 
 import org.seasar.doma.internal.jdbc.entity.AbstractPostDeleteContext;
 import org.seasar.doma.internal.jdbc.entity.AbstractPreDeleteContext;
-import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.InParameter;
 import org.seasar.doma.internal.jdbc.sql.PreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.PreparedSqlTemplate;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.entity.EntityPropertyType;
 import org.seasar.doma.jdbc.entity.EntityType;
-import org.seasar.doma.jdbc.entity.Property;
 
 /**
  * @author taedium
@@ -52,6 +53,7 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     public void prepare() {
         assertNotNull(method, config, callerClassName, callerMethodName,
                 entities, sqls);
+        fetchEntities();
         int size = entities.size();
         if (size == 0) {
             return;
@@ -66,13 +68,18 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         prepareOptimisticLock();
         prepareSql();
         entities.set(0, currentEntity);
-        for (ListIterator<ENTITY> it = entities.listIterator(1); it.hasNext();) {
-            currentEntity = it.next();
+        prepareEntities(entities.listIterator(1));
+        assertEquals(size, sqls.size());
+    }
+
+    @Override
+    protected void prepareEntities(ListIterator<ENTITY> iterator) {
+        while (iterator.hasNext()) {
+            currentEntity = iterator.next();
             preDelete();
             prepareSql();
-            it.set(currentEntity);
+            iterator.set(currentEntity);
         }
-        assertEquals(size, sqls.size());
     }
 
     protected void preDelete() {
@@ -92,7 +99,8 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
     }
 
-    protected void prepareSql() {
+    @Override
+    protected PreparedSqlTemplate createSqlTemplate() {
         Dialect dialect = config.getDialect();
         PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
                 SqlKind.BATCH_DELETE, sqlLogType);
@@ -101,12 +109,10 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         if (idPropertyTypes.size() > 0) {
             builder.appendSql(" where ");
             for (EntityPropertyType<ENTITY, ?> propertyType : idPropertyTypes) {
-                Property<ENTITY, ?> property = propertyType.createProperty();
-                property.load(currentEntity);
                 builder.appendSql(propertyType
                         .getColumnName(dialect::applyQuote));
                 builder.appendSql(" = ");
-                builder.appendParameter(property);
+                builder.appendPlaceholder();
                 builder.appendSql(" and ");
             }
             builder.cutBackSql(5);
@@ -117,15 +123,22 @@ public class AutoBatchDeleteQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
             } else {
                 builder.appendSql(" and ");
             }
-            Property<ENTITY, ?> property = versionPropertyType.createProperty();
-            property.load(currentEntity);
             builder.appendSql(versionPropertyType
                     .getColumnName(dialect::applyQuote));
             builder.appendSql(" = ");
-            builder.appendParameter(property);
+            builder.appendPlaceholder();
+        }
+        return builder.buildTemplate();
+    }
+
+    @Override
+    protected void addParameters(List<InParameter<?>> parameters) {
+        for (EntityPropertyType<ENTITY, ?> propertyType : idPropertyTypes) {
+            addParameter(parameters, propertyType);
+        }
+        if (versionPropertyType != null && !versionIgnored) {
+            addParameter(parameters, versionPropertyType);
         }
-        PreparedSql sql = builder.build();
-        sqls.add(sql);
     }
 
     @Override
@@ -21,12 +21,15 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 import java.lang.reflect.Method;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.ListIterator;
 
 import org.seasar.doma.internal.jdbc.entity.AbstractPostInsertContext;
 import org.seasar.doma.internal.jdbc.entity.AbstractPreInsertContext;
+import org.seasar.doma.internal.jdbc.sql.InParameter;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.internal.jdbc.sql.PreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.PreparedSqlTemplate;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.SqlKind;
@@ -52,6 +55,10 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
 
     protected boolean batchSupported = true;
 
+    protected boolean multiRowEnabled;
+
+    protected PreparedSqlTemplate multiRowSqlTemplate;
+
     public AutoBatchInsertQuery(EntityType<ENTITY> entityType) {
         super(entityType);
     }
@@ -60,6 +67,7 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     public void prepare() {
         assertNotNull(method, config, callerClassName, callerMethodName,
                 entities, sqls);
+        fetchEntities();
         int size = entities.size();
         if (size == 0) {
             return;
@@ -75,16 +83,21 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         prepareVersionValue();
         prepareSql();
         entities.set(0, currentEntity);
-        for (ListIterator<ENTITY> it = entities.listIterator(1); it.hasNext();) {
-            currentEntity = it.next();
+        prepareEntities(entities.listIterator(1));
+        currentEntity = null;
+        assertEquals(entities.size(), sqls.size());
+    }
+
+    @Override
+    protected void prepareEntities(ListIterator<ENTITY> iterator) {
+        while (iterator.hasNext()) {
+            currentEntity = iterator.next();
             preInsert();
             prepareIdValue();
             prepareVersionValue();
             prepareSql();
-            it.set(currentEntity);
+            iterator.set(currentEntity);
         }
-        currentEntity = null;
-        assertEquals(entities.size(), sqls.size());
     }
 
     protected void preInsert() {
@@ -160,7 +173,12 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
     }
 
-    protected void prepareSql() {
+    @Override
+    protected PreparedSqlTemplate createSqlTemplate() {
+        return createSqlTemplate(1);
+    }
+
+    protected PreparedSqlTemplate createSqlTemplate(int rowCount) {
         Dialect dialect = config.getDialect();
         PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
                 SqlKind.BATCH_INSERT, sqlLogType);
@@ -172,17 +190,25 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
             builder.appendSql(", ");
         }
         builder.cutBackSql(2);
-        builder.appendSql(") values (");
-        for (EntityPropertyType<ENTITY, ?> propertyType : targetPropertyTypes) {
-            Property<ENTITY, ?> property = propertyType.createProperty();
-            property.load(currentEntity);
-            builder.appendParameter(property);
-            builder.appendSql(", ");
+        builder.appendSql(") values ");
+        for (int row = 0; row < rowCount; row++) {
+            builder.appendSql("(");
+            for (int i = 0; i < targetPropertyTypes.size(); i++) {
+                builder.appendPlaceholder();
+                builder.appendSql(", ");
+            }
+            builder.cutBackSql(2);
+            builder.appendSql("), ");
         }
         builder.cutBackSql(2);
-        builder.appendSql(")");
-        PreparedSql sql = builder.build();
-        sqls.add(sql);
+        return builder.buildTemplate();
+    }
+
+    @Override
+    protected void addParameters(List<InParameter<?>> parameters) {
+        for (EntityPropertyType<ENTITY, ?> propertyType : targetPropertyTypes) {
+            addParameter(parameters, propertyType);
+        }
     }
 
     @Override
@@ -190,6 +216,35 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         return batchSupported;
     }
 
+    @Override
+    public boolean isMultiRowSupported() {
+        return multiRowEnabled && batchSupported && !autoGeneratedKeysSupported
+                && config.getDialect().supportsMultiRowInsertStatement();
+    }
+
+    @Override
+    public int getMultiRowSize() {
+        int maxRowSize = config.getDialect().getMaxBindParameterCount()
+                / Math.max(targetPropertyTypes.size(), 1);
+        return Math.max(Math.min(batchSize, maxRowSize), 1);
+    }
+
+    @Override
+    public PreparedSql createMultiRowSql(int fromIndex, int toIndex) {
+        int rowCount = toIndex - fromIndex;
+        if (multiRowSqlTemplate == null
+                || multiRowSqlTemplate.getParameterSize() != rowCount
+                        * targetPropertyTypes.size()) {
+            multiRowSqlTemplate = createSqlTemplate(rowCount);
+        }
+        List<InParameter<?>> parameters = new ArrayList<>(
+                multiRowSqlTemplate.getParameterSize());
+        for (PreparedSql sql : sqls.subList(fromIndex, toIndex)) {
+            parameters.addAll(sql.getParameters());
+        }
+        return multiRowSqlTemplate.build(parameters);
+    }
+
     @Override
     public void generateId(Statement statement, int index) {
         if (generatedIdPropertyType != null && idGenerationConfig != null) {
@@ -199,6 +254,10 @@ public class AutoBatchInsertQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
     }
 
+    public void setMultiRowEnabled(boolean multiRowEnabled) {
+        this.multiRowEnabled = multiRowEnabled;
+    }
+
     @Override
     public void complete() {
         for (ListIterator<ENTITY> it = entities.listIterator(); it.hasNext();) {
@@ -20,15 +20,22 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.stream.Stream;
 
+import org.seasar.doma.internal.jdbc.sql.InParameter;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.PreparedSqlTemplate;
+import org.seasar.doma.internal.jdbc.sql.WrapperInParameter;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.SqlExecutionSkipCause;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.entity.EntityPropertyType;
 import org.seasar.doma.jdbc.entity.EntityType;
+import org.seasar.doma.jdbc.entity.Property;
 import org.seasar.doma.jdbc.entity.VersionPropertyType;
 import org.seasar.doma.message.Message;
 
@@ -71,8 +78,14 @@ public abstract class AutoBatchModifyQuery<ENTITY> implements BatchModifyQuery {
 
     protected List<PreparedSql> sqls;
 
+    protected PreparedSqlTemplate sqlTemplate;
+
     protected List<ENTITY> entities;
 
+    protected Iterator<ENTITY> entityIterator;
+
+    protected List<ENTITY> completedEntities;
+
     protected ENTITY currentEntity;
 
     protected int queryTimeout;
@@ -131,6 +144,40 @@ public abstract class AutoBatchModifyQuery<ENTITY> implements BatchModifyQuery {
         return true;
     }
 
+    protected void prepareSql() {
+        if (sqlTemplate == null) {
+            sqlTemplate = createSqlTemplate();
+        }
+        List<InParameter<?>> parameters = new ArrayList<>(
+                sqlTemplate.getParameterSize());
+        addParameters(parameters);
+        sqls.add(sqlTemplate.build(parameters));
+    }
+
+    /**
+     * 全エンティティで共有するSQLのテンプレートを作成します。
+     * 
+     * @return SQLのテンプレート
+     * @since 2.0.2
+     */
+    protected abstract PreparedSqlTemplate createSqlTemplate();
+
+    /**
+     * 現在のエンティティからテンプレートのプレースホルダと同じ順序でパラメータを追加します。
+     * 
+     * @param parameters
+     *            パラメータのリスト
+     * @since 2.0.2
+     */
+    protected abstract void addParameters(List<InParameter<?>> parameters);
+
+    protected void addParameter(List<InParameter<?>> parameters,
+            EntityPropertyType<ENTITY, ?> propertyType) {
+        Property<ENTITY, ?> property = propertyType.createProperty();
+        property.load(currentEntity);
+        parameters.add(new WrapperInParameter<>(property.getWrapper()));
+    }
+
     @Override
     public Method getMethod() {
         return method;
@@ -148,17 +195,91 @@ public abstract class AutoBatchModifyQuery<ENTITY> implements BatchModifyQuery {
         assertNotNull(entities);
         if (entities instanceof Collection<?>) {
             this.entities = new ArrayList<ENTITY>((Collection<ENTITY>) entities);
+            this.sqls = new ArrayList<PreparedSql>(this.entities.size());
         } else {
-            this.entities = new ArrayList<ENTITY>();
-            for (ENTITY entity : entities) {
-                this.entities.add(entity);
-            }
+            setEntityIterator(entities.iterator());
+        }
+    }
+
+    /**
+     * エンティティのストリームを設定します。
+     * <p>
+     * エンティティはバッチサイズごとに読み込まれ、読み込まれた分ずつSQLの準備と実行が行われます。
+     * 
+     * @param entities
+     *            エンティティのストリーム
+     * @since 2.0.2
+     */
+    public void setEntities(Stream<ENTITY> entities) {
+        assertNotNull(entities);
+        setEntityIterator(entities.iterator());
+    }
+
+    protected void setEntityIterator(Iterator<ENTITY> entityIterator) {
+        this.entityIterator = entityIterator;
+        this.entities = new ArrayList<ENTITY>();
+        this.sqls = new ArrayList<PreparedSql>();
+        if (entityType.isImmutable()) {
+            this.completedEntities = new ArrayList<ENTITY>();
         }
-        this.sqls = new ArrayList<PreparedSql>(this.entities.size());
+    }
+
+    /**
+     * ストリームから次のチャンクのエンティティを読み込みます。
+     * 
+     * @return エンティティを読み込んだ場合 {@code true}
+     * @since 2.0.2
+     */
+    protected boolean fetchEntities() {
+        if (entityIterator == null) {
+            return false;
+        }
+        entities.clear();
+        sqls.clear();
+        int chunkSize = batchSize > 0 ? batchSize : config.getBatchSize();
+        if (chunkSize <= 0) {
+            chunkSize = 1;
+        }
+        while (entities.size() < chunkSize && entityIterator.hasNext()) {
+            entities.add(entityIterator.next());
+        }
+        return !entities.isEmpty();
+    }
+
+    /**
+     * 2番目以降のエンティティを準備します。
+     * 
+     * @param iterator
+     *            準備対象のエンティティのイテレータ
+     * @since 2.0.2
+     */
+    protected abstract void prepareEntities(ListIterator<ENTITY> iterator);
+
+    @Override
+    public boolean prepareNextChunk() {
+        if (entityIterator == null || !executable
+                || !entityIterator.hasNext()) {
+            return false;
+        }
+        complete();
+        if (completedEntities != null) {
+            completedEntities.addAll(entities);
+        }
+        fetchEntities();
+        prepareEntities(entities.listIterator());
+        currentEntity = null;
+        return true;
     }
 
     public List<ENTITY> getEntities() {
-        return entities;
+        if (completedEntities == null) {
+            return entities;
+        }
+        List<ENTITY> results = new ArrayList<ENTITY>(completedEntities.size()
+                + entities.size());
+        results.addAll(completedEntities);
+        results.addAll(entities);
+        return results;
     }
 
     public void setCallerClassName(String callerClassName) {
@@ -20,18 +20,22 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 
 import org.seasar.doma.internal.jdbc.entity.AbstractPostUpdateContext;
 import org.seasar.doma.internal.jdbc.entity.AbstractPreUpdateContext;
-import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.InParameter;
 import org.seasar.doma.internal.jdbc.sql.PreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.PreparedSqlTemplate;
 import org.seasar.doma.jdbc.Config;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.entity.EntityPropertyType;
 import org.seasar.doma.jdbc.entity.EntityType;
-import org.seasar.doma.jdbc.entity.Property;
 
 /**
  * @author taedium
@@ -45,6 +49,11 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
 
     protected boolean optimisticLockExceptionSuppressed;
 
+    protected boolean unchangedPropertyExcluded;
+
+    /** 変更されたプロパティの集合をキーとするSQLのテンプレート */
+    protected Map<BitSet, PreparedSqlTemplate> sqlTemplates;
+
     public AutoBatchUpdateQuery(EntityType<ENTITY> entityType) {
         super(entityType);
     }
@@ -53,6 +62,7 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
     public void prepare() {
         assertNotNull(method, config, callerClassName, callerMethodName,
                 entities, sqls);
+        fetchEntities();
         int size = entities.size();
         if (size == 0) {
             return;
@@ -68,13 +78,18 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         prepareTargetPropertyTypes();
         prepareSql();
         entities.set(0, currentEntity);
-        for (ListIterator<ENTITY> it = entities.listIterator(1); it.hasNext();) {
-            currentEntity = it.next();
+        prepareEntities(entities.listIterator(1));
+        assertEquals(entities.size(), sqls.size());
+    }
+
+    @Override
+    protected void prepareEntities(ListIterator<ENTITY> iterator) {
+        while (iterator.hasNext()) {
+            currentEntity = iterator.next();
             preUpdate();
             prepareSql();
-            it.set(currentEntity);
+            iterator.set(currentEntity);
         }
-        assertEquals(entities.size(), sqls.size());
     }
 
     protected void preUpdate() {
@@ -116,19 +131,83 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         }
     }
 
+    @Override
     protected void prepareSql() {
+        if (!unchangedPropertyExcluded) {
+            super.prepareSql();
+            return;
+        }
+        ENTITY originalStates = entityType.getOriginalStates(currentEntity);
+        if (originalStates == null) {
+            super.prepareSql();
+            return;
+        }
+        BitSet changed = getChangedTargetProperties(originalStates);
+        if (sqlTemplates == null) {
+            sqlTemplates = new HashMap<>();
+        }
+        PreparedSqlTemplate template = sqlTemplates.get(changed);
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = new ArrayList<>(
+                changed.cardinality());
+        for (int i = changed.nextSetBit(0); i >= 0; i = changed
+                .nextSetBit(i + 1)) {
+            propertyTypes.add(targetPropertyTypes.get(i));
+        }
+        if (template == null) {
+            template = createSqlTemplate(propertyTypes);
+            sqlTemplates.put(changed, template);
+        }
+        List<InParameter<?>> parameters = new ArrayList<>(
+                template.getParameterSize());
+        addParameters(parameters, propertyTypes);
+        sqls.add(template.build(parameters));
+    }
+
+    /**
+     * 現在のエンティティで更新対象とするプロパティを返します。
+     * <p>
+     * 返される {@link BitSet} のビットの位置は {@link #targetPropertyTypes} のインデックスに対応します。
+     * バージョンのプロパティは常に含まれます。 バージョン以外に変更されたプロパティがなく、バージョンのプロパティも存在しない場合は
+     * すべてのプロパティを返します。
+     * 
+     * @param originalStates
+     *            元の状態
+     * @return 更新対象とするプロパティのインデックスの集合
+     */
+    protected BitSet getChangedTargetProperties(ENTITY originalStates) {
+        int size = targetPropertyTypes.size();
+        BitSet changed = new BitSet(size);
+        for (int i = 0; i < size; i++) {
+            EntityPropertyType<ENTITY, ?> propertyType = targetPropertyTypes
+                    .get(i);
+            if (propertyType.isVersion()
+                    || propertyType.isChanged(currentEntity, originalStates)) {
+                changed.set(i);
+            }
+        }
+        if (changed.isEmpty()) {
+            changed.set(0, size);
+        }
+        return changed;
+    }
+
+    @Override
+    protected PreparedSqlTemplate createSqlTemplate() {
+        return createSqlTemplate(targetPropertyTypes);
+    }
+
+    protected PreparedSqlTemplate createSqlTemplate(
+            List<EntityPropertyType<ENTITY, ?>> propertyTypes) {
         Dialect dialect = config.getDialect();
         PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
                 SqlKind.BATCH_UPDATE, sqlLogType);
         builder.appendSql("update ");
         builder.appendSql(entityType.getQualifiedTableName(dialect::applyQuote));
         builder.appendSql(" set ");
-        for (EntityPropertyType<ENTITY, ?> propertyType : targetPropertyTypes) {
-            Property<ENTITY, ?> property = propertyType.createProperty();
-            property.load(currentEntity);
+        for (EntityPropertyType<ENTITY, ?> propertyType : propertyTypes) {
             builder.appendSql(propertyType.getColumnName(dialect::applyQuote));
             builder.appendSql(" = ");
-            builder.appendParameter(property);
+            builder.appendPlaceholder();
             if (propertyType.isVersion() && !versionIgnored) {
                 builder.appendSql(" + 1");
             }
@@ -138,12 +217,10 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         if (idPropertyTypes.size() > 0) {
             builder.appendSql(" where ");
             for (EntityPropertyType<ENTITY, ?> propertyType : idPropertyTypes) {
-                Property<ENTITY, ?> property = propertyType.createProperty();
-                property.load(currentEntity);
                 builder.appendSql(propertyType
                         .getColumnName(dialect::applyQuote));
                 builder.appendSql(" = ");
-                builder.appendParameter(property);
+                builder.appendPlaceholder();
                 builder.appendSql(" and ");
             }
             builder.cutBackSql(5);
@@ -154,15 +231,30 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
             } else {
                 builder.appendSql(" and ");
             }
-            Property<ENTITY, ?> property = versionPropertyType.createProperty();
-            property.load(currentEntity);
             builder.appendSql(versionPropertyType
                     .getColumnName(dialect::applyQuote));
             builder.appendSql(" = ");
-            builder.appendParameter(property);
+            builder.appendPlaceholder();
+        }
+        return builder.buildTemplate();
+    }
+
+    @Override
+    protected void addParameters(List<InParameter<?>> parameters) {
+        addParameters(parameters, targetPropertyTypes);
+    }
+
+    protected void addParameters(List<InParameter<?>> parameters,
+            List<EntityPropertyType<ENTITY, ?>> propertyTypes) {
+        for (EntityPropertyType<ENTITY, ?> propertyType : propertyTypes) {
+            addParameter(parameters, propertyType);
+        }
+        for (EntityPropertyType<ENTITY, ?> propertyType : idPropertyTypes) {
+            addParameter(parameters, propertyType);
+        }
+        if (versionPropertyType != null && !versionIgnored) {
+            addParameter(parameters, versionPropertyType);
         }
-        PreparedSql sql = builder.build();
-        sqls.add(sql);
     }
 
     @Override
@@ -205,6 +297,22 @@ public class AutoBatchUpdateQuery<ENTITY> extends AutoBatchModifyQuery<ENTITY>
         this.optimisticLockExceptionSuppressed = optimisticLockExceptionSuppressed;
     }
 
+    /**
+     * 変更されていないプロパティを更新対象から除外するかどうかを設定します。
+     * 
+     * @param unchangedPropertyExcluded
+     *            除外する場合 {@code true}
+     * @since 2.0.2
+     */
+    public void setUnchangedPropertyExcluded(boolean unchangedPropertyExcluded) {
+        this.unchangedPropertyExcluded = unchangedPropertyExcluded;
+    }
+
+    @Override
+    public boolean isUnchangedPropertyExcluded() {
+        return unchangedPropertyExcluded;
+    }
+
     protected static class AutoBatchPreUpdateContext<E> extends
             AbstractPreUpdateContext<E> {
 
@@ -19,6 +19,7 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -32,7 +33,6 @@ import org.seasar.doma.jdbc.dialect.Dialect;
 import org.seasar.doma.jdbc.entity.EntityPropertyType;
 import org.seasar.doma.jdbc.entity.EntityType;
 import org.seasar.doma.jdbc.entity.Property;
-import org.seasar.doma.wrapper.Wrapper;
 
 /**
  * @author taedium
@@ -95,11 +95,16 @@ public class AutoUpdateQuery<ENTITY> extends AutoModifyQuery<ENTITY> implements
     }
 
     protected List<EntityPropertyType<ENTITY, ?>> getTargetPropertyTypes() {
-        int capacity = entityType.getEntityPropertyTypes().size();
+        List<EntityPropertyType<ENTITY, ?>> propertyTypes = entityType
+                .getEntityPropertyTypes();
+        int capacity = propertyTypes.size();
         List<EntityPropertyType<ENTITY, ?>> results = new ArrayList<>(capacity);
         ENTITY originalStates = entityType.getOriginalStates(entity);
-        for (EntityPropertyType<ENTITY, ?> propertyType : entityType
-                .getEntityPropertyTypes()) {
+        BitSet changedProperties = unchangedPropertyIncluded
+                || originalStates == null ? null : entityType
+                .getChangedProperties(entity, originalStates);
+        for (int i = 0; i < capacity; i++) {
+            EntityPropertyType<ENTITY, ?> propertyType = propertyTypes.get(i);
             if (!propertyType.isUpdatable()) {
                 continue;
             }
@@ -116,8 +121,7 @@ public class AutoUpdateQuery<ENTITY> extends AutoModifyQuery<ENTITY> implements
                     continue;
                 }
             }
-            if (unchangedPropertyIncluded || originalStates == null
-                    || isChanged(originalStates, propertyType)) {
+            if (changedProperties == null || changedProperties.get(i)) {
                 String name = propertyType.getName();
                 if (!isTargetPropertyName(name)) {
                     continue;
@@ -130,11 +134,7 @@ public class AutoUpdateQuery<ENTITY> extends AutoModifyQuery<ENTITY> implements
 
     protected boolean isChanged(ENTITY originalStates,
             EntityPropertyType<ENTITY, ?> propertyType) {
-        Wrapper<?> originalWrapper = propertyType.createProperty()
-                .load(originalStates).getWrapper();
-        Wrapper<?> wrapper = propertyType.createProperty().load(entity)
-                .getWrapper();
-        return !wrapper.hasEqualValue(originalWrapper.get());
+        return propertyType.isChanged(entity, originalStates);
     }
 
     protected void prepareSql() {
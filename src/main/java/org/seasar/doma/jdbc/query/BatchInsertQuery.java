@@ -17,6 +17,8 @@ package org.seasar.doma.jdbc.query;
 
 import java.sql.Statement;
 
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+
 /**
  * @author taedium
  * 
@@ -27,4 +29,42 @@ public interface BatchInsertQuery extends BatchModifyQuery {
 
     void generateId(Statement statement, int index);
 
+    /**
+     * 複数行を1つのINSERT文で挿入できるかどうかを返します。
+     * 
+     * @return 挿入できる場合 {@code true}
+     * @since 2.0.2
+     */
+    default boolean isMultiRowSupported() {
+        return false;
+    }
+
+    /**
+     * 1つのINSERT文に含める最大の行数を返します。
+     * <p>
+     * デフォルトの実装では {@code 1} を返します。
+     * 
+     * @return 1つのINSERT文に含める最大の行数
+     * @since 2.0.2
+     */
+    default int getMultiRowSize() {
+        return 1;
+    }
+
+    /**
+     * {@link #getSqls()} の指定された範囲の行をまとめて挿入するSQLを作成します。
+     * <p>
+     * デフォルトの実装では、範囲が1行であることを前提に {@code fromIndex} の位置のSQLを返します。
+     * 
+     * @param fromIndex
+     *            範囲の開始位置（この位置を含む）
+     * @param toIndex
+     *            範囲の終了位置（この位置を含まない）
+     * @return SQL
+     * @since 2.0.2
+     */
+    default PreparedSql createMultiRowSql(int fromIndex, int toIndex) {
+        return getSqls().get(fromIndex);
+    }
+
 }
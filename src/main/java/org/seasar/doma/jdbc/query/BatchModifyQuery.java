@@ -43,4 +43,16 @@ public interface BatchModifyQuery extends Query {
     int getBatchSize();
 
     SqlLogType getSqlLogType();
+
+    /**
+     * 実行済みのチャンクを完了させ、次のチャンクを準備します。
+     * <p>
+     * エンティティをストリームとして受け取るバッチ処理で、バッチサイズごとにSQLを準備して実行するために使用されます。
+     * 
+     * @return 次のチャンクが準備された場合 {@code true}
+     * @since 2.0.2
+     */
+    default boolean prepareNextChunk() {
+        return false;
+    }
 }
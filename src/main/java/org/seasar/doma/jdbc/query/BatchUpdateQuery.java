@@ -23,4 +23,16 @@ public interface BatchUpdateQuery extends BatchModifyQuery {
 
     void incrementVersions();
 
+    /**
+     * 変更されていないプロパティを更新対象から除外するかどうかを返します。
+     * <p>
+     * {@code true} の場合、 {@link #getSqls()} の各SQLはエンティティごとに異なるSET句を持つ可能性があります。
+     * 
+     * @return 除外する場合 {@code true}
+     * @since 2.0.2
+     */
+    default boolean isUnchangedPropertyExcluded() {
+        return false;
+    }
+
 }
@@ -19,8 +19,10 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import org.seasar.doma.FetchType;
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.jdbc.SqlFile;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.jdbc.dialect.Dialect;
 
 /**
  * @author taedium
@@ -30,6 +32,8 @@ public class CountQuery extends AbstractSelectQuery {
 
     protected SqlNode sqlNode;
 
+    protected SqlFile sqlFile;
+
     @Override
     public boolean isResultEnsured() {
         return true;
@@ -53,8 +57,11 @@ public class CountQuery extends AbstractSelectQuery {
 
     @Override
     protected void prepareSql() {
-        SqlNode transformedSqlNode = config.getDialect()
-                .transformSelectSqlNodeForGettingCount(sqlNode);
+        Dialect dialect = config.getDialect();
+        SqlNode transformedSqlNode = sqlFile != null ? sqlFile
+                .getTransformedSqlNode(SelectTransformationKey.ofCount(dialect),
+                        dialect::transformSelectSqlNodeForGettingCount)
+                : dialect.transformSelectSqlNodeForGettingCount(sqlNode);
         buildSql((evaluator, expander) -> {
             NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
                     config, SqlKind.SELECT, null, evaluator, sqlLogType,
@@ -72,4 +79,8 @@ public class CountQuery extends AbstractSelectQuery {
         this.sqlNode = sqlNode;
     }
 
+    public void setSqlFile(SqlFile sqlFile) {
+        this.sqlFile = sqlFile;
+    }
+
 }
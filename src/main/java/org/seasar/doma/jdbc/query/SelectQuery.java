@@ -42,4 +42,24 @@ public interface SelectQuery extends Query {
     int getMaxRows();
 
     SqlLogType getSqlLogType();
+
+    /**
+     * キーセットによるページングのキーの列ラベルを返します。
+     * 
+     * @return 列ラベルの配列、キーセットによるページングを行わない場合 {@code null}
+     * @since 2.0.2
+     */
+    default String[] getKeysetColumnLabels() {
+        return null;
+    }
+
+    /**
+     * 集計を検索結果の列から取得するかどうかを返します。
+     * 
+     * @return 集計を検索結果の列から取得する場合 {@code true}
+     * @since 2.0.2
+     */
+    default boolean isCountCalculatedInSelect() {
+        return false;
+    }
 }
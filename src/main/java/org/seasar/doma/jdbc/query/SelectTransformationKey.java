@@ -0,0 +1,128 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.query;
+
+import java.util.Arrays;
+
+import org.seasar.doma.jdbc.SelectForUpdateType;
+import org.seasar.doma.jdbc.SelectOptions;
+import org.seasar.doma.jdbc.SelectOptionsAccessor;
+import org.seasar.doma.jdbc.dialect.Dialect;
+
+/**
+ * SQLの解析結果の変換を一意に決めるキーです。
+ * <p>
+ * {@link org.seasar.doma.jdbc.SqlFile#getTransformedSqlNode(Object, java.util.function.Function)}
+ * のキーとして使用されます。
+ * <p>
+ * 方言がページングのオフセットとリミットをバインド変数で指定する場合、それらの値ではなく符号だけをキーに含めます。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+final class SelectTransformationKey {
+
+    private final Dialect dialect;
+
+    private final boolean count;
+
+    private final boolean countGetting;
+
+    private final long offset;
+
+    private final long limit;
+
+    private final SelectForUpdateType forUpdateType;
+
+    private final int waitSeconds;
+
+    private final String[] aliases;
+
+    private final int keyCount;
+
+    private final int hashCode;
+
+    private SelectTransformationKey(Dialect dialect, boolean count,
+            boolean countGetting, long offset, long limit,
+            SelectForUpdateType forUpdateType, int waitSeconds,
+            String[] aliases, int keyCount) {
+        this.dialect = dialect;
+        this.count = count;
+        this.countGetting = countGetting;
+        this.offset = offset;
+        this.limit = limit;
+        this.forUpdateType = forUpdateType;
+        this.waitSeconds = waitSeconds;
+        this.aliases = aliases;
+        this.keyCount = keyCount;
+        int result = System.identityHashCode(dialect);
+        result = 31 * result + Boolean.hashCode(count);
+        result = 31 * result + Boolean.hashCode(countGetting);
+        result = 31 * result + Long.hashCode(offset);
+        result = 31 * result + Long.hashCode(limit);
+        result = 31 * result
+                + (forUpdateType == null ? 0 : forUpdateType.hashCode());
+        result = 31 * result + waitSeconds;
+        result = 31 * result + Arrays.hashCode(aliases);
+        result = 31 * result + keyCount;
+        this.hashCode = result;
+    }
+
+    static SelectTransformationKey of(Dialect dialect, SelectOptions options) {
+        Object[] keys = SelectOptionsAccessor.getKeys(options);
+        long offset = SelectOptionsAccessor.getOffset(options);
+        long limit = SelectOptionsAccessor.getLimit(options);
+        if (dialect.isPagingParameterized()) {
+            offset = Long.signum(offset);
+            limit = Long.signum(limit);
+        }
+        return new SelectTransformationKey(dialect,
+                SelectOptionsAccessor.isCount(options), false, offset, limit,
+                SelectOptionsAccessor.getForUpdateType(options),
+                SelectOptionsAccessor.getWaitSeconds(options),
+                SelectOptionsAccessor.getAliases(options).clone(),
+                keys == null ? -1 : keys.length);
+    }
+
+    static SelectTransformationKey ofCount(Dialect dialect) {
+        return new SelectTransformationKey(dialect, false, true, -1, -1, null,
+                0, new String[] {}, -1);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SelectTransformationKey)) {
+            return false;
+        }
+        SelectTransformationKey other = (SelectTransformationKey) obj;
+        return dialect == other.dialect && count == other.count
+                && countGetting == other.countGetting
+                && offset == other.offset && limit == other.limit
+                && forUpdateType == other.forUpdateType
+                && waitSeconds == other.waitSeconds
+                && Arrays.equals(aliases, other.aliases)
+                && keyCount == other.keyCount;
+    }
+
+}
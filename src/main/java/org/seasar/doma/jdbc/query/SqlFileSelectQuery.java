@@ -18,10 +18,10 @@ package org.seasar.doma.jdbc.query;
 import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
-import org.seasar.doma.jdbc.SelectOptionsAccessor;
 import org.seasar.doma.jdbc.SqlFile;
 import org.seasar.doma.jdbc.SqlKind;
 import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.jdbc.dialect.Dialect;
 
 /**
  * @author taedium
@@ -42,8 +42,13 @@ public class SqlFileSelectQuery extends AbstractSelectQuery {
     protected void prepareSql() {
         sqlFile = config.getSqlFileRepository().getSqlFile(method, sqlFilePath,
                 config.getDialect());
-        SqlNode transformedSqlNode = config.getDialect()
-                .transformSelectSqlNode(sqlFile.getSqlNode(), options);
+        prepareCount();
+        prepareKeyset(sqlFile.getSqlNode());
+        preparePaging();
+        Dialect dialect = config.getDialect();
+        SqlNode transformedSqlNode = sqlFile.getTransformedSqlNode(
+                SelectTransformationKey.of(dialect, options),
+                sqlNode -> dialect.transformSelectSqlNode(sqlNode, options));
         buildSql((evaluator, expander) -> {
             NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
                     config, SqlKind.SELECT, sqlFilePath, evaluator, sqlLogType,
@@ -54,8 +59,8 @@ public class SqlFileSelectQuery extends AbstractSelectQuery {
 
     @Override
     public void complete() {
-        if (SelectOptionsAccessor.isCount(options)) {
-            executeCount(sqlFile.getSqlNode());
+        if (isCountQueryRequired()) {
+            executeCount(sqlFile);
         }
     }
 
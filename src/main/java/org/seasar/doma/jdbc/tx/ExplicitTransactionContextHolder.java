@@ -0,0 +1,45 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+/**
+ * ローカルトランザクションコンテキストをこのオブジェクト自身に保持するホルダーです。
+ * <p>
+ * トランザクションはスレッドに関連付けられないため、処理がスレッドをまたいでも同じトランザクションを参照できます。
+ * リクエストなどの処理の単位ごとにこのクラスのインスタンスと {@link LocalTransactionDataSource}
+ * を作成し、その処理の中で使用してください。
+ * <p>
+ * コネクションはスレッドセーフではないため、同時に複数のスレッドからトランザクションを使用してはいけません。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class ExplicitTransactionContextHolder implements
+        LocalTransactionContextHolder {
+
+    /** ローカルトランザクションコンテキスト */
+    protected volatile LocalTransactionContext context;
+
+    @Override
+    public LocalTransactionContext get() {
+        return context;
+    }
+
+    @Override
+    public void set(LocalTransactionContext context) {
+        this.context = context;
+    }
+}
@@ -72,7 +72,7 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
      *            JDBCに関するロガー
      */
     protected KeepAliveLocalTransaction(DataSource dataSource,
-            ThreadLocal<LocalTransactionContext> localTxContextHolder,
+            LocalTransactionContextHolder localTxContextHolder,
             JdbcLogger jdbcLogger) {
         super(dataSource, localTxContextHolder, jdbcLogger);
     }
@@ -90,7 +90,7 @@ public class KeepAliveLocalTransaction extends LocalTransaction {
      *            デフォルトのトランザクション分離レベル
      */
     protected KeepAliveLocalTransaction(DataSource dataSource,
-            ThreadLocal<LocalTransactionContext> localTxContextHolder,
+            LocalTransactionContextHolder localTxContextHolder,
             JdbcLogger jdbcLogger,
             TransactionIsolationLevel defaultTransactionIsolationLevel) {
         super(dataSource, localTxContextHolder, jdbcLogger,
@@ -20,11 +20,13 @@ import static org.seasar.doma.internal.util.AssertionUtil.assertNotNull;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Savepoint;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.sql.DataSource;
 
 import org.seasar.doma.DomaNullPointerException;
 import org.seasar.doma.internal.jdbc.util.JdbcUtil;
+import org.seasar.doma.internal.jdbc.util.PreparedStatementCache;
 import org.seasar.doma.jdbc.JdbcException;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.message.Message;
@@ -93,7 +95,7 @@ public class LocalTransaction {
     protected final DataSource dataSource;
 
     /** ローカルトランザクションコンテキストのホルダー */
-    protected final ThreadLocal<LocalTransactionContext> localTxContextHolder;
+    protected final LocalTransactionContextHolder localTxContextHolder;
 
     /** JDBCに関するロガー */
     protected final JdbcLogger jdbcLogger;
@@ -104,6 +106,12 @@ public class LocalTransaction {
     /** クラス名 */
     protected final String className;
 
+    /** ステートメントキャッシュのヒット数 */
+    protected final LongAdder statementCacheHitCount = new LongAdder();
+
+    /** ステートメントキャッシュのミス数 */
+    protected final LongAdder statementCacheMissCount = new LongAdder();
+
     /**
      * インスタンスを構築します。
      * 
@@ -115,7 +123,7 @@ public class LocalTransaction {
      *            JDBCに関するロガー
      */
     protected LocalTransaction(DataSource dataSource,
-            ThreadLocal<LocalTransactionContext> localTxContextHolder,
+            LocalTransactionContextHolder localTxContextHolder,
             JdbcLogger jdbcLogger) {
         this(dataSource, localTxContextHolder, jdbcLogger, null);
     }
@@ -133,7 +141,7 @@ public class LocalTransaction {
      *            デフォルトのトランザクション分離レベル
      */
     protected LocalTransaction(DataSource dataSource,
-            ThreadLocal<LocalTransactionContext> localTxContextHolder,
+            LocalTransactionContextHolder localTxContextHolder,
             JdbcLogger jdbcLogger,
             TransactionIsolationLevel defaultTransactionIsolationLevel) {
         assertNotNull(dataSource, localTxContextHolder, jdbcLogger);
@@ -568,6 +576,7 @@ public class LocalTransaction {
             return;
         }
         LocalTransactionConnection connection = context.getConnection();
+        closePreparedStatementCache(connection);
         int isolationLevel = connection.getPreservedTransactionIsolation();
         if (isolationLevel != Connection.TRANSACTION_NONE) {
             try {
@@ -590,6 +599,44 @@ public class LocalTransaction {
         JdbcUtil.close(connection, jdbcLogger);
     }
 
+    /**
+     * コネクションが保持するステートメントのキャッシュをクローズし、ヒット数とミス数を集計します。
+     * 
+     * @param connection
+     *            コネクション
+     * @since 2.0.2
+     */
+    protected void closePreparedStatementCache(
+            LocalTransactionConnection connection) {
+        PreparedStatementCache cache = connection.closePreparedStatementCache();
+        if (cache != null) {
+            statementCacheHitCount.add(cache.getHitCount());
+            statementCacheMissCount.add(cache.getMissCount());
+        }
+    }
+
+    /**
+     * 終了したトランザクションにおけるステートメントキャッシュのヒット数の合計を返します。
+     * 
+     * @return ヒット数
+     * @see org.seasar.doma.jdbc.Config#getStatementCacheSize()
+     * @since 2.0.2
+     */
+    public long getStatementCacheHitCount() {
+        return statementCacheHitCount.sum();
+    }
+
+    /**
+     * 終了したトランザクションにおけるステートメントキャッシュのミス数の合計を返します。
+     * 
+     * @return ミス数
+     * @see org.seasar.doma.jdbc.Config#getStatementCacheSize()
+     * @since 2.0.2
+     */
+    public long getStatementCacheMissCount() {
+        return statementCacheMissCount.sum();
+    }
+
     /**
      * トランザクションを識別するための文字列表現を返します。
      */
@@ -36,6 +36,10 @@ import java.sql.Struct;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.seasar.doma.internal.jdbc.util.PreparedStatementCache;
+import org.seasar.doma.internal.jdbc.util.PreparedStatementCacheHolder;
 
 /**
  * ローカルトランザクションと連動するコネクションです。
@@ -46,13 +50,20 @@ import java.util.concurrent.Executor;
  * @author taedium
  * @since 1.1.0
  */
-class LocalTransactionConnection implements Connection {
+class LocalTransactionConnection implements Connection,
+        PreparedStatementCacheHolder {
 
     /** コネクション */
     private final Connection connection;
 
     private final int preservedTransactionIsolation;
 
+    /** ステートメントのキャッシュ */
+    private PreparedStatementCache preparedStatementCache;
+
+    /** ステートメントのキャッシュのロック */
+    private final ReentrantLock preparedStatementCacheLock = new ReentrantLock();
+
     /**
      * インスタンスを構築します。
      * 
@@ -71,6 +82,40 @@ class LocalTransactionConnection implements Connection {
         return this.preservedTransactionIsolation;
     }
 
+    @Override
+    public PreparedStatementCache getPreparedStatementCache(int maxSize) {
+        preparedStatementCacheLock.lock();
+        try {
+            if (preparedStatementCache == null) {
+                preparedStatementCache = new PreparedStatementCache(
+                        connection, maxSize);
+            }
+            return preparedStatementCache;
+        } finally {
+            preparedStatementCacheLock.unlock();
+        }
+    }
+
+    /**
+     * ステートメントのキャッシュをクローズします。
+     * 
+     * @return クローズしたキャッシュ、キャッシュが作成されていない場合 {@code null}
+     */
+    protected PreparedStatementCache closePreparedStatementCache() {
+        PreparedStatementCache cache;
+        preparedStatementCacheLock.lock();
+        try {
+            cache = preparedStatementCache;
+            preparedStatementCache = null;
+        } finally {
+            preparedStatementCacheLock.unlock();
+        }
+        if (cache != null) {
+            cache.close();
+        }
+        return cache;
+    }
+
     /**
      * ラップされたコネクションを返します。
      * 
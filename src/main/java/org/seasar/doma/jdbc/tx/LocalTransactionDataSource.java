@@ -39,8 +39,8 @@ import org.seasar.doma.message.Message;
  */
 public final class LocalTransactionDataSource implements DataSource {
 
-    /** コネクションのホルダー */
-    private final ThreadLocal<LocalTransactionContext> localTxContextHolder = new ThreadLocal<LocalTransactionContext>();
+    /** ローカルトランザクションコンテキストのホルダー */
+    private final LocalTransactionContextHolder localTxContextHolder;
 
     /** データソース */
     private final DataSource dataSource;
@@ -54,10 +54,30 @@ public final class LocalTransactionDataSource implements DataSource {
      *             {@code dataSource} が {@code null} の場合
      */
     public LocalTransactionDataSource(DataSource dataSource) {
+        this(dataSource, new ThreadLocalTransactionContextHolder());
+    }
+
+    /**
+     * ローカルトランザクションコンテキストのホルダーを指定してインスタンスを構築します。
+     * 
+     * @param dataSource
+     *            データソース
+     * @param localTxContextHolder
+     *            ローカルトランザクションコンテキストのホルダー
+     * @throws DomaNullPointerException
+     *             引数のいずれかが {@code null} の場合
+     * @since 2.0.2
+     */
+    public LocalTransactionDataSource(DataSource dataSource,
+            LocalTransactionContextHolder localTxContextHolder) {
         if (dataSource == null) {
             throw new DomaNullPointerException("dataSource");
         }
+        if (localTxContextHolder == null) {
+            throw new DomaNullPointerException("localTxContextHolder");
+        }
         this.dataSource = dataSource;
+        this.localTxContextHolder = localTxContextHolder;
     }
 
     /**
@@ -85,6 +105,7 @@ public final class LocalTransactionDataSource implements DataSource {
             simpleDataSource.setPassword(password);
         }
         this.dataSource = simpleDataSource;
+        this.localTxContextHolder = new ThreadLocalTransactionContextHolder();
     }
 
     /**
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.seasar.doma.DomaNullPointerException;
+
+/**
+ * ローカルトランザクションコンテキストを処理の範囲に関連付けるホルダーです。
+ * <p>
+ * 関連付けはスレッドごとに保持されますが、 {@code wrap} メソッドで包んだ処理は、包んだ時点の関連付けを実行するスレッドに引き継ぎ、
+ * 処理の終了後に元の関連付けに戻します。 {@link java.util.concurrent.CompletableFuture}
+ * のパイプラインや別の {@link Executor} に処理を渡す場合に使用します。
+ * 
+ * <pre>
+ * CompletableFuture.supplyAsync(() -&gt; dao.selectById(1),
+ *         holder.wrapExecutor(executor));
+ * </pre>
+ * <p>
+ * コネクションはスレッドセーフではないため、引き継いだ処理は同時に実行されないようにしてください。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class ScopedTransactionContextHolder extends
+        ThreadLocalTransactionContextHolder {
+
+    /**
+     * 現在の関連付けを引き継いで実行する {@link Runnable} を返します。
+     * 
+     * @param task
+     *            処理
+     * @return 関連付けを引き継ぐ処理
+     * @throws DomaNullPointerException
+     *             {@code task} が {@code null} の場合
+     */
+    public Runnable wrap(Runnable task) {
+        if (task == null) {
+            throw new DomaNullPointerException("task");
+        }
+        LocalTransactionContext captured = get();
+        return () -> {
+            LocalTransactionContext previous = get();
+            set(captured);
+            try {
+                task.run();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * 現在の関連付けを引き継いで実行する {@link Supplier} を返します。
+     * 
+     * @param <T>
+     *            結果の型
+     * @param supplier
+     *            処理
+     * @return 関連付けを引き継ぐ処理
+     * @throws DomaNullPointerException
+     *             {@code supplier} が {@code null} の場合
+     */
+    public <T> Supplier<T> wrap(Supplier<T> supplier) {
+        if (supplier == null) {
+            throw new DomaNullPointerException("supplier");
+        }
+        LocalTransactionContext captured = get();
+        return () -> {
+            LocalTransactionContext previous = get();
+            set(captured);
+            try {
+                return supplier.get();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * 現在の関連付けを引き継いで実行する {@link Function} を返します。
+     * 
+     * @param <T>
+     *            引数の型
+     * @param <R>
+     *            結果の型
+     * @param function
+     *            処理
+     * @return 関連付けを引き継ぐ処理
+     * @throws DomaNullPointerException
+     *             {@code function} が {@code null} の場合
+     */
+    public <T, R> Function<T, R> wrap(Function<T, R> function) {
+        if (function == null) {
+            throw new DomaNullPointerException("function");
+        }
+        LocalTransactionContext captured = get();
+        return t -> {
+            LocalTransactionContext previous = get();
+            set(captured);
+            try {
+                return function.apply(t);
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * 処理を投入したスレッドの関連付けを引き継いで処理を実行する {@link Executor} を返します。
+     * <p>
+     * 関連付けは、 {@link Executor#execute(Runnable)} が呼び出された時点のものが引き継がれます。
+     * 
+     * @param executor
+     *            エグゼキュータ
+     * @return 関連付けを引き継ぐエグゼキュータ
+     * @throws DomaNullPointerException
+     *             {@code executor} が {@code null} の場合
+     */
+    public Executor wrapExecutor(Executor executor) {
+        if (executor == null) {
+            throw new DomaNullPointerException("executor");
+        }
+        return task -> executor.execute(wrap(task));
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+/**
+ * ローカルトランザクションコンテキストをスレッドに関連付けるホルダーです。
+ * <p>
+ * {@link LocalTransactionDataSource} のデフォルトです。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class ThreadLocalTransactionContextHolder implements
+        LocalTransactionContextHolder {
+
+    /** スレッドローカル */
+    protected final ThreadLocal<LocalTransactionContext> threadLocal = new ThreadLocal<LocalTransactionContext>();
+
+    @Override
+    public LocalTransactionContext get() {
+        return threadLocal.get();
+    }
+
+    @Override
+    public void set(LocalTransactionContext context) {
+        if (context == null) {
+            threadLocal.remove();
+        } else {
+            threadLocal.set(context);
+        }
+    }
+}
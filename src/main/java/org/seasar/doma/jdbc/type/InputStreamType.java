@@ -0,0 +1,66 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.type;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * {@link InputStream} 用の {@link JdbcType} の実装です。
+ * <p>
+ * {@link ResultSet#getBinaryStream(int)} と
+ * {@link PreparedStatement#setBinaryStream(int, InputStream)}
+ * を使用するため、バイナリ全体をメモリに読み込まずに扱えます。 取得したストリームは、
+ * 結果セットのカーソルが次の行に移動するか結果セットが閉じられるまでの間だけ有効です。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class InputStreamType extends AbstractJdbcType<InputStream> {
+
+    public InputStreamType() {
+        super(Types.LONGVARBINARY);
+    }
+
+    @Override
+    protected InputStream doGetValue(ResultSet resultSet, int index)
+            throws SQLException {
+        return resultSet.getBinaryStream(index);
+    }
+
+    @Override
+    protected void doSetValue(PreparedStatement preparedStatement, int index,
+            InputStream value) throws SQLException {
+        preparedStatement.setBinaryStream(index, value);
+    }
+
+    @Override
+    protected InputStream doGetValue(CallableStatement callableStatement,
+            int index) throws SQLException {
+        byte[] bytes = callableStatement.getBytes(index);
+        return bytes != null ? new ByteArrayInputStream(bytes) : null;
+    }
+
+    @Override
+    protected String doConvertToLogFormat(InputStream value) {
+        return value.toString();
+    }
+}
@@ -45,6 +45,8 @@ public final class JdbcTypes {
 
     public static final FloatType FLOAT = new FloatType();
 
+    public static final InputStreamType INPUT_STREAM = new InputStreamType();
+
     public static final IntegerAdaptiveBooleanType INTEGER_ADAPTIVE_BOOLEAN = new IntegerAdaptiveBooleanType();
 
     public static final IntegerType INTEGER = new IntegerType();
@@ -63,6 +65,8 @@ public final class JdbcTypes {
 
     public static final ObjectType OBJECT = new ObjectType();
 
+    public static final ReaderType READER = new ReaderType();
+
     public static final ShortType SHORT = new ShortType();
 
     public static final StringType STRING = new StringType();
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.type;
+
+import java.io.Reader;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * {@link Reader} 用の {@link JdbcType} の実装です。
+ * <p>
+ * {@link ResultSet#getCharacterStream(int)} と
+ * {@link PreparedStatement#setCharacterStream(int, Reader)}
+ * を使用するため、文字列全体をメモリに読み込まずに扱えます。 取得したストリームは、
+ * 結果セットのカーソルが次の行に移動するか結果セットが閉じられるまでの間だけ有効です。
+ * 
+ * @author nakamura-to
+ * @since 2.0.2
+ */
+public class ReaderType extends AbstractJdbcType<Reader> {
+
+    public ReaderType() {
+        super(Types.LONGVARCHAR);
+    }
+
+    @Override
+    protected Reader doGetValue(ResultSet resultSet, int index)
+            throws SQLException {
+        return resultSet.getCharacterStream(index);
+    }
+
+    @Override
+    protected void doSetValue(PreparedStatement preparedStatement, int index,
+            Reader value) throws SQLException {
+        preparedStatement.setCharacterStream(index, value);
+    }
+
+    @Override
+    protected Reader doGetValue(CallableStatement callableStatement, int index)
+            throws SQLException {
+        return callableStatement.getCharacterStream(index);
+    }
+
+    @Override
+    protected String doConvertToLogFormat(Reader value) {
+        return value.toString();
+    }
+}
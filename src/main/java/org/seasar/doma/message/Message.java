@@ -161,6 +161,9 @@ public enum Message implements MessageResource {
     DOMA2221("EXIT   : クラス=[{0}], メソッド=[{1}]"),
     DOMA2222("THROW  : クラス=[{0}], メソッド=[{1}], 例外=[{2}]"),
     DOMA2223("SKIP   : クラス=[{0}], メソッド=[{1}], 理由=[{2}]"),
+    DOMA2224("キーセットによるページングを行うにはorder by句に列名とasc/descのみを指定する必要があります。"),
+    DOMA2225("キーセットの値の数[{0}]がorder by句の列の数[{1}]と一致しません。"),
+    DOMA2226("キーセットによるページングのキーとなる列[{0}]がselect句に含まれていません。order by句に指定した列をselect句にも含めてください。"),
 
     // expression
     DOMA3001("式[{0}]の評価に失敗しました（[{1}]番目の文字付近）。クラス[{2}]のメソッド[{3}]の実行に失敗しました。原因は次のものです。{4}"),
@@ -226,7 +229,7 @@ public enum Message implements MessageResource {
     DOMA4039("コンパイルが失敗している可能性があるためaptの処理を中止します。コンパイルが失敗している原因については実行環境（Eclipseやjavac）のエラーメッセージを確認してください。このメッセージが生成された箇所を知りたい場合は、ログ(EclipseならばError Logビュー、javacならばコンソールなど)を確認してください。"),
     DOMA4040("戻り値の型は更新件数を示すintの配列でなければいけません。"),
     DOMA4042("型はjava.lang.Iterableのサブタイプでなければいけません。"),
-    DOMA4043("java.lang.Iterableのサブタイプに対する実型引数はエンティティクラスでなければいけません。"),
+    DOMA4043("java.lang.Iterableのサブタイプもしくはjava.util.stream.Streamに対する実型引数はエンティティクラスでなければいけません。"),
     DOMA4051("エンティティクラスには型パラメータを定義できません。"),
     DOMA4053("SelectOption型のパラメータは複数指定できません。"),
     DOMA4059("Daoインタフェースには型パラメータを定義できません。"),
@@ -407,12 +410,21 @@ public enum Message implements MessageResource {
     DOMA4265("戻り値の型[{0}]とCollectorの3番目の実型引数の型[{1}]が一致していません。"),
     DOMA4266("@Selectのstrategy要素にSelectStrategyType.COLLECTを設定した場合、Collector型のパラメータが必要です。"),
     DOMA4267("java.util.List内のjava.util.Optionalに対する実型引数の型[{0}]はサポートされていません。サポートされている型は次のものです。基本型、ドメインクラス。"),
+    DOMA4268("型はjava.lang.Iterableのサブタイプもしくはjava.util.stream.Streamでなければいけません。"),
+    DOMA4270("戻り値であるjava.util.concurrent.CompletableFuture[{0}]には実型引数が必須です。"),
+    DOMA4271("戻り値であるjava.util.concurrent.CompletableFuture[{0}]の型引数にワイルドカードや型パラメータは使用できません。"),
+    DOMA4272("java.io.InputStreamもしくはjava.io.Readerを含む型[{0}]は戻り値に使用できません。これらの値は検索結果の行が有効な間しか読み込めません。@Selectのstrategy要素にSelectType.STREAMもしくはSelectType.COLLECTを設定してください。"),
+    DOMA4273("@OriginalStatesを注釈したエンティティクラスのプロパティ[{0}]にはjava.io.InputStreamもしくはjava.io.Readerを含む型を使用できません。これらの値は1度しか読み込めないため、変更前の状態として保持できません。"),
 
     DOMA4300("型[{0}]の処理中に例外が発生しました。注釈処理とは直接関係ない場所でコンパイルエラーがありませんか？"),
 
     // other
     DOMA5001("JDBCドライバがロードされていない可能性があります。まず、JDBCドライバがクラスパスにあることを確認してください。次に、JDBCドライバが自動でロードされない場合は、Class.forNameで明示的にロードしてください。 ex) Class.forName(\"oracle.jdbc.driver.OracleDriver\")"),
-    DOMA5002("urlプロパティが設定されていません。"), ;
+    DOMA5002("urlプロパティが設定されていません。"),
+    DOMA5003("コネクションプールはすでにクローズされています。"),
+    DOMA5004("{0}ミリ秒以内にコネクションを取得できませんでした。コネクションの最大数は[{1}]です。"),
+    DOMA5005("コネクションが{0}ミリ秒を超えて返却されていません。コネクションがリークしている可能性があります。コネクションを取得した場所は次のスタックトレースで確認できます。"),
+    DOMA5006("コネクションはすでにクローズされています。"), ;
 
     private final String messagePattern;
 
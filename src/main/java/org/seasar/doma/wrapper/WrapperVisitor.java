@@ -82,6 +82,11 @@ public interface WrapperVisitor<R, P, Q, TH extends Throwable> {
         return null;
     }
 
+    default R visitInputStreamWrapper(InputStreamWrapper wrapper, P p, Q q)
+            throws TH {
+        return null;
+    }
+
     default R visitIntegerWrapper(IntegerWrapper wrapper, P p, Q q) throws TH {
         return null;
     }
@@ -113,6 +118,10 @@ public interface WrapperVisitor<R, P, Q, TH extends Throwable> {
         return null;
     }
 
+    default R visitReaderWrapper(ReaderWrapper wrapper, P p, Q q) throws TH {
+        return null;
+    }
+
     default R visitShortWrapper(ShortWrapper wrapper, P p, Q q) throws TH {
         return null;
     }
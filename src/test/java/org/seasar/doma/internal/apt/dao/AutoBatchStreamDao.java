@@ -0,0 +1,41 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.apt.dao;
+
+import java.util.stream.Stream;
+
+import org.seasar.doma.BatchDelete;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.BatchUpdate;
+import org.seasar.doma.Dao;
+import org.seasar.doma.internal.apt.entity.Emp;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+@Dao(config = MyConfig.class)
+public interface AutoBatchStreamDao {
+
+    @BatchInsert(batchSize = 10)
+    int[] insert(Stream<Emp> entities);
+
+    @BatchUpdate(batchSize = 10)
+    int[] update(Stream<Emp> entities);
+
+    @BatchDelete(batchSize = 10)
+    int[] delete(Stream<Emp> entities);
+}
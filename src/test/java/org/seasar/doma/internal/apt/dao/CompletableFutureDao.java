@@ -0,0 +1,66 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.apt.dao;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.seasar.doma.BatchDelete;
+import org.seasar.doma.BatchInsert;
+import org.seasar.doma.Dao;
+import org.seasar.doma.Insert;
+import org.seasar.doma.Select;
+import org.seasar.doma.SelectType;
+import org.seasar.doma.Update;
+import org.seasar.doma.internal.apt.entity.Emp;
+import org.seasar.doma.internal.apt.entity.ImmutableEmp;
+import org.seasar.doma.jdbc.BatchResult;
+import org.seasar.doma.jdbc.Result;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+@Dao(config = MyConfig.class)
+public interface CompletableFutureDao {
+
+    @Select
+    CompletableFuture<Emp> selectById(Integer id);
+
+    @Select
+    CompletableFuture<List<Emp>> selectAll();
+
+    @Select(strategy = SelectType.STREAM)
+    CompletableFuture<Long> count(Function<Stream<Emp>, Long> mapper);
+
+    @Insert
+    CompletableFuture<Integer> insert(Emp emp);
+
+    @Update(sqlFile = true)
+    CompletableFuture<Integer> update(Emp emp);
+
+    @BatchDelete
+    CompletableFuture<int[]> delete(List<Emp> emps);
+
+    @Insert
+    CompletableFuture<Result<ImmutableEmp>> insertImmutable(ImmutableEmp emp);
+
+    @BatchInsert
+    CompletableFuture<BatchResult<ImmutableEmp>> insertImmutables(
+            List<ImmutableEmp> emps);
+}
@@ -191,6 +191,26 @@ public class DaoProcessorTest extends AptTestCase {
         assertTrue(getCompiledResult());
     }
 
+    public void testAutoBatchStream() throws Exception {
+        Class<?> target = AutoBatchStreamDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertGeneratedSource(target);
+        assertTrue(getCompiledResult());
+    }
+
+    public void testIllegalAutoBatchStream() throws Exception {
+        Class<?> target = IllegalAutoBatchStreamDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4043);
+    }
+
     public void testSqlFileBatchUpdate() throws Exception {
         Class<?> target = SqlFileBatchUpdateDao.class;
         DaoProcessor processor = new DaoProcessor();
@@ -968,4 +988,44 @@ public class DaoProcessorTest extends AptTestCase {
         assertMessage(Message.DOMA4267);
     }
 
+    public void testCompletableFuture() throws Exception {
+        Class<?> target = CompletableFutureDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertGeneratedSource(target);
+        assertTrue(getCompiledResult());
+    }
+
+    public void testRawCompletableFuture() throws Exception {
+        Class<?> target = RawCompletableFutureDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4270);
+    }
+
+    public void testWildcardCompletableFuture() throws Exception {
+        Class<?> target = WildcardCompletableFutureDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4271);
+    }
+
+    public void testStreamReturnInputStream() throws Exception {
+        Class<?> target = StreamReturnInputStreamDao.class;
+        DaoProcessor processor = new DaoProcessor();
+        addProcessor(processor);
+        addCompilationUnit(target);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4272);
+    }
+
 }
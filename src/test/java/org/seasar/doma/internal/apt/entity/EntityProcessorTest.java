@@ -438,6 +438,15 @@ public class EntityProcessorTest extends AptTestCase {
         assertMessage(Message.DOMA4224);
     }
 
+    public void testIllegalOriginalStatesReaderEntity() throws Exception {
+        EntityProcessor processor = new EntityProcessor();
+        addProcessor(processor);
+        addCompilationUnit(IllegalOriginalStatesReaderEntity.class);
+        compile();
+        assertFalse(getCompiledResult());
+        assertMessage(Message.DOMA4273);
+    }
+
     public void testFinalMissingImmutableEntity() throws Exception {
         EntityProcessor processor = new EntityProcessor();
         addProcessor(processor);
@@ -29,6 +29,8 @@ import java.util.OptionalLong;
 import junit.framework.TestCase;
 
 import org.seasar.doma.internal.expr.node.ExpressionLocation;
+import org.seasar.doma.internal.expr.node.FieldOperatorNode;
+import org.seasar.doma.internal.expr.node.MethodOperatorNode;
 
 /**
  * @author taedium
@@ -185,6 +187,47 @@ public class ExpressionEvaluatorTest extends TestCase {
         assertNull(method);
     }
 
+    public void testFindMethod_cache() throws Exception {
+        MethodOperatorNode node = (MethodOperatorNode) new ExpressionParser(
+                "a.length()").parse();
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("a", new Value(String.class, "abc"));
+        assertEquals(3, evaluator.evaluate(node).getValue());
+        Method method = node.getMethodCache().get(String.class);
+        assertNotNull(method);
+
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("a", new Value(String.class, "abcde"));
+        assertEquals(5, evaluator.evaluate(node).getValue());
+        assertSame(method, node.getMethodCache().get(String.class));
+
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("a", new Value(StringBuilder.class, new StringBuilder(
+                "ab")));
+        assertEquals(2, evaluator.evaluate(node).getValue());
+        assertNull(node.getMethodCache().get(String.class));
+        assertNotNull(node.getMethodCache().get(StringBuilder.class));
+    }
+
+    public void testFindField_cache() throws Exception {
+        FieldOperatorNode node = (FieldOperatorNode) new ExpressionParser(
+                "p.name").parse();
+        Person person = new Person();
+        person.name = "aaa";
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("p", new Value(Person.class, person));
+        assertEquals("aaa", evaluator.evaluate(node).getValue());
+        Field field = node.getFieldCache().get(Person.class);
+        assertNotNull(field);
+
+        person = new Person();
+        person.name = "bbb";
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("p", new Value(Person.class, person));
+        assertEquals("bbb", evaluator.evaluate(node).getValue());
+        assertSame(field, node.getFieldCache().get(Person.class));
+    }
+
     public void testForClassName() throws Exception {
         ExpressionEvaluator evaluator = new ExpressionEvaluator();
         Class<?> clazz = evaluator.forClassName(location, "java.lang.String");
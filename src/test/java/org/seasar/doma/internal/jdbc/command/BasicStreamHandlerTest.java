@@ -0,0 +1,137 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.command;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.ColumnMetaData;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockResultSet;
+import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
+import org.seasar.doma.internal.jdbc.mock.RowData;
+import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.query.SqlFileSelectQuery;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class BasicStreamHandlerTest extends TestCase {
+
+    private final MockConfig runtimeConfig = new MockConfig();
+
+    private Method method;
+
+    @Override
+    protected void setUp() throws Exception {
+        method = getClass().getMethod(getName());
+    }
+
+    public void testHandle_inputStream() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("x"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(new ByteArrayInputStream(new byte[] {
+                1, 2 })));
+        resultSet.rows.add(new RowData(new ByteArrayInputStream(
+                new byte[] { 3 })));
+
+        SqlFileSelectQuery query = createQuery();
+
+        BasicStreamHandler<InputStream, List<Integer>> handler = new BasicStreamHandler<>(
+                () -> new org.seasar.doma.wrapper.InputStreamWrapper(),
+                stream -> stream.map(in -> {
+                    assertFalse(resultSet.closed);
+                    return sum(in);
+                }).collect(toList()));
+        List<Integer> results = handler.handle(resultSet, query, (i, next) -> {
+        }).get();
+        assertEquals(2, results.size());
+        assertEquals(Integer.valueOf(3), results.get(0));
+        assertEquals(Integer.valueOf(3), results.get(1));
+    }
+
+    public void testHandle_reader() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("x"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(new StringReader("aaa")));
+        resultSet.rows.add(new RowData(new StringReader("bbb")));
+
+        SqlFileSelectQuery query = createQuery();
+
+        BasicStreamHandler<Reader, List<String>> handler = new BasicStreamHandler<>(
+                () -> new org.seasar.doma.wrapper.ReaderWrapper(),
+                stream -> stream.map(reader -> {
+                    assertFalse(resultSet.closed);
+                    return read(reader);
+                }).collect(toList()));
+        List<String> results = handler.handle(resultSet, query, (i, next) -> {
+        }).get();
+        assertEquals(2, results.size());
+        assertEquals("aaa", results.get(0));
+        assertEquals("bbb", results.get(1));
+    }
+
+    private SqlFileSelectQuery createQuery() {
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(runtimeConfig);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(method);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        return query;
+    }
+
+    private static int sum(InputStream in) {
+        try {
+            int sum = 0;
+            for (int b = in.read(); b != -1; b = in.read()) {
+                sum += b;
+            }
+            return sum;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(Reader reader) {
+        try {
+            StringBuilder buf = new StringBuilder();
+            for (int c = reader.read(); c != -1; c = reader.read()) {
+                buf.append((char) c);
+            }
+            return buf.toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
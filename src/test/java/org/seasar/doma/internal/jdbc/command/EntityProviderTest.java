@@ -64,6 +64,30 @@ public class EntityProviderTest extends TestCase {
         assertEquals(new Integer(100), emp.getVersion());
     }
 
+    public void testGetEntity_multipleRows() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "aaa"));
+        resultSet.rows.add(new RowData(2, "bbb"));
+
+        _Emp entityType = _Emp.getSingletonInternal();
+        EntityProvider<Emp> provider = new EntityProvider<>(entityType,
+                new MySelectQuery(), false);
+        resultSet.next();
+        Emp emp1 = provider.get(resultSet);
+        resultSet.next();
+        Emp emp2 = provider.get(resultSet);
+
+        assertEquals(new Integer(1), emp1.getId());
+        assertEquals("aaa", emp1.getName());
+        assertNull(emp1.getSalary());
+        assertEquals(new Integer(2), emp2.getId());
+        assertEquals("bbb", emp2.getName());
+        assertNull(emp2.getSalary());
+    }
+
     protected class MySelectQuery implements SelectQuery {
 
         @Override
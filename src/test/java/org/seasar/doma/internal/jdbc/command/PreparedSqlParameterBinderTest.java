@@ -15,6 +15,10 @@
  */
 package org.seasar.doma.internal.jdbc.command;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -56,6 +60,34 @@ public class PreparedSqlParameterBinderTest extends TestCase {
         assertEquals(new BigDecimal(10), bindValue.getValue());
     }
 
+    public void testBind_stream() throws Exception {
+        InputStream inputStream = new ByteArrayInputStream(new byte[] { 1 });
+        Reader reader = new StringReader("aaa");
+        MockPreparedStatement preparedStatement = new MockPreparedStatement();
+        List<BasicInParameter<?>> parameters = new ArrayList<BasicInParameter<?>>();
+        parameters.add(new BasicInParameter<InputStream>(
+                () -> new org.seasar.doma.wrapper.InputStreamWrapper(
+                        inputStream)));
+        parameters.add(new BasicInParameter<Reader>(
+                () -> new org.seasar.doma.wrapper.ReaderWrapper(reader)));
+        parameters.add(new BasicInParameter<InputStream>(
+                () -> new org.seasar.doma.wrapper.InputStreamWrapper()));
+        PreparedSqlParameterBinder binder = new PreparedSqlParameterBinder(
+                new MyQuery());
+        binder.bind(preparedStatement, parameters);
+
+        List<BindValue> bindValues = preparedStatement.bindValues;
+        assertEquals(3, bindValues.size());
+        BindValue bindValue = bindValues.get(0);
+        assertEquals("InputStream", bindValue.getTypeName());
+        assertSame(inputStream, bindValue.getValue());
+        bindValue = bindValues.get(1);
+        assertEquals("Reader", bindValue.getTypeName());
+        assertSame(reader, bindValue.getValue());
+        bindValue = bindValues.get(2);
+        assertNull(bindValue.getValue());
+    }
+
     protected class MyQuery implements Query {
 
         @Override
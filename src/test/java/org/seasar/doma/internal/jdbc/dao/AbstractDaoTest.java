@@ -19,13 +19,23 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.sql.DataSource;
 
 import junit.framework.TestCase;
 
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.InMemoryQueryMetrics;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.query.SqlSelectQuery;
 
 /**
  * @author backpaper0
@@ -44,6 +54,60 @@ public class AbstractDaoTest extends TestCase {
         }
     }
 
+    public void testSupplyAsync() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Config config = new MockConfig() {
+
+                @Override
+                public Executor getQueryExecutor() {
+                    return executorService;
+                }
+            };
+            AbstractDao dao = new AbstractDao(config) {
+            };
+            Thread caller = Thread.currentThread();
+            CompletableFuture<Thread> future = dao.supplyAsync(Thread::currentThread);
+            assertNotSame(caller, future.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    public void testStatementCacheSize() throws Exception {
+        Config config = new MockConfig() {
+
+            @Override
+            public int getStatementCacheSize() {
+                return 16;
+            }
+        };
+        AbstractDao dao = new AbstractDao(config) {
+        };
+        assertEquals(16, dao.getConfig().getStatementCacheSize());
+    }
+
+    public void testPrepare_queryMetrics() throws Exception {
+        InMemoryQueryMetrics metrics = new InMemoryQueryMetrics();
+        MockConfig config = new MockConfig();
+        config.setQueryMetrics(metrics);
+        AbstractDao dao = new AbstractDao(config) {
+        };
+        SqlSelectQuery query = new SqlSelectQuery();
+        query.setConfig(dao.getConfig());
+        query.setSqlNode(new SqlParser("select * from emp").parse());
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        dao.prepare(query);
+
+        List<InMemoryQueryMetrics.MethodSnapshot> snapshots = metrics
+                .snapshot();
+        assertEquals(1, snapshots.size());
+        assertEquals("aaa", snapshots.get(0).getClassName());
+        assertEquals(1, snapshots.get(0).getPrepare().getCount());
+    }
+
     public void testConstructorParameter2() throws Exception {
         Config config = null;
         Connection connection = mock(Connection.class);
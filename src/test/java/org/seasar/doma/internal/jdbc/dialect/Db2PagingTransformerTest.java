@@ -17,11 +17,14 @@ package org.seasar.doma.internal.jdbc.dialect;
 
 import junit.framework.TestCase;
 
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.internal.jdbc.sql.SqlParser;
 import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.SqlNode;
 
 /**
@@ -31,27 +34,27 @@ import org.seasar.doma.jdbc.SqlNode;
 public class Db2PagingTransformerTest extends TestCase {
 
     public void testOffsetLimit() throws Exception {
-        String expected = "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > 5 and doma_rownumber_ <= 15";
+        String expected = "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > ? and doma_rownumber_ <= ?";
         Db2PagingTransformer transformer = new Db2PagingTransformer(5, 10);
         SqlParser parser = new SqlParser(
                 "select emp.id from emp order by emp.id");
         SqlNode sqlNode = transformer.transform(parser.parse());
-        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
-                new MockConfig(), SqlKind.SELECT, "dummyPath");
-        PreparedSql sql = sqlBuilder.build(sqlNode);
+        PreparedSql sql = build(sqlNode, 5, 10);
         assertEquals(expected, sql.getRawSql());
+        assertEquals("select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > 5 and doma_rownumber_ <= 15",
+                sql.getFormattedSql());
     }
 
     public void testOffsetOnly() throws Exception {
-        String expected = "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > 5";
+        String expected = "select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > ?";
         Db2PagingTransformer transformer = new Db2PagingTransformer(5, -1);
         SqlParser parser = new SqlParser(
                 "select emp.id from emp order by emp.id");
         SqlNode sqlNode = transformer.transform(parser.parse());
-        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
-                new MockConfig(), SqlKind.SELECT, "dummyPath");
-        PreparedSql sql = sqlBuilder.build(sqlNode);
+        PreparedSql sql = build(sqlNode, 5, -1);
         assertEquals(expected, sql.getRawSql());
+        assertEquals("select * from ( select temp_.*, row_number() over( order by temp_.id ) as doma_rownumber_ from ( select emp.id from emp ) as temp_ ) as temp2_ where doma_rownumber_ > 5",
+                sql.getFormattedSql());
     }
 
     public void testLimitOnly() throws Exception {
@@ -60,9 +63,21 @@ public class Db2PagingTransformerTest extends TestCase {
         SqlParser parser = new SqlParser(
                 "select emp.id from emp order by emp.id");
         SqlNode sqlNode = transformer.transform(parser.parse());
-        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
-                new MockConfig(), SqlKind.SELECT, "dummyPath");
-        PreparedSql sql = sqlBuilder.build(sqlNode);
+        PreparedSql sql = build(sqlNode, -1, 10);
         assertEquals(expected, sql.getRawSql());
+        assertEquals("select emp.id from emp order by emp.id fetch first 10 rows only",
+                sql.getFormattedSql());
+    }
+
+    protected PreparedSql build(SqlNode sqlNode, long offset, long limit) {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("__offset", new Value(Long.class, offset));
+        evaluator.add("__limit", new Value(Long.class, limit));
+        evaluator.add("__offsetLimit", new Value(Long.class, Math.max(offset,
+                0) + limit));
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath", evaluator,
+                SqlLogType.FORMATTED);
+        return sqlBuilder.build(sqlNode);
     }
 }
@@ -17,11 +17,14 @@ package org.seasar.doma.internal.jdbc.dialect;
 
 import junit.framework.TestCase;
 
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.internal.jdbc.sql.SqlParser;
 import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.SqlNode;
 
 /**
@@ -31,51 +34,63 @@ import org.seasar.doma.jdbc.SqlNode;
 public class H212126PagingTransformerTest extends TestCase {
 
     public void testOffsetLimit() throws Exception {
-        String expected = "select * from emp order by emp.id limit 10 offset 5";
+        String expected = "select * from emp order by emp.id limit ? offset ?";
         H212126PagingTransformer transformer = new H212126PagingTransformer(5,
                 10);
         SqlParser parser = new SqlParser("select * from emp order by emp.id");
         SqlNode sqlNode = transformer.transform(parser.parse());
-        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
-                new MockConfig(), SqlKind.SELECT, "dummyPath");
-        PreparedSql sql = sqlBuilder.build(sqlNode);
+        PreparedSql sql = build(sqlNode, 5, 10);
         assertEquals(expected, sql.getRawSql());
+        assertEquals("select * from emp order by emp.id limit 10 offset 5",
+                sql.getFormattedSql());
     }
 
     public void testOffsetLimit_forUpdate() throws Exception {
-        String expected = "select * from emp order by emp.id  limit 10 offset 5 for update";
+        String expected = "select * from emp order by emp.id  limit ? offset ? for update";
         H212126PagingTransformer transformer = new H212126PagingTransformer(5,
                 10);
         SqlParser parser = new SqlParser(
                 "select * from emp order by emp.id for update");
         SqlNode sqlNode = transformer.transform(parser.parse());
-        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
-                new MockConfig(), SqlKind.SELECT, "dummyPath");
-        PreparedSql sql = sqlBuilder.build(sqlNode);
+        PreparedSql sql = build(sqlNode, 5, 10);
         assertEquals(expected, sql.getRawSql());
+        assertEquals("select * from emp order by emp.id  limit 10 offset 5 for update",
+                sql.getFormattedSql());
     }
 
     public void testOffsetOnly() throws Exception {
-        String expected = "select * from emp order by emp.id limit 0 offset 5";
+        String expected = "select * from emp order by emp.id limit 0 offset ?";
         H212126PagingTransformer transformer = new H212126PagingTransformer(5,
                 -1);
         SqlParser parser = new SqlParser("select * from emp order by emp.id");
         SqlNode sqlNode = transformer.transform(parser.parse());
-        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
-                new MockConfig(), SqlKind.SELECT, "dummyPath");
-        PreparedSql sql = sqlBuilder.build(sqlNode);
+        PreparedSql sql = build(sqlNode, 5, -1);
         assertEquals(expected, sql.getRawSql());
+        assertEquals("select * from emp order by emp.id limit 0 offset 5",
+                sql.getFormattedSql());
     }
 
     public void testLimitOnly() throws Exception {
-        String expected = "select * from emp order by emp.id limit 10";
+        String expected = "select * from emp order by emp.id limit ?";
         H212126PagingTransformer transformer = new H212126PagingTransformer(-1,
                 10);
         SqlParser parser = new SqlParser("select * from emp order by emp.id");
         SqlNode sqlNode = transformer.transform(parser.parse());
-        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
-                new MockConfig(), SqlKind.SELECT, "dummyPath");
-        PreparedSql sql = sqlBuilder.build(sqlNode);
+        PreparedSql sql = build(sqlNode, -1, 10);
         assertEquals(expected, sql.getRawSql());
+        assertEquals("select * from emp order by emp.id limit 10",
+                sql.getFormattedSql());
+    }
+
+    protected PreparedSql build(SqlNode sqlNode, long offset, long limit) {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("__offset", new Value(Long.class, offset));
+        evaluator.add("__limit", new Value(Long.class, limit));
+        evaluator.add("__offsetLimit", new Value(Long.class, Math.max(offset,
+                0) + limit));
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath", evaluator,
+                SqlLogType.FORMATTED);
+        return sqlBuilder.build(sqlNode);
     }
 }
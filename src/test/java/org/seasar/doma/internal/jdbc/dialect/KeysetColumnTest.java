@@ -0,0 +1,78 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.message.Message;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class KeysetColumnTest extends TestCase {
+
+    public void testResolveLabels() throws Exception {
+        String[] labels = resolveLabels("select e.id, e.\"NAME\" from emp e order by e.\"NAME\", e.id");
+        assertEquals(Arrays.asList("NAME", "id"), Arrays.asList(labels));
+    }
+
+    public void testResolveLabels_alias() throws Exception {
+        String[] labels = resolveLabels("select e.id as emp_id, e.salary s from emp e order by e.salary desc, e.id");
+        assertEquals(Arrays.asList("s", "emp_id"), Arrays.asList(labels));
+    }
+
+    public void testResolveLabels_asterisk() throws Exception {
+        String[] labels = resolveLabels("select e.* from emp e order by e.id");
+        assertEquals(Arrays.asList("id"), Arrays.asList(labels));
+    }
+
+    public void testResolveLabels_distinct() throws Exception {
+        String[] labels = resolveLabels("select distinct e.id from emp e order by e.id");
+        assertEquals(Arrays.asList("id"), Arrays.asList(labels));
+    }
+
+    public void testResolveLabels_expression() throws Exception {
+        String[] labels = resolveLabels("select e.name, lower(e.code) from emp e order by e.code");
+        assertEquals(Arrays.asList("code"), Arrays.asList(labels));
+    }
+
+    public void testResolveLabels_notSelected() throws Exception {
+        try {
+            resolveLabels("select e.name from emp e order by e.id");
+            fail();
+        } catch (JdbcException expected) {
+            assertEquals(Message.DOMA2226, expected.getMessageResource());
+        }
+    }
+
+    public void testResolveLabels_aliasedToOtherName() throws Exception {
+        try {
+            resolveLabels("select e.name, d.id as dept_id from emp e, dept d order by e.id");
+            fail();
+        } catch (JdbcException expected) {
+            assertEquals(Message.DOMA2226, expected.getMessageResource());
+        }
+    }
+
+    private String[] resolveLabels(String sql) {
+        return KeysetColumn.resolveLabels(new SqlParser(sql).parse());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class PostgresKeysetTransformerTest extends TestCase {
+
+    public void testRowValue() throws Exception {
+        String expected = "select * from emp where ((salary, id) > (?, ?)) order by salary, id";
+        PostgresKeysetTransformer transformer = new PostgresKeysetTransformer(
+                2);
+        SqlParser parser = new SqlParser(
+                "select * from emp order by salary, id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        PreparedSql sql = build(sqlNode, 1000, 10);
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(2, sql.getParameters().size());
+    }
+
+    public void testMixedDirections() throws Exception {
+        String expected = "select * from emp where (salary <= ? and (salary < ? or salary = ? and id > ?)) order by salary desc, id asc";
+        PostgresKeysetTransformer transformer = new PostgresKeysetTransformer(
+                2);
+        SqlParser parser = new SqlParser(
+                "select * from emp order by salary desc, id asc");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        PreparedSql sql = build(sqlNode, 1000, 10);
+        assertEquals(expected, sql.getRawSql());
+    }
+
+    protected PreparedSql build(SqlNode sqlNode, Object... keys) {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        for (int i = 0; i < keys.length; i++) {
+            evaluator.add("__keyset" + i, new Value(keys[i].getClass(),
+                    keys[i]));
+        }
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath", evaluator,
+                SqlLogType.FORMATTED);
+        return sqlBuilder.build(sqlNode);
+    }
+}
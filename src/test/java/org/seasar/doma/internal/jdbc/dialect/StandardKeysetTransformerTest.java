@@ -0,0 +1,135 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.expr.ExpressionEvaluator;
+import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.JdbcException;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.SqlNode;
+import org.seasar.doma.message.Message;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class StandardKeysetTransformerTest extends TestCase {
+
+    public void testSingleColumn() throws Exception {
+        String expected = "select emp.id from emp where (emp.id > ?) order by emp.id";
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                1);
+        SqlParser parser = new SqlParser(
+                "select emp.id from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        PreparedSql sql = build(sqlNode, 10);
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(1, sql.getParameters().size());
+        assertEquals(10, sql.getParameters().get(0).getWrapper().get());
+    }
+
+    public void testMultipleColumns() throws Exception {
+        String expected = "select * from emp where (salary <= ? and (salary < ? or salary = ? and id > ?)) order by salary desc, id";
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                2);
+        SqlParser parser = new SqlParser(
+                "select * from emp order by salary desc, id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        PreparedSql sql = build(sqlNode, 1000, 10);
+        assertEquals(expected, sql.getRawSql());
+        assertEquals(4, sql.getParameters().size());
+        assertEquals(1000, sql.getParameters().get(0).getWrapper().get());
+        assertEquals(10, sql.getParameters().get(3).getWrapper().get());
+    }
+
+    public void testWhere() throws Exception {
+        String expected = "select * from emp where ( name = 'a' ) and (id > ?) order by id";
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                1);
+        SqlParser parser = new SqlParser(
+                "select * from emp where name = 'a' order by id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        PreparedSql sql = build(sqlNode, 10);
+        assertEquals(expected, sql.getRawSql());
+    }
+
+    public void testWhere_conditionsRemoved() throws Exception {
+        String expected = "select * from emp where   (id > ?) order by id";
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                1);
+        SqlParser parser = new SqlParser(
+                "select * from emp where /*%if false*/name = 'a'/*%end*/ order by id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        PreparedSql sql = build(sqlNode, 10);
+        assertEquals(expected, sql.getRawSql());
+    }
+
+    public void testKeyCountUnmatched() throws Exception {
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                2);
+        SqlParser parser = new SqlParser("select * from emp order by id");
+        try {
+            transformer.transform(parser.parse());
+            fail();
+        } catch (JdbcException expected) {
+            assertEquals(Message.DOMA2225, expected.getMessageResource());
+        }
+    }
+
+    public void testOrderByClauseUnspecified() throws Exception {
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                1);
+        SqlParser parser = new SqlParser("select * from emp");
+        try {
+            transformer.transform(parser.parse());
+            fail();
+        } catch (JdbcException expected) {
+            assertEquals(Message.DOMA2201, expected.getMessageResource());
+        }
+    }
+
+    public void testOrderByExpression() throws Exception {
+        StandardKeysetTransformer transformer = new StandardKeysetTransformer(
+                1);
+        SqlParser parser = new SqlParser(
+                "select * from emp order by lower(name)");
+        try {
+            transformer.transform(parser.parse());
+            fail();
+        } catch (JdbcException expected) {
+            assertEquals(Message.DOMA2224, expected.getMessageResource());
+        }
+    }
+
+    protected PreparedSql build(SqlNode sqlNode, Object... keys) {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        for (int i = 0; i < keys.length; i++) {
+            evaluator.add("__keyset" + i, new Value(keys[i].getClass(),
+                    keys[i]));
+        }
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath", evaluator,
+                SqlLogType.FORMATTED);
+        return sqlBuilder.build(sqlNode);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.dialect;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.NodePreparedSqlBuilder;
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.jdbc.SqlKind;
+import org.seasar.doma.jdbc.SqlNode;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class WindowCountCalculatingTransformerTest extends TestCase {
+
+    public void test() throws Exception {
+        String expected = "select emp.id, emp.name , count(*) over() as doma_count_ from emp order by emp.id";
+        WindowCountCalculatingTransformer transformer = new WindowCountCalculatingTransformer();
+        SqlParser parser = new SqlParser(
+                "select emp.id, emp.name from emp order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode);
+        assertEquals(expected, sql.getRawSql());
+    }
+
+    public void testAsterisk() throws Exception {
+        String expected = "select temp_.*, count(*) over() as doma_count_ from ( select * from emp where emp.id > 10 ) temp_ order by temp_.id";
+        WindowCountCalculatingTransformer transformer = new WindowCountCalculatingTransformer();
+        SqlParser parser = new SqlParser(
+                "select * from emp where emp.id > 10 order by emp.id");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode);
+        assertEquals(expected, sql.getRawSql());
+    }
+
+    public void testDistinct() throws Exception {
+        String expected = "select temp_.*, count(*) over() as doma_count_ from ( select distinct emp.name from emp ) temp_ order by temp_.name";
+        WindowCountCalculatingTransformer transformer = new WindowCountCalculatingTransformer();
+        SqlParser parser = new SqlParser(
+                "select distinct emp.name from emp order by emp.name");
+        SqlNode sqlNode = transformer.transform(parser.parse());
+        NodePreparedSqlBuilder sqlBuilder = new NodePreparedSqlBuilder(
+                new MockConfig(), SqlKind.SELECT, "dummyPath");
+        PreparedSql sql = sqlBuilder.build(sqlNode);
+        assertEquals(expected, sql.getRawSql());
+    }
+}
@@ -20,9 +20,11 @@ import javax.sql.DataSource;
 import org.seasar.doma.jdbc.ClassHelper;
 import org.seasar.doma.jdbc.CommandImplementors;
 import org.seasar.doma.jdbc.Config;
+import org.seasar.doma.jdbc.ConfigSupport;
 import org.seasar.doma.jdbc.GreedyCacheSqlFileRepository;
 import org.seasar.doma.jdbc.JdbcLogger;
 import org.seasar.doma.jdbc.QueryImplementors;
+import org.seasar.doma.jdbc.QueryMetrics;
 import org.seasar.doma.jdbc.RequiresNewController;
 import org.seasar.doma.jdbc.SqlFileRepository;
 import org.seasar.doma.jdbc.SqlLogType;
@@ -58,6 +60,8 @@ public class MockConfig implements Config {
 
     protected SqlLogType exceptionSqlLogType = SqlLogType.FORMATTED;
 
+    protected QueryMetrics queryMetrics = ConfigSupport.defaultQueryMetrics;
+
     @Override
     public DataSource getDataSource() {
         return dataSource;
@@ -128,6 +132,11 @@ public class MockConfig implements Config {
         return 10;
     }
 
+    @Override
+    public QueryMetrics getQueryMetrics() {
+        return queryMetrics;
+    }
+
     public MockDataSource getMockDataSource() {
         return dataSource;
     }
@@ -140,4 +149,8 @@ public class MockConfig implements Config {
         this.dialect = dialect;
     }
 
+    public void setQueryMetrics(QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
 }
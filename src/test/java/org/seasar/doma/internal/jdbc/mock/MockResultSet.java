@@ -117,8 +117,12 @@ public class MockResultSet extends MockWrapper implements ResultSet {
 
     @Override
     public int findColumn(String columnLabel) throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            if (metaData.getColumnLabel(i).equalsIgnoreCase(columnLabel)) {
+                return i;
+            }
+        }
+        throw new SQLException("column not found: " + columnLabel);
     }
 
     @Override
@@ -183,8 +187,7 @@ public class MockResultSet extends MockWrapper implements ResultSet {
 
     @Override
     public InputStream getBinaryStream(int columnIndex) throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return null;
+        return (InputStream) getObject(columnIndex);
     }
 
     @Override
@@ -243,8 +246,7 @@ public class MockResultSet extends MockWrapper implements ResultSet {
 
     @Override
     public Reader getCharacterStream(int columnIndex) throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return null;
+        return (Reader) getObject(columnIndex);
     }
 
     @Override
@@ -375,8 +377,7 @@ public class MockResultSet extends MockWrapper implements ResultSet {
 
     @Override
     public long getLong(String columnLabel) throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        return getLong(findColumn(columnLabel));
     }
 
     @Override
@@ -452,8 +453,7 @@ public class MockResultSet extends MockWrapper implements ResultSet {
 
     @Override
     public Object getObject(String columnLabel) throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return null;
+        return getObject(findColumn(columnLabel));
     }
 
     @Override
@@ -37,6 +37,12 @@ public class MockStatement extends MockWrapper implements Statement {
 
     public int updatedRows = 1;
 
+    public int fetchSize;
+
+    public int maxRows;
+
+    public int queryTimeout;
+
     @Override
     public void addBatch(String sql) throws SQLException {
         AssertionUtil.notYetImplemented();
@@ -51,8 +57,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void clearBatch() throws SQLException {
-        AssertionUtil.notYetImplemented();
-
+        addBatchCount = 0;
     }
 
     @Override
@@ -95,6 +100,7 @@ public class MockStatement extends MockWrapper implements Statement {
     public int[] executeBatch() throws SQLException {
         int[] results = new int[addBatchCount];
         Arrays.fill(results, updatedRows);
+        addBatchCount = 0;
         return results;
     }
 
@@ -145,8 +151,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public int getFetchSize() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        return fetchSize;
     }
 
     @Override
@@ -163,8 +168,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public int getMaxRows() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        return maxRows;
     }
 
     @Override
@@ -181,8 +185,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public int getQueryTimeout() throws SQLException {
-        AssertionUtil.notYetImplemented();
-        return 0;
+        return queryTimeout;
     }
 
     @Override
@@ -252,8 +255,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void setFetchSize(int rows) throws SQLException {
-        AssertionUtil.notYetImplemented();
-
+        fetchSize = rows;
     }
 
     @Override
@@ -264,8 +266,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void setMaxRows(int max) throws SQLException {
-        AssertionUtil.notYetImplemented();
-
+        maxRows = max;
     }
 
     @Override
@@ -276,6 +277,7 @@ public class MockStatement extends MockWrapper implements Statement {
 
     @Override
     public void setQueryTimeout(int seconds) throws SQLException {
+        queryTimeout = seconds;
     }
 
     @SuppressWarnings("all")
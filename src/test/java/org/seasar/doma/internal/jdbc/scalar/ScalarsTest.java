@@ -15,6 +15,10 @@
  */
 package org.seasar.doma.internal.jdbc.scalar;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.sql.Array;
@@ -27,12 +31,16 @@ import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Arrays;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import junit.framework.TestCase;
 
 import org.seasar.doma.jdbc.ClassHelper;
+import org.seasar.doma.jdbc.domain.AbstractDomainType;
+import org.seasar.doma.message.Message;
 import org.seasar.doma.wrapper.EnumWrapper;
 import org.seasar.doma.wrapper.IntegerWrapper;
 import org.seasar.doma.wrapper.StringWrapper;
@@ -95,6 +103,10 @@ public class ScalarsTest extends TestCase {
         assertNotNull(Scalars.wrap(null, Blob.class, false, classHelper));
         assertNotNull(Scalars.wrap(null, Clob.class, false, classHelper));
         assertNotNull(Scalars.wrap(null, NClob.class, false, classHelper));
+        assertNotNull(Scalars.wrap(new ByteArrayInputStream(new byte[] {}),
+                InputStream.class, false, classHelper));
+        assertNotNull(Scalars.wrap(new StringReader(""), Reader.class, false,
+                classHelper));
     }
 
     public void testWrapBasic_primitiveType() throws Exception {
@@ -289,7 +301,112 @@ public class ScalarsTest extends TestCase {
         assertEquals(null, wrapper.get());
     }
 
+    public void testWrapDomain_repeated() throws Exception {
+        AtomicInteger count = new AtomicInteger();
+        ClassHelper countingClassHelper = new ClassHelper() {
+
+            @Override
+            public <T> Class<T> forName(String className) throws Exception {
+                count.incrementAndGet();
+                return ClassHelper.super.forName(className);
+            }
+        };
+        for (String value : Arrays.asList("111", "222", "333")) {
+            Supplier<Scalar<?, ?>> supplier = Scalars.wrap(new PhoneNumber(
+                    value), PhoneNumber.class, false, countingClassHelper);
+            Scalar<?, ?> scalar = supplier.get();
+            assertEquals(value, scalar.getWrapper().get());
+        }
+        assertTrue(count.get() <= 1);
+    }
+
+    public void testWrapExternalDomain_classHelper() throws Exception {
+        try {
+            Scalars.wrap(new MyExternalDomain("aaa"), MyExternalDomain.class,
+                    false, classHelper);
+            fail();
+        } catch (ScalarException expected) {
+            assertEquals(Message.DOMA1007, expected.getMessageResource());
+        }
+        ClassHelper externalDomainClassHelper = new ClassHelper() {
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public <T> Class<T> forName(String className) throws Exception {
+                return (Class<T>) MyExternalDomainType.class;
+            }
+        };
+        Scalar<?, ?> scalar = Scalars.wrap(new MyExternalDomain("aaa"),
+                MyExternalDomain.class, false, externalDomainClassHelper)
+                .get();
+        assertEquals("aaa", scalar.getWrapper().get());
+    }
+
+    public void testWrapBasic_repeated() throws Exception {
+        Scalar<?, ?> scalar1 = Scalars.wrap("aaa", String.class, false,
+                classHelper).get();
+        Scalar<?, ?> scalar2 = Scalars.wrap("bbb", String.class, false,
+                classHelper).get();
+        assertEquals("aaa", scalar1.get());
+        assertEquals("bbb", scalar2.get());
+    }
+
+    public void testWrap_unsupported() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            try {
+                Scalars.wrap(new StringBuilder(), StringBuilder.class, false,
+                        classHelper);
+                fail();
+            } catch (ScalarException expected) {
+                assertEquals(Message.DOMA1007, expected.getMessageResource());
+            }
+        }
+    }
+
     public enum MyEnum {
         AAA, BBB, CCC
     }
+
+    public static class MyExternalDomain {
+
+        private final String value;
+
+        public MyExternalDomain(String value) {
+            this.value = value;
+        }
+    }
+
+    public static class MyExternalDomainType extends
+            AbstractDomainType<String, MyExternalDomain> {
+
+        private static final MyExternalDomainType singleton = new MyExternalDomainType();
+
+        private MyExternalDomainType() {
+            super(() -> new StringWrapper());
+        }
+
+        @Override
+        protected MyExternalDomain newDomain(String value) {
+            return new MyExternalDomain(value);
+        }
+
+        @Override
+        protected String getBasicValue(MyExternalDomain domain) {
+            return domain == null ? null : domain.value;
+        }
+
+        @Override
+        public Class<String> getBasicClass() {
+            return String.class;
+        }
+
+        @Override
+        public Class<MyExternalDomain> getDomainClass() {
+            return MyExternalDomain.class;
+        }
+
+        public static MyExternalDomainType getSingletonInternal() {
+            return singleton;
+        }
+    }
 }
@@ -21,6 +21,7 @@ import junit.framework.TestCase;
 
 import org.seasar.doma.internal.expr.ExpressionEvaluator;
 import org.seasar.doma.internal.expr.Value;
+import org.seasar.doma.internal.expr.node.ExpressionNode;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
 import org.seasar.doma.internal.jdbc.sql.node.BindVariableNode;
@@ -132,6 +133,48 @@ public class NodePreparedSqlBuilderTest extends TestCase {
         assertEquals("select * from aaa where bbb = ccc", sql.getRawSql());
     }
 
+    public void testIfNode_compiledExpression() throws Exception {
+        SelectClauseNode select = new SelectClauseNode("select");
+        select.appendNode(OtherNode.of(" * "));
+        FromClauseNode from = new FromClauseNode("from");
+        from.appendNode(WhitespaceNode.of(" "));
+        from.appendNode(new WordNode("aaa"));
+        from.appendNode(WhitespaceNode.of(" "));
+        WhereClauseNode where = new WhereClauseNode("where");
+        where.appendNode(WhitespaceNode.of(" "));
+        IfNode ifNode = new IfNode(location, "flag", "/*if flag*/");
+        ifNode.appendNode(new WordNode("bbb"));
+        ifNode.appendNode(OtherNode.of(" = "));
+        ifNode.appendNode(new WordNode("ccc"));
+        IfBlockNode ifBlockNode = new IfBlockNode();
+        ifBlockNode.setIfNode(ifNode);
+        ifBlockNode.setEndNode(new EndNode("/*end*/"));
+        where.appendNode(ifBlockNode);
+
+        SelectStatementNode statement = new SelectStatementNode();
+        statement.setSelectClauseNode(select);
+        statement.setFromClauseNode(from);
+        statement.setWhereClauseNode(where);
+
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("flag", new Value(boolean.class, true));
+        NodePreparedSqlBuilder builder = new NodePreparedSqlBuilder(config,
+                SqlKind.SELECT, "dummyPath", evaluator, SqlLogType.FORMATTED);
+        PreparedSql sql = builder.build(statement);
+        assertEquals("select * from aaa where bbb = ccc", sql.getRawSql());
+        ExpressionNode expressionNode = ifNode.getCompiledExpression()
+                .getExpressionNode();
+
+        evaluator = new ExpressionEvaluator();
+        evaluator.add("flag", new Value(boolean.class, false));
+        builder = new NodePreparedSqlBuilder(config, SqlKind.SELECT,
+                "dummyPath", evaluator, SqlLogType.FORMATTED);
+        sql = builder.build(statement);
+        assertEquals("select * from aaa", sql.getRawSql());
+        assertSame(expressionNode, ifNode.getCompiledExpression()
+                .getExpressionNode());
+    }
+
     public void testIfNode_false() throws Exception {
         SelectClauseNode select = new SelectClauseNode("select");
         select.appendNode(OtherNode.of(" * "));
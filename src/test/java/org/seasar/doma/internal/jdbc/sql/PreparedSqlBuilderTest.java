@@ -61,4 +61,27 @@ public class PreparedSqlBuilderTest extends TestCase {
         PreparedSql sql = builder.build();
         assertEquals("select * from aaa", sql.toString());
     }
+
+    public void testFormattedSql() throws Exception {
+        PreparedSqlBuilder builder = new PreparedSqlBuilder(config,
+                SqlKind.SELECT, SqlLogType.FORMATTED);
+        builder.appendSql("select * from aaa where name = '?' and id in (");
+        Wrapper<String> stringWrapper = new StringWrapper("hoge");
+        builder.appendParameter(new BasicScalar<String>(() -> stringWrapper,
+                false));
+        builder.appendSql(", ");
+        Wrapper<BigDecimal> bigDecimalWrapper = new BigDecimalWrapper(
+                new BigDecimal(100));
+        builder.appendParameter(new BasicScalar<BigDecimal>(
+                () -> bigDecimalWrapper, false));
+        builder.appendSql(", ");
+        builder.cutBackSql(2);
+        builder.appendSql(")");
+        PreparedSql sql = builder.build();
+        assertEquals("select * from aaa where name = '?' and id in (?, ?)",
+                sql.getRawSql());
+        assertEquals(
+                "select * from aaa where name = '?' and id in ('hoge', 100)",
+                sql.getFormattedSql());
+    }
 }
@@ -63,6 +63,24 @@ public class SqlParserTest extends TestCase {
                 .getWrapper().get());
     }
 
+    public void testBindVariable_formattedSql() throws Exception {
+        ExpressionEvaluator evaluator = new ExpressionEvaluator();
+        evaluator.add("name", new Value(String.class, "hoge"));
+        evaluator.add("salary", new Value(BigDecimal.class, new BigDecimal(
+                10000)));
+        String testSql = "select '?' from aaa where /*%if true*/ename = /*name*/'aaa'/*%end*/ and (sal = /*salary*/-2000 or sal is null)";
+        SqlParser parser = new SqlParser(testSql);
+        SqlNode sqlNode = parser.parse();
+        PreparedSql sql = new NodePreparedSqlBuilder(config, SqlKind.SELECT,
+                "dummyPath", evaluator, SqlLogType.FORMATTED).build(sqlNode);
+        assertEquals(
+                "select '?' from aaa where ename = ? and (sal = ? or sal is null)",
+                sql.getRawSql());
+        assertEquals(
+                "select '?' from aaa where ename = 'hoge' and (sal = 10000 or sal is null)",
+                sql.getFormattedSql());
+    }
+
     public void testBindVariable_domain() throws Exception {
         ExpressionEvaluator evaluator = new ExpressionEvaluator();
         evaluator.add("phone", new Value(PhoneNumber.class, new PhoneNumber(
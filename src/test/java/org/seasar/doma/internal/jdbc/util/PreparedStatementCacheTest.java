@@ -0,0 +1,128 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.jdbc.util;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class PreparedStatementCacheTest extends TestCase {
+
+    private final List<MockPreparedStatement> statements = new ArrayList<>();
+
+    private final MockConnection connection = new MockConnection() {
+
+        @Override
+        public PreparedStatement prepareStatement(String sql)
+                throws SQLException {
+            MockPreparedStatement statement = new MockPreparedStatement();
+            statement.sql = sql;
+            statements.add(statement);
+            return statement;
+        }
+
+    };
+
+    public void testPrepareStatement_hit() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(connection,
+                2);
+        PreparedStatement statement = cache.prepareStatement("select 1",
+                false);
+        statement.setString(1, "aaa");
+        statement.close();
+        assertTrue(statement.isClosed());
+        assertFalse(statements.get(0).closed);
+        assertTrue(statements.get(0).bindValues.isEmpty());
+
+        PreparedStatement statement2 = cache.prepareStatement("select 1",
+                false);
+        assertSame(statement, statement2);
+        assertFalse(statement2.isClosed());
+        assertEquals(1, statements.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    public void testPrepareStatement_inUse() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(connection,
+                2);
+        PreparedStatement statement = cache.prepareStatement("select 1",
+                false);
+        PreparedStatement statement2 = cache.prepareStatement("select 1",
+                false);
+        assertNotSame(statement, statement2);
+        assertSame(statements.get(1), statement2);
+        statement2.close();
+        assertTrue(statements.get(1).closed);
+        statement.close();
+        assertFalse(statements.get(0).closed);
+        assertEquals(0, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    public void testPrepareStatement_evict() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(connection,
+                2);
+        cache.prepareStatement("select 1", false).close();
+        cache.prepareStatement("select 2", false).close();
+        cache.prepareStatement("select 1", false).close();
+        cache.prepareStatement("select 3", false).close();
+        assertEquals(2, cache.size());
+        assertFalse(statements.get(0).closed);
+        assertTrue(statements.get(1).closed);
+        assertFalse(statements.get(2).closed);
+    }
+
+    public void testRelease_resetOptions() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(connection,
+                2);
+        PreparedStatement statement = cache.prepareStatement("select 1",
+                false);
+        statement.setMaxRows(10);
+        statement.setFetchSize(20);
+        statement.setQueryTimeout(30);
+        statement.close();
+        MockPreparedStatement mock = statements.get(0);
+        assertEquals(0, mock.maxRows);
+        assertEquals(0, mock.fetchSize);
+        assertEquals(0, mock.queryTimeout);
+    }
+
+    public void testClose() throws Exception {
+        PreparedStatementCache cache = new PreparedStatementCache(connection,
+                2);
+        cache.prepareStatement("select 1", false).close();
+        PreparedStatement statement = cache.prepareStatement("select 2",
+                false);
+        cache.close();
+        assertTrue(statements.get(0).closed);
+        assertFalse(statements.get(1).closed);
+        statement.close();
+        assertTrue(statements.get(1).closed);
+        assertEquals(0, cache.size());
+    }
+
+}
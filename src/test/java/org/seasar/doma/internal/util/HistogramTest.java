@@ -0,0 +1,62 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.util;
+
+import junit.framework.TestCase;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class HistogramTest extends TestCase {
+
+    public void testIndexOf() throws Exception {
+        for (long value : new long[] { 0, 1, 7, 8, 15, 16, 17, 1000,
+                123456789L, Long.MAX_VALUE }) {
+            int index = Histogram.indexOf(value);
+            assertTrue(value <= Histogram.highestValueOf(index));
+            if (index > 0) {
+                assertTrue(value > Histogram.highestValueOf(index - 1));
+            }
+        }
+    }
+
+    public void testSnapshot() throws Exception {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i * 1000);
+        }
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(100, snapshot.getCount());
+        assertEquals(5050000, snapshot.getSum());
+        assertEquals(100000, snapshot.getMax());
+        assertEquals(50500.0, snapshot.getMean());
+        long p50 = snapshot.getValueAtPercentile(50);
+        assertTrue(p50 >= 50000 && p50 <= 50000 * 9 / 8);
+        long p99 = snapshot.getValueAtPercentile(99);
+        assertTrue(p99 >= 99000 && p99 <= 100000);
+        assertEquals(100000, snapshot.getValueAtPercentile(100));
+    }
+
+    public void testReset() throws Exception {
+        Histogram histogram = new Histogram();
+        histogram.record(10);
+        histogram.reset();
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getValueAtPercentile(50));
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.internal.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import junit.framework.TestCase;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class RingBufferTest extends TestCase {
+
+    public void testCapacity() throws Exception {
+        assertEquals(8, new RingBuffer<String>(5).getCapacity());
+        assertEquals(8, new RingBuffer<String>(8).getCapacity());
+        assertEquals(1, new RingBuffer<String>(1).getCapacity());
+    }
+
+    public void testOfferAndPoll() throws Exception {
+        RingBuffer<String> buffer = new RingBuffer<>(2);
+        assertTrue(buffer.isEmpty());
+        assertTrue(buffer.offer("a"));
+        assertTrue(buffer.offer("b"));
+        assertFalse(buffer.offer("c"));
+        assertEquals(2, buffer.size());
+        assertEquals("a", buffer.poll());
+        assertTrue(buffer.offer("c"));
+        assertEquals("b", buffer.poll());
+        assertEquals("c", buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    public void testConcurrentOffer() throws Exception {
+        RingBuffer<Long> buffer = new RingBuffer<>(64);
+        int producerSize = 4;
+        int count = 10000;
+        CountDownLatch latch = new CountDownLatch(producerSize);
+        for (int i = 0; i < producerSize; i++) {
+            new Thread(() -> {
+                for (long j = 1; j <= count; j++) {
+                    while (!buffer.offer(j)) {
+                        Thread.yield();
+                    }
+                }
+                latch.countDown();
+            }).start();
+        }
+        AtomicLong sum = new AtomicLong();
+        long polled = 0;
+        while (polled < producerSize * count) {
+            Long value = buffer.poll();
+            if (value == null) {
+                Thread.yield();
+                continue;
+            }
+            sum.addAndGet(value);
+            polled++;
+        }
+        latch.await();
+        assertEquals(producerSize * ((long) count * (count + 1) / 2),
+                sum.get());
+        assertTrue(buffer.isEmpty());
+    }
+}
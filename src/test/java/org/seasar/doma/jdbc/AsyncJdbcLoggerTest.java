@@ -0,0 +1,128 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.sql.InParameter;
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class AsyncJdbcLoggerTest extends TestCase {
+
+    public void testLogSql() throws Exception {
+        RecordingJdbcLogger delegate = new RecordingJdbcLogger();
+        PreparedSql sql = new PreparedSql(SqlKind.SELECT, "aaa", "bbb", "ccc",
+                Collections.<InParameter<?>> emptyList(), SqlLogType.FORMATTED);
+        try (AsyncJdbcLogger logger = new AsyncJdbcLogger(delegate)) {
+            logger.logTransactionBegun("ddd", "eee", "fff");
+            logger.logSql("ddd", "eee", sql);
+            logger.flush();
+            assertEquals(2, delegate.messages.size());
+            assertTrue(delegate.threads.stream().allMatch(
+                    t -> t != Thread.currentThread()));
+        }
+    }
+
+    public void testClose() throws Exception {
+        RecordingJdbcLogger delegate = new RecordingJdbcLogger();
+        AsyncJdbcLogger logger = new AsyncJdbcLogger(delegate);
+        for (int i = 0; i < 100; i++) {
+            logger.logTransactionBegun("ddd", "eee", String.valueOf(i));
+        }
+        logger.close();
+        assertEquals(100, delegate.messages.size());
+        logger.logTransactionBegun("ddd", "eee", "fff");
+        assertEquals(101, delegate.messages.size());
+    }
+
+    public void testDrop() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        RecordingJdbcLogger delegate = new RecordingJdbcLogger() {
+
+            @Override
+            protected void log(Level level, String callerClassName,
+                    String callerMethodName, Throwable throwable,
+                    Supplier<String> messageSupplier) {
+                entered.countDown();
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.log(level, callerClassName, callerMethodName,
+                        throwable, messageSupplier);
+            }
+        };
+        try (AsyncJdbcLogger logger = new AsyncJdbcLogger(delegate, 4,
+                AsyncJdbcLogger.OverflowPolicy.DROP)) {
+            logger.logTransactionBegun("ddd", "eee", "0");
+            entered.await();
+            for (int i = 1; i <= 10; i++) {
+                logger.logTransactionBegun("ddd", "eee", String.valueOf(i));
+            }
+            assertEquals(6, logger.getDroppedCount());
+            released.countDown();
+            logger.flush();
+            assertEquals(5, delegate.messages.size());
+        }
+    }
+
+    public void testBlock() throws Exception {
+        RecordingJdbcLogger delegate = new RecordingJdbcLogger();
+        try (AsyncJdbcLogger logger = new AsyncJdbcLogger(delegate, 4,
+                AsyncJdbcLogger.OverflowPolicy.BLOCK)) {
+            for (int i = 0; i < 1000; i++) {
+                logger.logTransactionBegun("ddd", "eee", String.valueOf(i));
+            }
+            logger.flush();
+            assertEquals(0, logger.getDroppedCount());
+            assertEquals(1000, delegate.messages.size());
+        }
+    }
+
+    static class RecordingJdbcLogger extends AbstractJdbcLogger<Level> {
+
+        final List<String> messages = Collections
+                .synchronizedList(new ArrayList<>());
+
+        final List<Thread> threads = Collections
+                .synchronizedList(new ArrayList<>());
+
+        RecordingJdbcLogger() {
+            super(Level.INFO);
+        }
+
+        @Override
+        protected void log(Level level, String callerClassName,
+                String callerMethodName, Throwable throwable,
+                Supplier<String> messageSupplier) {
+            messages.add(messageSupplier.get());
+            threads.add(Thread.currentThread());
+        }
+    }
+}
@@ -16,9 +16,17 @@
 package org.seasar.doma.jdbc;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 
 import junit.framework.TestCase;
 
+import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.apt.dao.DaoExtendsDao;
+import org.seasar.doma.internal.apt.dao.EmpDao;
 import org.seasar.doma.jdbc.dialect.OracleDialect;
 import org.seasar.doma.jdbc.dialect.PostgresDialect;
 import org.seasar.doma.jdbc.dialect.StandardDialect;
@@ -66,4 +74,82 @@ public class GreedyCacheSqlFileRepositoryTest extends TestCase {
         SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
         assertEquals(path, sqlFile.getPath());
     }
+
+    public void testPreload() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        String path = "META-INF/org/seasar/doma/internal/apt/dao/DaoExtendsDao/selectById.sql";
+        GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+        SqlFilePreloadResult result = repository.preload(dialect,
+                DaoExtendsDao.class);
+        assertEquals(1, result.getFileCount());
+        assertEquals(
+                Collections
+                        .singletonList("META-INF/org/seasar/doma/internal/apt/dao/EmpDao/selectByNameAndSalary.sql"),
+                result.getMissingPaths());
+        assertTrue(result.getElapsedNanos() >= 0);
+        SqlFile sqlFile = repository.getSqlFile(method, path, dialect);
+        assertEquals(path, sqlFile.getPath());
+        SqlFilePreloadResult result2 = repository.preload(dialect,
+                DaoExtendsDao.class);
+        assertEquals(0, result2.getFileCount());
+        assertSame(sqlFile, repository.getSqlFile(method, path, dialect));
+    }
+
+    public void testPreload_pool() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            SqlFilePreloadResult result = repository.preload(dialect, pool,
+                    DaoExtendsDao.class, EmpDao.class);
+            assertEquals(1, result.getFileCount());
+            assertEquals(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "META-INF/org/seasar/doma/internal/apt/dao/EmpDao/selectByNameAndSalary.sql",
+                                    "META-INF/org/seasar/doma/internal/apt/dao/EmpDao/selectById.sql")),
+                    new HashSet<>(result.getMissingPaths()));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testPreload_contextClassLoader() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+        ForkJoinPool pool = new ForkJoinPool(1, p -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory
+                    .newThread(p);
+            thread.setContextClassLoader(null);
+            return thread;
+        }, null, false);
+        try {
+            SqlFilePreloadResult result = repository.preload(dialect, pool,
+                    DaoExtendsDao.class);
+            assertEquals(1, result.getFileCount());
+            assertNull(pool.submit(
+                    () -> Thread.currentThread().getContextClassLoader())
+                    .join());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public void testPreload_notDao() throws Exception {
+        StandardDialect dialect = new StandardDialect();
+        GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+        SqlFilePreloadResult result = repository.preload(dialect,
+                String.class);
+        assertEquals(0, result.getFileCount());
+    }
+
+    public void testPreload_nullDialect() throws Exception {
+        GreedyCacheSqlFileRepository repository = new GreedyCacheSqlFileRepository();
+        try {
+            repository.preload(null, DaoExtendsDao.class);
+            fail();
+        } catch (DomaNullPointerException expected) {
+            assertEquals("dialect", expected.getParameterName());
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockDataSource;
+import org.seasar.doma.internal.jdbc.mock.MockStatement;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class PooledDataSourceTest extends TestCase {
+
+    private final List<MockConnection> physicalConnections = new CopyOnWriteArrayList<>();
+
+    private final MockDataSource mockDataSource = new MockDataSource() {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            MockConnection connection = new MockConnection();
+            physicalConnections.add(connection);
+            return connection;
+        }
+    };
+
+    public void testReuse() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.getActiveCount());
+        connection.close();
+        assertEquals(0, dataSource.getActiveCount());
+        assertEquals(1, dataSource.getIdleCount());
+
+        dataSource.getConnection().close();
+        assertEquals(1, physicalConnections.size());
+        assertFalse(physicalConnections.get(0).closed);
+        assertEquals(1, dataSource.getTotalCount());
+        assertEquals(2, dataSource.getBorrowCount());
+    }
+
+    public void testClose_twice() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource, 1);
+        Connection connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+        assertTrue(connection.isClosed());
+        assertEquals(1, dataSource.getIdleCount());
+        try {
+            connection.prepareStatement("select 1");
+            fail();
+        } catch (SQLException expected) {
+            System.out.println(expected.getMessage());
+        }
+    }
+
+    public void testConnectionTimeout() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource, 1);
+        dataSource.setConnectionTimeout(10);
+        Connection connection = dataSource.getConnection();
+        try {
+            dataSource.getConnection();
+            fail();
+        } catch (SQLException expected) {
+            assertTrue(expected.getMessage().startsWith("[DOMA5004]"));
+        }
+        connection.close();
+        dataSource.getConnection().close();
+        assertEquals(1, physicalConnections.size());
+    }
+
+    public void testMaxLifetime() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        dataSource.setMaxLifetime(1);
+        Connection connection = dataSource.getConnection();
+        Thread.sleep(5);
+        connection.close();
+        assertTrue(physicalConnections.get(0).closed);
+        assertEquals(0, dataSource.getIdleCount());
+        assertEquals(0, dataSource.getTotalCount());
+    }
+
+    public void testValidation() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        dataSource.getConnection().close();
+        physicalConnections.get(0).closed = true;
+
+        dataSource.getConnection().close();
+        assertEquals(2, physicalConnections.size());
+        assertEquals(1, dataSource.getTotalCount());
+    }
+
+    public void testValidationSql() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        dataSource.setValidationSql("select 1");
+        dataSource.getConnection().close();
+        dataSource.getConnection().close();
+        assertEquals(1, physicalConnections.size());
+        MockStatement statement = physicalConnections.get(0).statement;
+        assertEquals(5, statement.queryTimeout);
+        assertTrue(statement.closed);
+    }
+
+    public void testReset() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        Connection connection = dataSource.getConnection();
+        connection.setAutoCommit(false);
+        connection.close();
+        MockConnection physicalConnection = physicalConnections.get(0);
+        assertTrue(physicalConnection.rolledback);
+        assertTrue(physicalConnection.autoCommit);
+        assertEquals(1, dataSource.getIdleCount());
+    }
+
+    public void testLeakDetection() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        dataSource.setLeakDetectionThreshold(1);
+        Connection connection = dataSource.getConnection();
+        Thread.sleep(5);
+        dataSource.getConnection().close();
+        assertEquals(0, dataSource.getLeakCount());
+        dataSource.housekeep();
+        dataSource.housekeep();
+        assertEquals(1, dataSource.getLeakCount());
+        connection.close();
+        dataSource.close();
+    }
+
+    public void testMinIdle() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource, 5);
+        dataSource.setMinIdle(3);
+        Connection connection = dataSource.getConnection();
+        assertEquals(1, dataSource.getTotalCount());
+        assertEquals(0, dataSource.getIdleCount());
+        dataSource.housekeep();
+        assertEquals(4, dataSource.getTotalCount());
+        assertEquals(3, dataSource.getIdleCount());
+        connection.close();
+        assertEquals(4, dataSource.getIdleCount());
+        dataSource.close();
+    }
+
+    public void testMinIdle_maxSize() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource, 2);
+        dataSource.setMinIdle(2);
+        Connection connection = dataSource.getConnection();
+        dataSource.housekeep();
+        assertEquals(2, dataSource.getTotalCount());
+        assertEquals(1, dataSource.getIdleCount());
+        connection.close();
+        dataSource.close();
+    }
+
+    public void testHousekeeping() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource, 5);
+        dataSource.setHousekeepingInterval(1);
+        dataSource.setMinIdle(2);
+        Connection connection = dataSource.getConnection();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dataSource.getIdleCount() < 2
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(2, dataSource.getIdleCount());
+        assertEquals(3, dataSource.getTotalCount());
+        dataSource.close();
+        assertTrue(dataSource.housekeeper.isShutdown());
+        connection.close();
+        assertEquals(0, dataSource.getTotalCount());
+    }
+
+    public void testMinIdle_illegal() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource, 5);
+        try {
+            dataSource.setMinIdle(6);
+            fail();
+        } catch (DomaIllegalArgumentException expected) {
+        }
+    }
+
+    public void testClosePool() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        Connection connection1 = dataSource.getConnection();
+        Connection connection2 = dataSource.getConnection();
+        connection1.close();
+        dataSource.close();
+        assertTrue(physicalConnections.get(0).closed);
+        assertFalse(physicalConnections.get(1).closed);
+        try {
+            dataSource.getConnection();
+            fail();
+        } catch (SQLException expected) {
+            assertTrue(expected.getMessage().startsWith("[DOMA5003]"));
+        }
+        connection2.close();
+        assertTrue(physicalConnections.get(1).closed);
+        assertEquals(0, dataSource.getTotalCount());
+    }
+
+    public void testUnwrap() throws Exception {
+        PooledDataSource dataSource = new PooledDataSource(mockDataSource);
+        assertSame(dataSource, dataSource.unwrap(PooledDataSource.class));
+        assertTrue(dataSource.isWrapperFor(PooledDataSource.class));
+    }
+}
@@ -101,4 +101,24 @@ public class SelectOptionsTest extends TestCase {
             assertEquals("limit < 0", expected.getDescription());
         }
     }
+
+    public void testAfterParameter1() throws Exception {
+        Object[] keys = null;
+        try {
+            SelectOptions.get().after(keys);
+            fail();
+        } catch (DomaNullPointerException expected) {
+            assertEquals("keys", expected.getParameterName());
+        }
+    }
+
+    public void testAfterParameter2() throws Exception {
+        try {
+            SelectOptions.get().after(1, null);
+            fail();
+        } catch (DomaIllegalArgumentException expected) {
+            assertEquals("keys", expected.getParameterName());
+            assertEquals("keys contains null", expected.getDescription());
+        }
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.DomaIllegalArgumentException;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class SelectPublisherTest extends TestCase {
+
+    private final ExecutorService executor = Executors
+            .newSingleThreadExecutor();
+
+    private final List<Integer> fetched = new CopyOnWriteArrayList<>();
+
+    private final CountDownLatch closed = new CountDownLatch(1);
+
+    private final Consumer<Function<Stream<Integer>, Void>> query = mapper -> {
+        try {
+            mapper.apply(IntStream.rangeClosed(1, 5).boxed()
+                    .peek(fetched::add));
+        } finally {
+            closed.countDown();
+        }
+    };
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testRequest() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        new SelectPublisher<>(executor, query).subscribe(subscriber);
+        subscriber.subscription.request(2);
+        subscriber.awaitItems(2);
+        Thread.sleep(50);
+        assertEquals(2, subscriber.items.size());
+        assertTrue(fetched.size() <= 3);
+        assertEquals(1, closed.getCount());
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertEquals("[1, 2, 3, 4, 5]", subscriber.items.toString());
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.error);
+        assertEquals(0, closed.getCount());
+    }
+
+    public void testCancel() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        new SelectPublisher<>(executor, query).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        subscriber.awaitItems(1);
+        subscriber.subscription.cancel();
+        assertTrue(closed.await(10, TimeUnit.SECONDS));
+        assertEquals("[1]", subscriber.items.toString());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    public void testIllegalRequest() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                super.onSubscribe(subscription);
+                subscription.request(0);
+            }
+        };
+        new SelectPublisher<>(executor, query).subscribe(subscriber);
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(subscriber.error instanceof DomaIllegalArgumentException);
+        assertEquals(1, closed.getCount());
+    }
+
+    public void testError() throws Exception {
+        TestSubscriber subscriber = new TestSubscriber();
+        new SelectPublisher<Integer>(executor, mapper -> {
+            throw new IllegalStateException();
+        }).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.terminated.await(10, TimeUnit.SECONDS));
+        assertTrue(subscriber.error instanceof IllegalStateException);
+        assertFalse(subscriber.completed);
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<Integer> {
+
+        private final List<Integer> items = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile boolean completed;
+
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(Integer item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+
+        private void awaitItems(int size) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 10000;
+            while (items.size() < size
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+    }
+}
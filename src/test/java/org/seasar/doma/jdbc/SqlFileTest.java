@@ -0,0 +1,148 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.dialect.Db2PagingTransformer;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.sql.PreparedSql;
+import org.seasar.doma.internal.jdbc.sql.SqlParser;
+import org.seasar.doma.internal.jdbc.sql.node.AnonymousNode;
+import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
+import org.seasar.doma.jdbc.dialect.PostgresDialect;
+import org.seasar.doma.jdbc.dialect.StandardDialect;
+import org.seasar.doma.jdbc.query.SqlFileSelectQuery;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class SqlFileTest extends TestCase {
+
+    public void testGetTransformedSqlNode() throws Exception {
+        String sql = "select * from emp order by id";
+        SqlFile sqlFile = new SqlFile("dummyPath", sql,
+                new SqlParser(sql).parse());
+        AtomicInteger count = new AtomicInteger();
+        SqlNode node1 = sqlFile.getTransformedSqlNode("key", n -> {
+            count.incrementAndGet();
+            return new AnonymousNode();
+        });
+        SqlNode node2 = sqlFile.getTransformedSqlNode("key", n -> {
+            count.incrementAndGet();
+            return new AnonymousNode();
+        });
+        SqlNode node3 = sqlFile.getTransformedSqlNode("key2", n -> {
+            count.incrementAndGet();
+            return new AnonymousNode();
+        });
+        assertSame(node1, node2);
+        assertNotSame(node1, node3);
+        assertEquals(2, count.get());
+    }
+
+    public void testGetTransformedSqlNode_exceedMaxSize() throws Exception {
+        String sql = "select * from emp order by id";
+        SqlFile sqlFile = new SqlFile("dummyPath", sql,
+                new SqlParser(sql).parse());
+        for (int i = 0; i < SqlFile.MAX_TRANSFORMED_SQL_NODE_SIZE; i++) {
+            sqlFile.getTransformedSqlNode(i, n -> new AnonymousNode());
+        }
+        SqlNode first = sqlFile.getTransformedSqlNode(0,
+                n -> new AnonymousNode());
+        SqlNode node1 = sqlFile.getTransformedSqlNode("key",
+                n -> new AnonymousNode());
+        SqlNode node2 = sqlFile.getTransformedSqlNode("key",
+                n -> new AnonymousNode());
+        assertSame(node1, node2);
+        assertSame(first,
+                sqlFile.getTransformedSqlNode(0, n -> new AnonymousNode()));
+        AtomicInteger count = new AtomicInteger();
+        sqlFile.getTransformedSqlNode(1, n -> {
+            count.incrementAndGet();
+            return new AnonymousNode();
+        });
+        assertEquals(1, count.get());
+    }
+
+    public void testGetTransformedSqlNode_paging() throws Exception {
+        MockConfig config = new MockConfig();
+        config.setDialect(new PostgresDialect());
+        PreparedSql sql1 = prepare(config, SelectOptions.get().offset(10)
+                .limit(5));
+        PreparedSql sql2 = prepare(config, SelectOptions.get().offset(20)
+                .limit(5));
+        assertEquals(
+                "select * from emp where salary >= ? order by id limit ? offset ?",
+                sql1.getRawSql());
+        assertEquals(sql1.getRawSql(), sql2.getRawSql());
+        assertEquals(
+                "select * from emp where salary >= 5000 order by id limit 5 offset 20",
+                sql2.getFormattedSql());
+        SqlFile sqlFile = config.getSqlFileRepository().getSqlFile(
+                getClass().getMethod(getName()), getSqlFilePath(),
+                config.getDialect());
+        assertEquals(1, sqlFile.transformedSqlNodeMap.size());
+    }
+
+    public void testGetTransformedSqlNode_pagingLiteral() throws Exception {
+        MockConfig config = new MockConfig();
+        config.setDialect(new StandardDialect() {
+
+            @Override
+            protected SqlNode toPagingSqlNode(SqlNode sqlNode, long offset,
+                    long limit) {
+                return new Db2PagingTransformer(offset, limit)
+                        .transform(sqlNode);
+            }
+        });
+        PreparedSql sql1 = prepare(config, SelectOptions.get().limit(5));
+        PreparedSql sql2 = prepare(config, SelectOptions.get().limit(10));
+        assertEquals(
+                "select * from emp where salary >= ? order by id fetch first 5 rows only",
+                sql1.getRawSql());
+        assertEquals(
+                "select * from emp where salary >= ? order by id fetch first 10 rows only",
+                sql2.getRawSql());
+        SqlFile sqlFile = config.getSqlFileRepository().getSqlFile(
+                getClass().getMethod(getName()), getSqlFilePath(),
+                config.getDialect());
+        assertEquals(2, sqlFile.transformedSqlNodeMap.size());
+    }
+
+    private PreparedSql prepare(Config config, SelectOptions options)
+            throws Exception {
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(config);
+        query.setSqlFilePath(getSqlFilePath());
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setOptions(options);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        return query.getSql();
+    }
+
+    private String getSqlFilePath() {
+        return SqlFileUtil.buildPath(getClass().getName(), getName());
+    }
+}
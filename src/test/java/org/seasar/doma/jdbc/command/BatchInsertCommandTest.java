@@ -16,11 +16,14 @@
 package org.seasar.doma.jdbc.command;
 
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 import junit.framework.TestCase;
 
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.MysqlDialect;
 import org.seasar.doma.jdbc.query.AutoBatchInsertQuery;
 
 import example.entity.Emp;
@@ -64,4 +67,73 @@ public class BatchInsertCommandTest extends TestCase {
                 sql);
     }
 
+    public void testExecute_stream() throws Exception {
+        Emp emp1 = new Emp();
+        emp1.setId(1);
+        emp1.setName("hoge");
+
+        Emp emp2 = new Emp();
+        emp2.setId(2);
+        emp2.setName("foo");
+
+        Emp emp3 = new Emp();
+        emp3.setId(3);
+        emp3.setName("bar");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setEntities(Stream.of(emp1, emp2, emp3));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setBatchSize(2);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        assertEquals(2, query.getSqls().size());
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertEquals(3, rows.length);
+        assertEquals(1, query.getSqls().size());
+        assertEquals(Integer.valueOf(1), emp3.getVersion());
+    }
+
+    public void testExecute_multiRow() throws Exception {
+        runtimeConfig.setDialect(new MysqlDialect());
+        runtimeConfig.dataSource.connection.preparedStatement.updatedRows = 3;
+
+        Emp emp1 = new Emp();
+        emp1.setId(1);
+        emp1.setName("hoge");
+
+        Emp emp2 = new Emp();
+        emp2.setId(2);
+        emp2.setName("foo");
+
+        Emp emp3 = new Emp();
+        emp3.setId(3);
+        emp3.setName("bar");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setEntities(Arrays.asList(emp1, emp2, emp3));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setBatchSize(10);
+        query.setMultiRowEnabled(true);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        int[] rows = new BatchInsertCommand(query).execute();
+        query.complete();
+
+        assertTrue(Arrays.equals(new int[] { 1, 1, 1 }, rows));
+        MockPreparedStatement ps = runtimeConfig.dataSource.connection.preparedStatement;
+        assertEquals("insert into EMP (ID, NAME, SALARY, VERSION) "
+                + "values (?, ?, ?, ?), (?, ?, ?, ?), (?, ?, ?, ?)", ps.sql);
+        assertEquals(12, ps.bindValues.size());
+        assertEquals(0, ps.addBatchCount);
+    }
 }
@@ -15,11 +15,18 @@
  */
 package org.seasar.doma.jdbc.command;
 
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import junit.framework.TestCase;
 
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockPreparedStatement;
 import org.seasar.doma.jdbc.OptimisticLockException;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.query.AutoBatchUpdateQuery;
@@ -67,6 +74,62 @@ public class BatchUpdateCommandTest extends TestCase {
         assertEquals(new Integer(21), emp2.getVersion());
     }
 
+    public void testExecute_excludeUnchanged() throws Exception {
+        Emp emp1 = new Emp();
+        emp1.setId(1);
+        emp1.setName("hoge");
+        emp1.setVersion(10);
+        emp1.originalStates = new Emp();
+
+        Emp emp2 = new Emp();
+        emp2.setId(2);
+        emp2.setSalary(new BigDecimal(1000));
+        emp2.setVersion(20);
+        emp2.originalStates = new Emp();
+
+        Emp emp3 = new Emp();
+        emp3.setId(3);
+        emp3.setName("foo");
+        emp3.setVersion(30);
+        emp3.originalStates = new Emp();
+
+        List<String> preparedSqls = new ArrayList<>();
+        runtimeConfig.dataSource.connection = new MockConnection() {
+
+            @Override
+            public PreparedStatement prepareStatement(String sql)
+                    throws SQLException {
+                preparedSqls.add(sql);
+                MockPreparedStatement preparedStatement = new MockPreparedStatement();
+                preparedStatement.sql = sql;
+                return preparedStatement;
+            }
+        };
+
+        AutoBatchUpdateQuery<Emp> query = new AutoBatchUpdateQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setEntities(Arrays.asList(emp1, emp2, emp3));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.setUnchangedPropertyExcluded(true);
+        query.prepare();
+        int[] rows = new BatchUpdateCommand(query).execute();
+        query.complete();
+
+        assertTrue(Arrays.equals(new int[] { 1, 1, 1 }, rows));
+        assertEquals(
+                Arrays.asList(
+                        "update EMP set NAME = ?, VERSION = ? + 1 where ID = ? and VERSION = ?",
+                        "update EMP set SALARY = ?, VERSION = ? + 1 where ID = ? and VERSION = ?"),
+                preparedSqls);
+        assertEquals(new Integer(11), emp1.getVersion());
+        assertEquals(new Integer(21), emp2.getVersion());
+        assertEquals(new Integer(31), emp3.getVersion());
+    }
+
     public void testExecute_throwsOptimisticLockException() throws Exception {
         Emp emp = new Emp();
         emp.setId(1);
@@ -22,6 +22,7 @@ import junit.framework.TestCase;
 
 import org.seasar.doma.internal.jdbc.mock.BindValue;
 import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.jdbc.InMemoryQueryMetrics;
 import org.seasar.doma.jdbc.SqlLogType;
 import org.seasar.doma.jdbc.query.AutoInsertQuery;
 
@@ -100,4 +101,34 @@ public class InsertCommandTest extends TestCase {
         assertEquals(new BigDecimal(1000), bindValues.get(2).getValue());
         assertEquals(new Integer(1), bindValues.get(3).getValue());
     }
+
+    public void testExecute_queryMetrics() throws Exception {
+        Emp emp = new Emp();
+        emp.setId(1);
+        emp.setName("hoge");
+        emp.setSalary(new BigDecimal(1000));
+        emp.setVersion(10);
+        InMemoryQueryMetrics metrics = new InMemoryQueryMetrics();
+        runtimeConfig.setQueryMetrics(metrics);
+
+        AutoInsertQuery<Emp> query = new AutoInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setEntity(emp);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+        int rows = new InsertCommand(query).execute();
+        query.complete();
+
+        assertEquals(1, rows);
+        InMemoryQueryMetrics.MethodSnapshot snapshot = metrics.snapshot()
+                .get(0);
+        assertEquals(1, snapshot.getExecute().getCount());
+        assertEquals(0, snapshot.getFetch().getCount());
+        assertEquals(1, snapshot.getRows().getSum());
+        assertNull(snapshot.getSqlFilePath());
+    }
 }
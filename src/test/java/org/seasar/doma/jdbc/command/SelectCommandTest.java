@@ -31,7 +31,10 @@ import org.seasar.doma.internal.jdbc.mock.MockResultSet;
 import org.seasar.doma.internal.jdbc.mock.MockResultSetMetaData;
 import org.seasar.doma.internal.jdbc.mock.RowData;
 import org.seasar.doma.internal.jdbc.util.SqlFileUtil;
+import org.seasar.doma.jdbc.InMemoryQueryMetrics;
+import org.seasar.doma.jdbc.SelectOptions;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.PostgresDialect;
 import org.seasar.doma.jdbc.query.SqlFileSelectQuery;
 
 import example.entity.Emp;
@@ -174,4 +177,214 @@ public class SelectCommandTest extends TestCase {
         }
     }
 
+
+    public void testExecute_queryMetrics() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "hoge", new BigDecimal(10000), 100));
+        resultSet.rows.add(new RowData(2, "foo", new BigDecimal(20000), 200));
+        runtimeConfig.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+        InMemoryQueryMetrics metrics = new InMemoryQueryMetrics();
+        runtimeConfig.setQueryMetrics(metrics);
+
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(runtimeConfig);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        List<Emp> entities = command.execute();
+        query.complete();
+
+        assertEquals(2, entities.size());
+        List<InMemoryQueryMetrics.MethodSnapshot> snapshots = metrics
+                .snapshot();
+        assertEquals(1, snapshots.size());
+        InMemoryQueryMetrics.MethodSnapshot snapshot = snapshots.get(0);
+        assertEquals("aaa", snapshot.getClassName());
+        assertEquals("bbb", snapshot.getMethodName());
+        assertEquals(SqlFileUtil.buildPath(getClass().getName(), getName()),
+                snapshot.getSqlFilePath());
+        assertEquals(1, snapshot.getExecute().getCount());
+        assertEquals(1, snapshot.getFetch().getCount());
+        assertEquals(2, snapshot.getRows().getSum());
+    }
+
+    public void testExecute_keyset() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(3, "hoge", new BigDecimal(10000), 100));
+        resultSet.rows.add(new RowData(4, "foo", new BigDecimal(20000), 200));
+        runtimeConfig.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+
+        SelectOptions options = SelectOptions.get().after(
+                new BigDecimal(10000), 2);
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(runtimeConfig);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setOptions(options);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        assertEquals(
+                "select * from emp where ( salary >= ? ) and (salary >= ? and (salary > ? or salary = ? and id > ?)) order by salary, id",
+                query.getSql().getRawSql());
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        List<Emp> entities = command.execute();
+        query.complete();
+
+        assertEquals(2, entities.size());
+        Object[] lastKeys = options.getLastKeys();
+        assertEquals(2, lastKeys.length);
+        assertEquals(new BigDecimal(20000), lastKeys[0]);
+        assertEquals(4, lastKeys[1]);
+
+        List<BindValue> bindValues = runtimeConfig.dataSource.connection.preparedStatement.bindValues;
+        assertEquals(5, bindValues.size());
+        assertEquals(new BigDecimal(5000), bindValues.get(0).getValue());
+        assertEquals(new BigDecimal(10000), bindValues.get(1).getValue());
+        assertEquals(2, bindValues.get(4).getValue());
+    }
+
+    public void testExecute_keysetFirstPage() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "hoge", new BigDecimal(10000), 100));
+        runtimeConfig.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+
+        SelectOptions options = SelectOptions.get().after();
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(runtimeConfig);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                "testExecute_keyset"));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setOptions(options);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        assertEquals(
+                "select * from emp where salary >= ? order by salary, id",
+                query.getSql().getRawSql());
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        command.execute();
+        query.complete();
+
+        Object[] lastKeys = options.getLastKeys();
+        assertEquals(new BigDecimal(10000), lastKeys[0]);
+        assertEquals(1, lastKeys[1]);
+    }
+
+    public void testExecute_countCalculatedInSelect() throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("name"));
+        metaData.columns.add(new ColumnMetaData("salary"));
+        metaData.columns.add(new ColumnMetaData("version"));
+        metaData.columns.add(new ColumnMetaData("doma_count_"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        resultSet.rows.add(new RowData(1, "hoge", new BigDecimal(10000), 100,
+                25L));
+        resultSet.rows.add(new RowData(2, "foo", new BigDecimal(20000), 200,
+                25L));
+        runtimeConfig.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+        runtimeConfig.setDialect(new PostgresDialect());
+
+        SelectOptions options = SelectOptions.get().limit(2).count();
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(runtimeConfig);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                getName()));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setOptions(options);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        assertEquals(
+                "select temp_.*, count(*) over() as doma_count_ from ( select * from emp where salary >= ? ) temp_ order by id limit ?",
+                query.getSql().getRawSql());
+        assertEquals(
+                "select temp_.*, count(*) over() as doma_count_ from ( select * from emp where salary >= 5000 ) temp_ order by id limit 2",
+                query.getSql().getFormattedSql());
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        List<Emp> entities = command.execute();
+        query.complete();
+
+        assertEquals(2, entities.size());
+        assertEquals(25L, options.getCount());
+        assertEquals(2,
+                runtimeConfig.dataSource.connection.preparedStatement.bindValues
+                        .size());
+    }
+
+    public void testExecute_countCalculatedInSelect_noResult()
+            throws Exception {
+        MockResultSetMetaData metaData = new MockResultSetMetaData();
+        metaData.columns.add(new ColumnMetaData("id"));
+        metaData.columns.add(new ColumnMetaData("doma_count_"));
+        MockResultSet resultSet = new MockResultSet(metaData);
+        runtimeConfig.dataSource.connection = new MockConnection(
+                new MockPreparedStatement(resultSet));
+        runtimeConfig.setDialect(new PostgresDialect());
+
+        SelectOptions options = SelectOptions.get().limit(2).count();
+        SqlFileSelectQuery query = new SqlFileSelectQuery();
+        query.setConfig(runtimeConfig);
+        query.setSqlFilePath(SqlFileUtil.buildPath(getClass().getName(),
+                "testExecute_countCalculatedInSelect"));
+        query.addParameter("salary", BigDecimal.class, new BigDecimal(5000));
+        query.setOptions(options);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setMethod(getClass().getMethod(getName()));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        SelectCommand<List<Emp>> command = new SelectCommand<List<Emp>>(query,
+                new EntityResultListHandler<Emp>(_Emp.getSingletonInternal()));
+        List<Emp> entities = command.execute();
+        query.complete();
+
+        assertTrue(entities.isEmpty());
+        assertEquals(0L, options.getCount());
+    }
 }
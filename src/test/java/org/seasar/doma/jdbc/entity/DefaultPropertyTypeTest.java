@@ -15,8 +15,11 @@
  */
 package org.seasar.doma.jdbc.entity;
 
+import java.util.Arrays;
+
 import junit.framework.TestCase;
 
+import org.seasar.doma.wrapper.BytesWrapper;
 import org.seasar.doma.wrapper.StringWrapper;
 
 /**
@@ -25,9 +28,10 @@ import org.seasar.doma.wrapper.StringWrapper;
  */
 public class DefaultPropertyTypeTest extends TestCase {
 
-    @SuppressWarnings("unused")
     private String hoge;
 
+    private byte[] bytes;
+
     public void testIsQuoteRequired_true() throws Exception {
         boolean isQuoteRequired = true;
         DefaultPropertyType<Object, DefaultPropertyTypeTest, String, Object> propertyType = new DefaultPropertyType<>(
@@ -48,4 +52,77 @@ public class DefaultPropertyTypeTest extends TestCase {
         assertEquals("hoge", propertyType.getColumnName(s -> "[" + s + "]"));
     }
 
+    public void testAccessors() throws Exception {
+        DefaultPropertyType<Object, DefaultPropertyTypeTest, String, Object> propertyType = new DefaultPropertyType<>(
+                DefaultPropertyTypeTest.class, String.class, String.class,
+                () -> new StringWrapper(), null, null, "hoge", "hoge", true,
+                true, false, e -> e.hoge, (e, v) -> e.hoge = (String) v);
+        DefaultPropertyTypeTest entity = new DefaultPropertyTypeTest();
+        entity.hoge = "aaa";
+        Property<DefaultPropertyTypeTest, String> property = propertyType
+                .createProperty();
+        property.load(entity);
+        assertEquals("aaa", property.get());
+        property.getWrapper().set("bbb");
+        property.save(entity);
+        assertEquals("bbb", entity.hoge);
+    }
+
+    public void testCopy_immutable() throws Exception {
+        DefaultPropertyType<Object, DefaultPropertyTypeTest, String, Object> propertyType = new DefaultPropertyType<>(
+                DefaultPropertyTypeTest.class, String.class, String.class,
+                () -> new StringWrapper(), null, null, "hoge", "hoge", true,
+                true, false);
+        DefaultPropertyTypeTest src = new DefaultPropertyTypeTest();
+        src.hoge = "aaa";
+        DefaultPropertyTypeTest dest = new DefaultPropertyTypeTest();
+        propertyType.copy(dest, src);
+        assertSame(src.hoge, dest.hoge);
+    }
+
+    public void testCopy_mutable() throws Exception {
+        DefaultPropertyType<Object, DefaultPropertyTypeTest, byte[], Object> propertyType = new DefaultPropertyType<>(
+                DefaultPropertyTypeTest.class, byte[].class, byte[].class,
+                () -> new BytesWrapper(), null, null, "bytes", "bytes", true,
+                true, false);
+        DefaultPropertyTypeTest src = new DefaultPropertyTypeTest();
+        src.bytes = new byte[] { 1, 2 };
+        DefaultPropertyTypeTest dest = new DefaultPropertyTypeTest();
+        propertyType.copy(dest, src);
+        assertNotSame(src.bytes, dest.bytes);
+        assertTrue(Arrays.equals(src.bytes, dest.bytes));
+    }
+
+    public void testIsChanged() throws Exception {
+        DefaultPropertyType<Object, DefaultPropertyTypeTest, String, Object> propertyType = new DefaultPropertyType<>(
+                DefaultPropertyTypeTest.class, String.class, String.class,
+                () -> new StringWrapper(), null, null, "hoge", "hoge", true,
+                true, false, e -> e.hoge, (e, v) -> e.hoge = (String) v);
+        DefaultPropertyTypeTest entity = new DefaultPropertyTypeTest();
+        entity.hoge = "aaa";
+        DefaultPropertyTypeTest originalStates = new DefaultPropertyTypeTest();
+        propertyType.copy(originalStates, entity);
+        assertFalse(propertyType.isChanged(entity, originalStates));
+        entity.hoge = new String("aaa");
+        assertFalse(propertyType.isChanged(entity, originalStates));
+        entity.hoge = "bbb";
+        assertTrue(propertyType.isChanged(entity, originalStates));
+        entity.hoge = null;
+        assertTrue(propertyType.isChanged(entity, originalStates));
+    }
+
+    public void testIsChanged_mutable() throws Exception {
+        DefaultPropertyType<Object, DefaultPropertyTypeTest, byte[], Object> propertyType = new DefaultPropertyType<>(
+                DefaultPropertyTypeTest.class, byte[].class, byte[].class,
+                () -> new BytesWrapper(), null, null, "bytes", "bytes", true,
+                true, false);
+        DefaultPropertyTypeTest entity = new DefaultPropertyTypeTest();
+        entity.bytes = new byte[] { 1, 2 };
+        DefaultPropertyTypeTest originalStates = new DefaultPropertyTypeTest();
+        propertyType.copy(originalStates, entity);
+        assertFalse(propertyType.isChanged(entity, originalStates));
+        entity.bytes[0] = 9;
+        assertTrue(propertyType.isChanged(entity, originalStates));
+    }
+
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.id;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.GenerationType;
+import org.seasar.doma.internal.jdbc.mock.MockConfig;
+import org.seasar.doma.jdbc.id.AbstractPreGenerateIdGenerator.IdContext;
+
+import example.entity._Emp;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class AbstractPreGenerateIdGeneratorTest extends TestCase {
+
+    private final IdGenerationConfig config = new IdGenerationConfig(
+            new MockConfig(), _Emp.getSingletonInternal(), "EMP", "ID");
+
+    public void testGenerate() throws Exception {
+        MyIdGenerator generator = new MyIdGenerator();
+        generator.setAllocationSize(10);
+        generator.setLowWaterMark(0);
+        for (long i = 1; i <= 25; i++) {
+            assertEquals(Long.valueOf(i), generator.generatePreInsert(config));
+        }
+        IdContext context = generator.getIdContextMap().get(
+                config.getDataSourceName());
+        assertEquals(3, context.getRefillCount());
+        assertEquals(3, context.getStallCount());
+    }
+
+    public void testGenerate_prefetch() throws Exception {
+        MyIdGenerator generator = new MyIdGenerator();
+        generator.setAllocationSize(10);
+        generator.setLowWaterMark(3);
+        for (long i = 1; i <= 7; i++) {
+            assertEquals(Long.valueOf(i), generator.generatePreInsert(config));
+        }
+        IdContext context = generator.getIdContextMap().get(
+                config.getDataSourceName());
+        assertEquals(2, context.getRefillCount());
+        for (long i = 8; i <= 25; i++) {
+            assertEquals(Long.valueOf(i), generator.generatePreInsert(config));
+        }
+        assertEquals(3, context.getRefillCount());
+        assertEquals(1, context.getStallCount());
+    }
+
+    public void testGenerate_concurrent() throws Exception {
+        MyIdGenerator generator = new MyIdGenerator();
+        generator.setAllocationSize(50);
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    for (int j = 0; j < 1000; j++) {
+                        values.add(generator.generatePreInsert(config));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(8000, values.size());
+    }
+
+    private static class MyIdGenerator extends AbstractPreGenerateIdGenerator {
+
+        private final AtomicLong next = new AtomicLong(1);
+
+        @Override
+        protected long getNewInitialValue(IdGenerationConfig config) {
+            return next.getAndAdd(allocationSize);
+        }
+
+        @Override
+        public GenerationType getGenerationType() {
+            return GenerationType.TABLE;
+        }
+    }
+}
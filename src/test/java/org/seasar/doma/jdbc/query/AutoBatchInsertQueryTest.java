@@ -25,6 +25,7 @@ import org.seasar.doma.internal.jdbc.mock.MockConfig;
 import org.seasar.doma.internal.jdbc.sql.InParameter;
 import org.seasar.doma.internal.jdbc.sql.PreparedSql;
 import org.seasar.doma.jdbc.SqlLogType;
+import org.seasar.doma.jdbc.dialect.StandardDialect;
 
 import example.entity.Emp;
 import example.entity._Emp;
@@ -103,4 +104,107 @@ public class AutoBatchInsertQueryTest extends TestCase {
         assertEquals(new BigDecimal(2000), parameters.get(2).getWrapper().get());
         assertEquals(new Integer(10), parameters.get(3).getWrapper().get());
     }
+
+    public void testSqlTemplate() throws Exception {
+        Emp emp1 = new Emp();
+        emp1.setId(10);
+        emp1.setName("aaa");
+
+        Emp emp2 = new Emp();
+        emp2.setId(20);
+        emp2.setName("bbb");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setEntities(Arrays.asList(emp1, emp2));
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        PreparedSql sql1 = query.getSqls().get(0);
+        PreparedSql sql2 = query.getSqls().get(1);
+        assertSame(sql1.getRawSql(), sql2.getRawSql());
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (10, 'aaa', null, 1)",
+                sql1.getFormattedSql());
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (20, 'bbb', null, 1)",
+                sql2.getFormattedSql());
+    }
+
+    public void testMultiRowSql() throws Exception {
+        runtimeConfig.setDialect(new StandardDialect() {
+
+            @Override
+            public boolean supportsMultiRowInsertStatement() {
+                return true;
+            }
+
+            @Override
+            public int getMaxBindParameterCount() {
+                return 8;
+            }
+        });
+
+        Emp emp1 = new Emp();
+        emp1.setId(10);
+        emp1.setName("aaa");
+
+        Emp emp2 = new Emp();
+        emp2.setId(20);
+        emp2.setName("bbb");
+
+        Emp emp3 = new Emp();
+        emp3.setId(30);
+        emp3.setName("ccc");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setEntities(Arrays.asList(emp1, emp2, emp3));
+        query.setBatchSize(10);
+        query.setMultiRowEnabled(true);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        assertTrue(query.isMultiRowSupported());
+        assertEquals(2, query.getMultiRowSize());
+        PreparedSql sql = query.createMultiRowSql(0, 2);
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (?, ?, ?, ?), (?, ?, ?, ?)",
+                sql.getRawSql());
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (10, 'aaa', null, 1), (20, 'bbb', null, 1)",
+                sql.getFormattedSql());
+        assertEquals(8, sql.getParameters().size());
+        sql = query.createMultiRowSql(2, 3);
+        assertEquals(
+                "insert into EMP (ID, NAME, SALARY, VERSION) values (30, 'ccc', null, 1)",
+                sql.getFormattedSql());
+    }
+
+    public void testMultiRowSql_unsupportedDialect() throws Exception {
+        Emp emp = new Emp();
+        emp.setId(10);
+        emp.setName("aaa");
+
+        AutoBatchInsertQuery<Emp> query = new AutoBatchInsertQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setEntities(Arrays.asList(emp));
+        query.setMultiRowEnabled(true);
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.prepare();
+
+        assertFalse(query.isMultiRowSupported());
+    }
 }
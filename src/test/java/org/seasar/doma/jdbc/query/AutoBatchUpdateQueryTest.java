@@ -109,6 +109,64 @@ public class AutoBatchUpdateQueryTest extends TestCase {
         assertEquals(new Integer(200), parameters.get(4).getWrapper().get());
     }
 
+    public void testOption_excludeUnchanged() throws Exception {
+        Emp emp1 = new Emp();
+        emp1.setId(10);
+        emp1.setName("aaa");
+        emp1.setVersion(100);
+        emp1.originalStates = new Emp();
+        emp1.originalStates.setName("zzz");
+
+        Emp emp2 = new Emp();
+        emp2.setId(20);
+        emp2.setName("bbb");
+        emp2.setSalary(new BigDecimal(2000));
+        emp2.setVersion(200);
+        emp2.originalStates = new Emp();
+        emp2.originalStates.setName("bbb");
+
+        Emp emp3 = new Emp();
+        emp3.setId(30);
+        emp3.setVersion(300);
+
+        AutoBatchUpdateQuery<Emp> query = new AutoBatchUpdateQuery<Emp>(
+                _Emp.getSingletonInternal());
+        query.setMethod(getClass().getDeclaredMethod(getName()));
+        query.setConfig(runtimeConfig);
+        query.setEntities(Arrays.asList(emp1, emp2, emp3));
+        query.setCallerClassName("aaa");
+        query.setCallerMethodName("bbb");
+        query.setSqlLogType(SqlLogType.FORMATTED);
+        query.setUnchangedPropertyExcluded(true);
+        query.prepare();
+
+        assertTrue(query.isUnchangedPropertyExcluded());
+        PreparedSql sql = query.getSqls().get(0);
+        assertEquals(
+                "update EMP set NAME = ?, VERSION = ? + 1 where ID = ? and VERSION = ?",
+                sql.getRawSql());
+        List<InParameter<?>> parameters = sql.getParameters();
+        assertEquals(4, parameters.size());
+        assertEquals("aaa", parameters.get(0).getWrapper().get());
+        assertEquals(new Integer(100), parameters.get(1).getWrapper().get());
+        assertEquals(new Integer(10), parameters.get(2).getWrapper().get());
+        assertEquals(new Integer(100), parameters.get(3).getWrapper().get());
+
+        sql = query.getSqls().get(1);
+        assertEquals(
+                "update EMP set SALARY = ?, VERSION = ? + 1 where ID = ? and VERSION = ?",
+                sql.getRawSql());
+        parameters = sql.getParameters();
+        assertEquals(4, parameters.size());
+        assertEquals(new BigDecimal(2000), parameters.get(0).getWrapper().get());
+        assertEquals(new Integer(200), parameters.get(1).getWrapper().get());
+
+        sql = query.getSqls().get(2);
+        assertEquals(
+                "update EMP set NAME = ?, SALARY = ?, VERSION = ? + 1 where ID = ? and VERSION = ?",
+                sql.getRawSql());
+    }
+
     public void testOption_ignoreVersion() throws Exception {
         Emp emp1 = new Emp();
         emp1.setId(10);
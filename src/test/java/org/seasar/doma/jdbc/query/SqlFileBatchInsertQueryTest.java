@@ -63,6 +63,10 @@ public class SqlFileBatchInsertQueryTest extends TestCase {
 
         BatchInsertQuery batchInsertQuery = query;
         assertEquals(2, batchInsertQuery.getSqls().size());
+        assertFalse(batchInsertQuery.isMultiRowSupported());
+        assertEquals(1, batchInsertQuery.getMultiRowSize());
+        assertSame(batchInsertQuery.getSqls().get(1),
+                batchInsertQuery.createMultiRowSql(1, 2));
     }
 
     public void testOption_default() throws Exception {
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockDataSource;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class ExplicitTransactionContextHolderTest extends TestCase {
+
+    private final MockConnection connection = new MockConnection();
+
+    private final LocalTransactionDataSource dataSource = new LocalTransactionDataSource(
+            new MockDataSource(connection),
+            new ExplicitTransactionContextHolder());
+
+    private final LocalTransaction transaction = dataSource
+            .getLocalTransaction(new UtilLoggingJdbcLogger());
+
+    public void testAcrossThreads() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            transaction.begin();
+            Connection expected = dataSource.getConnection();
+            Connection actual = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return dataSource.getConnection();
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+            }, executor).get();
+            assertSame(expected, actual);
+            CompletableFuture.runAsync(transaction::commit, executor).get();
+            assertFalse(transaction.isActive());
+            assertTrue(connection.committed);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
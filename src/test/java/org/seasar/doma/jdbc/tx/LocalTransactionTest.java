@@ -15,11 +15,14 @@
  */
 package org.seasar.doma.jdbc.tx;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 
 import junit.framework.TestCase;
 
 import org.seasar.doma.DomaNullPointerException;
+import org.seasar.doma.internal.jdbc.util.PreparedStatementCache;
+import org.seasar.doma.internal.jdbc.util.PreparedStatementCacheHolder;
 import org.seasar.doma.internal.jdbc.mock.MockConnection;
 import org.seasar.doma.internal.jdbc.mock.MockDataSource;
 import org.seasar.doma.jdbc.JdbcException;
@@ -71,6 +74,20 @@ public class LocalTransactionTest extends TestCase {
                 connection.isolationLevel);
     }
 
+    public void testStatementCache() throws Exception {
+        transaction.begin();
+        Connection connection = dataSource.getConnection();
+        PreparedStatementCache cache = ((PreparedStatementCacheHolder) connection)
+                .getPreparedStatementCache(10);
+        cache.prepareStatement("select 1", false).close();
+        cache.prepareStatement("select 1", false).close();
+        assertFalse(this.connection.preparedStatement.closed);
+        transaction.commit();
+        assertTrue(this.connection.preparedStatement.closed);
+        assertEquals(1, transaction.getStatementCacheHitCount());
+        assertEquals(1, transaction.getStatementCacheMissCount());
+    }
+
     public void testBegin_alreadyBegun() throws Exception {
         transaction.begin();
         try {
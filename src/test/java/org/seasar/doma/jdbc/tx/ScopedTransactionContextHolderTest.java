@@ -0,0 +1,86 @@
+/*
+ * Copyright 2004-2010 the Seasar Foundation and the Others.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND,
+ * either express or implied. See the License for the specific language
+ * governing permissions and limitations under the License.
+ */
+package org.seasar.doma.jdbc.tx;
+
+import java.sql.Connection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import junit.framework.TestCase;
+
+import org.seasar.doma.internal.jdbc.mock.MockConnection;
+import org.seasar.doma.internal.jdbc.mock.MockDataSource;
+import org.seasar.doma.jdbc.UtilLoggingJdbcLogger;
+
+/**
+ * @author nakamura-to
+ * 
+ */
+public class ScopedTransactionContextHolderTest extends TestCase {
+
+    private final MockConnection connection = new MockConnection();
+
+    private final ScopedTransactionContextHolder holder = new ScopedTransactionContextHolder();
+
+    private final LocalTransactionDataSource dataSource = new LocalTransactionDataSource(
+            new MockDataSource(connection), holder);
+
+    private final LocalTransaction transaction = dataSource
+            .getLocalTransaction(new UtilLoggingJdbcLogger());
+
+    public void testWrapExecutor() throws Exception {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            transaction.begin();
+            Connection expected = dataSource.getConnection();
+            Executor executor = holder.wrapExecutor(executorService);
+            Connection actual = CompletableFuture.supplyAsync(
+                    this::getConnection, executor).get();
+            assertSame(expected, actual);
+            Boolean active = CompletableFuture.supplyAsync(
+                    transaction::isActive, executorService).get();
+            assertFalse(active);
+            transaction.commit();
+            assertTrue(connection.committed);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    public void testWrapSupplier() throws Exception {
+        transaction.begin();
+        Connection expected = dataSource.getConnection();
+        Supplier<Connection> supplier = holder
+                .wrap(this::getConnection);
+        Connection[] actual = new Connection[1];
+        Thread thread = new Thread(() -> actual[0] = supplier.get());
+        thread.start();
+        thread.join();
+        assertSame(expected, actual[0]);
+        transaction.rollback();
+    }
+
+    private Connection getConnection() {
+        try {
+            return dataSource.getConnection();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1 @@
+update emp set name = /*emp.name*/'hoge' where id = /*emp.id*/1
@@ -0,0 +1 @@
+select image from emp
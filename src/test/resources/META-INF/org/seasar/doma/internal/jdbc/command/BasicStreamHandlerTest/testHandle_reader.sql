@@ -0,0 +1 @@
+select x from dual
\ No newline at end of file
@@ -0,0 +1 @@
+select * from emp where salary >= /*salary*/1000 order by id
\ No newline at end of file
@@ -0,0 +1 @@
+select * from emp where salary >= /*salary*/1000 order by salary, id
\ No newline at end of file